@@ -28,9 +28,15 @@ module org.pdfsam.basic {
     requires org.pdfsam.tools.splitbysize;
     requires org.pdfsam.tools.backpages;
     requires jakarta.inject;
+    requires jdk.httpserver;
     requires javafx.graphics;
     requires org.pdfsam.core;
+    requires org.pdfsam.i18n;
     requires org.pdfsam.injector;
+    requires org.pdfsam.service;
+    requires org.slf4j;
+
+    uses org.pdfsam.core.support.params.HeadlessTool;
 
     exports org.pdfsam.basic;
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.basic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.service.task.HeadlessJobQueue;
+import org.pdfsam.service.task.HeadlessTaskRunner;
+import org.pdfsam.service.task.HotFolderWatcher;
+import org.pdfsam.service.ui.DefaultWorkspaceService;
+import org.sejda.core.service.DefaultTaskExecutionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.substringAfter;
+import static org.apache.commons.lang3.StringUtils.substringBefore;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * PDFsam Basic headless entry point. It executes a tool without initializing JavaFX, building the task parameters from a
+ * saved workspace and/or from options given as {@code key=value} pairs, using the same keys the tool uses in the
+ * workspace. Options override the workspace values. With {@code --serve} the process stays alive accepting jobs from
+ * local processes through a {@link HeadlessJobServer}, this is disabled unless explicitly requested. With
+ * {@code --watch} the process stays alive processing every PDF document landing in the given folder with the tool, the
+ * selected documents of the tool data are replaced by the new document. The destination cannot be inside the watched
+ * folder, processed documents are moved to its {@code processed} subfolder and documents that couldn't be processed to
+ * its {@code failed} subfolder.
+ *
+ * <pre>
+ * --tool merge [--workspace /path/to/workspace.json] [key=value...]
+ * --tool rotate --watch /path/to/folder [--workspace /path/to/workspace.json] [--quiet 2] [--workers 2] [key=value...]
+ * --serve [--port 8989] [--workers 2]
+ * </pre>
+ *
+ * @author Andrea Vacondio
+ */
+public class HeadlessApp {
+    private static final Logger LOG = LoggerFactory.getLogger(HeadlessApp.class);
+
+    static final int SUCCESS = 0;
+    static final int FAILURE = 1;
+    static final int INVALID_ARGUMENTS = 2;
+    static final int KEEP_RUNNING = -1;
+    static final int DEFAULT_PORT = 8989;
+    static final int DEFAULT_WORKERS = 2;
+    static final int DEFAULT_QUIET_SECONDS = 2;
+    static final int QUEUED_JOBS_PER_WORKER = 50;
+
+    private final HeadlessTaskRunner runner;
+
+    HeadlessApp(HeadlessTaskRunner runner) {
+        this.runner = runner;
+    }
+
+    public static void main(String[] args) {
+        if (Arrays.stream(args).filter(Objects::nonNull).map(String::toLowerCase)
+                .anyMatch(s -> "--verbose".equals(s) || "-verbose".equals(s) || "-v".equals(s))) {
+            System.setProperty("tinylog.configuration", "tinylog-verbose.properties");
+        } else {
+            System.setProperty("tinylog.configuration", "tinylog-headless.properties");
+        }
+        var tools = ServiceLoader.load(HeadlessTool.class).stream().map(ServiceLoader.Provider::get).toList();
+        int exitCode = new HeadlessApp(new HeadlessTaskRunner(new DefaultTaskExecutionService(), tools)).run(args);
+        if (exitCode != KEEP_RUNNING) {
+            System.exit(exitCode);
+        }
+    }
+
+    int run(String... args) {
+        String toolId = null;
+        File workspace = null;
+        Map<String, String> options = new HashMap<>();
+        boolean serve = false;
+        int port = DEFAULT_PORT;
+        int workers = DEFAULT_WORKERS;
+        Path watch = null;
+        int quietSeconds = DEFAULT_QUIET_SECONDS;
+        for (int i = 0; i < args.length; i++) {
+            var current = args[i];
+            if ("--serve".equals(current)) {
+                serve = true;
+            } else if ("--port".equals(current) && i + 1 < args.length) {
+                port = NumberUtils.toInt(args[++i], -1);
+            } else if ("--workers".equals(current) && i + 1 < args.length) {
+                workers = NumberUtils.toInt(args[++i], -1);
+            } else if ("--watch".equals(current) && i + 1 < args.length) {
+                watch = Paths.get(args[++i]);
+            } else if ("--quiet".equals(current) && i + 1 < args.length) {
+                quietSeconds = NumberUtils.toInt(args[++i], -1);
+            } else if ("--tool".equals(current) && i + 1 < args.length) {
+                toolId = args[++i];
+            } else if ("--workspace".equals(current) && i + 1 < args.length) {
+                workspace = new File(args[++i]);
+            } else if (current.contains("=")) {
+                options.put(substringBefore(current, "="), substringAfter(current, "="));
+            } else if (!current.toLowerCase().matches("-{1,2}verbose|-v")) {
+                LOG.error(i18n().tr("Invalid argument: {0}", current));
+                return INVALID_ARGUMENTS;
+            }
+        }
+        if (serve) {
+            return serve(port, workers);
+        }
+        if (isBlank(toolId)) {
+            LOG.error(i18n().tr("A tool is required, available tools: {0}", String.join(", ", runner.toolIds())));
+            return INVALID_ARGUMENTS;
+        }
+        Map<String, String> data = new HashMap<>();
+        if (nonNull(workspace)) {
+            try {
+                ofNullable(new DefaultWorkspaceService(new ObjectMapper()).loadWorkspace(workspace).get(toolId)).ifPresent(
+                        data::putAll);
+            } catch (RuntimeException e) {
+                LOG.error(i18n().tr("Unable to load workspace from {0}", workspace.getAbsolutePath()), e);
+                return INVALID_ARGUMENTS;
+            }
+        }
+        data.putAll(options);
+        if (nonNull(watch)) {
+            return watch(toolId, data, watch, workers, quietSeconds);
+        }
+        var parameters = runner.parameters(toolId, data, LOG::error);
+        if (parameters.isEmpty()) {
+            return INVALID_ARGUMENTS;
+        }
+        var result = runner.run(parameters.get());
+        if (result.isSuccessful()) {
+            result.outputs().forEach(f -> LOG.info(i18n().tr("Generated {0}", f.getAbsolutePath())));
+            return SUCCESS;
+        }
+        LOG.error(i18n().tr("The task failed"), result.failure());
+        return FAILURE;
+    }
+
+    private int watch(String toolId, Map<String, String> data, Path folder, int workers, int quietSeconds) {
+        var tool = runner.tool(toolId);
+        if (tool.isEmpty()) {
+            LOG.error(i18n().tr("Unknown tool: {0}", toolId));
+            return INVALID_ARGUMENTS;
+        }
+        if (!Files.isDirectory(folder) || workers <= 0 || quietSeconds < 0) {
+            LOG.error(i18n().tr("An existing folder to watch, a valid quiet period and number of workers are required"));
+            return INVALID_ARGUMENTS;
+        }
+        if (!validWatchDestination(toolId, tool.get(), data, folder)) {
+            return INVALID_ARGUMENTS;
+        }
+        var queue = new HeadlessJobQueue(runner, workers, workers * QUEUED_JOBS_PER_WORKER);
+        var watcher = new HotFolderWatcher(queue, toolId, f -> tool.get().withInput(data, f), folder,
+                Duration.ofSeconds(quietSeconds));
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                watcher.close();
+                queue.close();
+            }));
+            watcher.start();
+            return KEEP_RUNNING;
+        } catch (IOException e) {
+            LOG.error(i18n().tr("Unable to watch {0}", folder.toString()), e);
+            watcher.close();
+            queue.close();
+            return FAILURE;
+        }
+    }
+
+    /**
+     * Builds the parameters for a probe document to verify the tool data is valid and the output is not written in the
+     * watched folder, where it would be processed again
+     */
+    private boolean validWatchDestination(String toolId, HeadlessTool tool, Map<String, String> data, Path folder) {
+        Path probe = null;
+        try {
+            probe = Files.createTempFile("pdfsam-probe", ".pdf");
+            var parameters = runner.parameters(toolId, tool.withInput(data, probe.toFile()), LOG::error);
+            if (parameters.isEmpty()) {
+                return false;
+            }
+            var destination = runner.outputFolder(parameters.get()).map(File::toPath).map(HeadlessApp::real);
+            if (destination.isPresent() && destination.get().startsWith(real(folder))) {
+                LOG.error(i18n().tr("The destination cannot be inside the watched folder"));
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            LOG.error(i18n().tr("Unable to verify the tool options"), e);
+            return false;
+        } finally {
+            if (nonNull(probe)) {
+                try {
+                    Files.deleteIfExists(probe);
+                } catch (IOException e) {
+                    LOG.warn(i18n().tr("Unable to delete {0}", probe.toString()), e);
+                }
+            }
+        }
+    }
+
+    private static Path real(Path path) {
+        try {
+            return path.toRealPath();
+        } catch (IOException e) {
+            return path.toAbsolutePath().normalize();
+        }
+    }
+
+    private int serve(int port, int workers) {
+        if (port < 0 || port > 65535 || workers <= 0) {
+            LOG.error(i18n().tr("Invalid port or number of workers"));
+            return INVALID_ARGUMENTS;
+        }
+        var queue = new HeadlessJobQueue(runner, workers, workers * QUEUED_JOBS_PER_WORKER);
+        try {
+            var server = new HeadlessJobServer(queue, port);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                queue.close();
+            }));
+            server.start();
+            return KEEP_RUNNING;
+        } catch (IOException e) {
+            LOG.error(i18n().tr("Unable to start the jobs server on port {0}", Integer.toString(port)), e);
+            queue.close();
+            return FAILURE;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.basic;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.pdfsam.service.task.HeadlessJob;
+import org.pdfsam.service.task.HeadlessJobQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.substringAfter;
+import static org.apache.commons.lang3.StringUtils.substringBefore;
+import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
+import static org.apache.commons.lang3.StringUtils.trim;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * HTTP interface to a {@link HeadlessJobQueue}, bound to the loopback address so only local processes can submit jobs.
+ * Tool data is sent as a JSON object using the same keys the tool uses in the workspace. A random token is generated
+ * and logged at startup and every request has to send it in the {@value #TOKEN_HEADER} header. Requests sent by a
+ * browser (with an {@code Origin} header) or addressed to a host other than the loopback are rejected, as well as job
+ * submissions whose content type is not {@code application/json}.
+ *
+ * <pre>
+ * GET  /tools                 ids of the available tools
+ * POST /jobs?tool={toolId}    submits a job, the body is the tool data
+ * GET  /jobs/{id}             status, progress and outputs of the job
+ * GET  /jobs/{id}/progress    streams the job status, one JSON object per line, until the job is completed or failed
+ * </pre>
+ *
+ * @author Andrea Vacondio
+ */
+public class HeadlessJobServer implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(HeadlessJobServer.class);
+    static final long PROGRESS_INTERVAL_MILLIS = 500;
+    static final int MAX_PROGRESS_STREAMS = 8;
+    static final String TOKEN_HEADER = "X-Pdfsam-Token";
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private final HeadlessJobQueue queue;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpServer server;
+    private final String token;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4, daemon("pdfsam-job-server"));
+    private final ExecutorService streams = new ThreadPoolExecutor(0, MAX_PROGRESS_STREAMS, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), daemon("pdfsam-job-progress"));
+
+    /**
+     * @param queue the queue jobs are submitted to
+     * @param port  the port to listen to, 0 to use an ephemeral port
+     */
+    public HeadlessJobServer(HeadlessJobQueue queue, int port) throws IOException {
+        this.queue = queue;
+        this.token = newToken();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/tools", this::tools);
+        this.server.createContext("/jobs", this::jobs);
+    }
+
+    public void start() {
+        server.start();
+        LOG.info(i18n().tr("Accepting jobs on http://{0}:{1}", server.getAddress().getHostString(),
+                Integer.toString(port())));
+        LOG.info(i18n().tr("Requests must send the header {0}: {1}", TOKEN_HEADER, token));
+    }
+
+    /**
+     * @return the token requests have to send in the {@value #TOKEN_HEADER} header
+     */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * @return the port the server is listening to
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private void tools(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!authorized(exchange)) {
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, Map.of());
+                return;
+            }
+            send(exchange, 200, queue.toolIds());
+        }
+    }
+
+    private void jobs(HttpExchange exchange) {
+        try {
+            if (!authorized(exchange)) {
+                exchange.close();
+                return;
+            }
+            var path = Arrays.stream(exchange.getRequestURI().getPath().split("/")).filter(s -> !s.isEmpty())
+                    .toList();
+            if ("GET".equals(exchange.getRequestMethod()) && path.size() == 3 && "progress".equals(path.get(2))) {
+                queue.job(path.get(1)).ifPresentOrElse(j -> stream(exchange, j), () -> {
+                    send(exchange, 404, Map.of());
+                    exchange.close();
+                });
+                return;
+            }
+            try (exchange) {
+                if ("POST".equals(exchange.getRequestMethod()) && path.size() == 1) {
+                    submit(exchange);
+                } else if ("GET".equals(exchange.getRequestMethod()) && path.size() == 2) {
+                    ofNullable(path.get(1)).flatMap(queue::job).ifPresentOrElse(j -> send(exchange, 200, status(j)),
+                            () -> send(exchange, 404, Map.of()));
+                } else {
+                    send(exchange, 404, Map.of());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.error(i18n().tr("Unable to process the request"), e);
+        }
+    }
+
+    /**
+     * Verifies the request comes from a local process knowing the token, sending the error response otherwise
+     *
+     * @return true if the request can be processed
+     */
+    private boolean authorized(HttpExchange exchange) {
+        var headers = exchange.getRequestHeaders();
+        if (headers.containsKey("Origin") || !isLoopback(headers.getFirst("Host"))) {
+            send(exchange, 403, Map.of());
+            return false;
+        }
+        var received = ofNullable(headers.getFirst(TOKEN_HEADER)).map(t -> t.getBytes(StandardCharsets.UTF_8))
+                .orElseGet(() -> new byte[0]);
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), received)) {
+            send(exchange, 401, Map.of());
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isLoopback(String host) {
+        if (isBlank(host)) {
+            return false;
+        }
+        var name = host.trim().toLowerCase(Locale.ROOT);
+        if (name.matches(".*:\\d+")) {
+            name = substringBeforeLast(name, ":");
+        }
+        return LOOPBACK_HOSTS.contains(name);
+    }
+
+    private void submit(HttpExchange exchange) throws IOException {
+        var contentType = substringBefore(exchange.getRequestHeaders().getFirst("Content-Type"), ";");
+        if (!"application/json".equalsIgnoreCase(trim(contentType))) {
+            send(exchange, 415, Map.of("errors", List.of(i18n().tr("Tool data must be sent as application/json"))));
+            return;
+        }
+        var toolId = query(exchange).get("tool");
+        Map<String, String> data;
+        try {
+            data = ofNullable(mapper.readValue(exchange.getRequestBody(), new TypeReference<Map<String, String>>() {
+            })).orElseGet(Map::of);
+        } catch (IOException e) {
+            send(exchange, 400, Map.of("errors", List.of(i18n().tr("Invalid tool data"))));
+            return;
+        }
+        List<String> errors = new ArrayList<>();
+        try {
+            queue.submit(toolId, data, errors::add).ifPresentOrElse(j -> send(exchange, 202, status(j)),
+                    () -> send(exchange, 400, Map.of("errors", errors)));
+        } catch (RejectedExecutionException e) {
+            send(exchange, 503, Map.of("errors", List.of(i18n().tr("Too many jobs queued, try again later"))));
+        }
+    }
+
+    /**
+     * Streams the job progress on a dedicated executor, so long running streams don't starve the other requests
+     */
+    private void stream(HttpExchange exchange, HeadlessJob job) {
+        try {
+            streams.execute(() -> {
+                try (exchange) {
+                    progress(exchange, job);
+                } catch (IOException e) {
+                    LOG.warn(i18n().tr("Unable to send the response"), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            send(exchange, 503, Map.of("errors", List.of(i18n().tr("Too many progress streams, try again later"))));
+            exchange.close();
+        }
+    }
+
+    private void progress(HttpExchange exchange, HeadlessJob job) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        Map<String, Object> previous = null;
+        try {
+            while (true) {
+                var status = status(job);
+                if (!Objects.equals(previous, status)) {
+                    out.write(mapper.writeValueAsBytes(status));
+                    out.write('\n');
+                    out.flush();
+                    previous = status;
+                }
+                if (job.status().isFinal()) {
+                    return;
+                }
+                Thread.sleep(PROGRESS_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, Object> status(HeadlessJob job) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("id", job.id());
+        status.put("tool", job.toolId());
+        status.put("status", job.status().name());
+        status.put("percentage", job.percentage());
+        job.result().ifPresent(r -> {
+            status.put("outputs", r.outputs().stream().map(File::getAbsolutePath).toList());
+            ofNullable(r.failure()).map(Throwable::getMessage).ifPresent(m -> status.put("error", m));
+        });
+        return status;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> query = new LinkedHashMap<>();
+        ofNullable(exchange.getRequestURI().getRawQuery()).map(q -> q.split("&")).map(Arrays::stream)
+                .ifPresent(params -> params.forEach(
+                        p -> query.put(URLDecoder.decode(substringBefore(p, "="), StandardCharsets.UTF_8),
+                                URLDecoder.decode(p.contains("=") ? substringAfter(p, "=") : EMPTY,
+                                        StandardCharsets.UTF_8))));
+        return query;
+    }
+
+    private void send(HttpExchange exchange, int code, Object body) {
+        try {
+            var bytes = mapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(code, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        } catch (IOException e) {
+            LOG.warn(i18n().tr("Unable to send the response"), e);
+        }
+    }
+
+    private static String newToken() {
+        var bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            var thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        streams.shutdownNow();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.basic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.service.task.HeadlessTaskResult;
+import org.pdfsam.service.task.HeadlessTaskRunner;
+import org.sejda.model.parameter.base.AbstractParameters;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class HeadlessAppTest {
+
+    private HeadlessTaskRunner runner;
+    private HeadlessApp victim;
+
+    @BeforeEach
+    public void setUp() {
+        runner = mock(HeadlessTaskRunner.class);
+        when(runner.toolIds()).thenReturn(Set.of("merge"));
+        victim = new HeadlessApp(runner);
+    }
+
+    @Test
+    public void missingTool() {
+        assertEquals(HeadlessApp.INVALID_ARGUMENTS, victim.run("key=value"));
+        verify(runner, never()).parameters(any(), any(), any());
+    }
+
+    @Test
+    public void invalidArgument() {
+        assertEquals(HeadlessApp.INVALID_ARGUMENTS, victim.run("--tool", "merge", "chuck"));
+        verify(runner, never()).parameters(any(), any(), any());
+    }
+
+    @Test
+    public void invalidParameters() {
+        when(runner.parameters(any(), any(), any())).thenReturn(Optional.empty());
+        assertEquals(HeadlessApp.INVALID_ARGUMENTS, victim.run("--tool", "merge"));
+    }
+
+    @Test
+    public void success() {
+        var parameters = mock(AbstractParameters.class);
+        when(runner.parameters(eq("merge"), eq(Map.of("key", "value=1")), any())).thenReturn(Optional.of(parameters));
+        when(runner.run(parameters)).thenReturn(new HeadlessTaskResult(List.of(new File("out.pdf")), null));
+        assertEquals(HeadlessApp.SUCCESS, victim.run("--tool", "merge", "key=value=1"));
+    }
+
+    @Test
+    public void failure() {
+        var parameters = mock(AbstractParameters.class);
+        when(runner.parameters(any(), any(), any())).thenReturn(Optional.of(parameters));
+        when(runner.run(parameters)).thenReturn(new HeadlessTaskResult(List.of(), new RuntimeException("Chuck")));
+        assertEquals(HeadlessApp.FAILURE, victim.run("--tool", "merge"));
+    }
+
+    @Test
+    public void workspaceOverridden(@TempDir Path folder) throws Exception {
+        var workspace = folder.resolve("workspace.json");
+        Files.writeString(workspace, "{\"merge\":{\"key\":\"workspace\",\"other\":\"workspace\"}}");
+        var parameters = mock(AbstractParameters.class);
+        when(runner.parameters(eq("merge"), eq(Map.of("key", "option", "other", "workspace")), any())).thenReturn(
+                Optional.of(parameters));
+        when(runner.run(parameters)).thenReturn(new HeadlessTaskResult(List.of(), null));
+        assertEquals(HeadlessApp.SUCCESS,
+                victim.run("--tool", "merge", "--workspace", workspace.toString(), "key=option"));
+    }
+
+    @Test
+    public void watchUnknownTool(@TempDir Path folder) {
+        assertEquals(HeadlessApp.INVALID_ARGUMENTS, victim.run("--tool", "merge", "--watch", folder.toString()));
+        verify(runner, never()).parameters(any(), any(), any());
+    }
+
+    @Test
+    public void watchMissingFolder(@TempDir Path folder) {
+        when(runner.tool("merge")).thenReturn(Optional.of(mock(HeadlessTool.class)));
+        assertEquals(HeadlessApp.INVALID_ARGUMENTS,
+                victim.run("--tool", "merge", "--watch", folder.resolve("chuck").toString()));
+    }
+
+    @Test
+    public void watchDestinationInsideFolder(@TempDir Path folder) {
+        var tool = mock(HeadlessTool.class);
+        when(tool.withInput(any(), any())).thenReturn(Map.of());
+        when(runner.tool("merge")).thenReturn(Optional.of(tool));
+        var parameters = mock(AbstractParameters.class);
+        when(runner.parameters(eq("merge"), any(), any())).thenReturn(Optional.of(parameters));
+        when(runner.outputFolder(parameters)).thenReturn(Optional.of(folder.resolve("out").toFile()));
+        assertEquals(HeadlessApp.INVALID_ARGUMENTS, victim.run("--tool", "merge", "--watch", folder.toString()));
+    }
+
+    @Test
+    public void watchInvalidParameters(@TempDir Path folder) {
+        var tool = mock(HeadlessTool.class);
+        when(tool.withInput(any(), any())).thenReturn(Map.of());
+        when(runner.tool("merge")).thenReturn(Optional.of(tool));
+        when(runner.parameters(any(), any(), any())).thenReturn(Optional.empty());
+        assertEquals(HeadlessApp.INVALID_ARGUMENTS, victim.run("--tool", "merge", "--watch", folder.toString()));
+    }
+}
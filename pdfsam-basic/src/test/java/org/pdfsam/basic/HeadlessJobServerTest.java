@@ -0,0 +1,228 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.basic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pdfsam.service.task.HeadlessJob;
+import org.pdfsam.service.task.HeadlessJobQueue;
+import org.pdfsam.service.task.HeadlessJobStatus;
+import org.pdfsam.service.task.HeadlessTaskResult;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class HeadlessJobServerTest {
+
+    private HeadlessJobQueue queue;
+    private HeadlessJobServer victim;
+    private HeadlessJob job;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        queue = mock(HeadlessJobQueue.class);
+        job = mock(HeadlessJob.class);
+        when(job.id()).thenReturn("id");
+        when(job.toolId()).thenReturn("merge");
+        when(job.status()).thenReturn(HeadlessJobStatus.COMPLETED);
+        when(job.percentage()).thenReturn(new BigDecimal(100));
+        when(job.result()).thenReturn(Optional.of(new HeadlessTaskResult(List.of(new File("out.pdf")), null)));
+        when(queue.toolIds()).thenReturn(Set.of("merge"));
+        victim = new HeadlessJobServer(queue, 0);
+        victim.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        victim.close();
+    }
+
+    @Test
+    public void tools() throws IOException {
+        var connection = connection("/tools", "GET");
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("[\"merge\"]", read(connection.getInputStream()));
+    }
+
+    @Test
+    public void submit() throws IOException {
+        when(queue.submit(eq("merge"), eq(Map.of("key", "value")), any())).thenReturn(Optional.of(job));
+        var connection = post("/jobs?tool=merge", "{\"key\":\"value\"}");
+        assertEquals(202, connection.getResponseCode());
+        assertEquals("id", new ObjectMapper().readTree(connection.getInputStream()).get("id").asText());
+    }
+
+    @Test
+    public void submitInvalid() throws IOException {
+        when(queue.submit(any(), any(), any())).thenAnswer(a -> {
+            a.<Consumer<String>>getArgument(2).accept("Invalid");
+            return Optional.empty();
+        });
+        var connection = post("/jobs?tool=merge", "{}");
+        assertEquals(400, connection.getResponseCode());
+        assertTrue(read(connection.getErrorStream()).contains("Invalid"));
+    }
+
+    @Test
+    public void submitMalformed() throws IOException {
+        assertEquals(400, post("/jobs?tool=merge", "chuck").getResponseCode());
+    }
+
+    @Test
+    public void submitRejected() throws IOException {
+        when(queue.submit(any(), any(), any())).thenThrow(new RejectedExecutionException());
+        assertEquals(503, post("/jobs?tool=merge", "{}").getResponseCode());
+    }
+
+    @Test
+    public void status() throws IOException {
+        when(queue.job("id")).thenReturn(Optional.of(job));
+        var connection = connection("/jobs/id", "GET");
+        assertEquals(200, connection.getResponseCode());
+        var status = new ObjectMapper().readTree(connection.getInputStream());
+        assertEquals("COMPLETED", status.get("status").asText());
+        assertEquals(new File("out.pdf").getAbsolutePath(), status.get("outputs").get(0).asText());
+    }
+
+    @Test
+    public void unknownJob() throws IOException {
+        when(queue.job(any())).thenReturn(Optional.empty());
+        assertEquals(404, connection("/jobs/chuck", "GET").getResponseCode());
+        assertEquals(404, connection("/jobs/chuck/progress", "GET").getResponseCode());
+    }
+
+    @Test
+    public void progress() throws IOException {
+        when(queue.job("id")).thenReturn(Optional.of(job));
+        var connection = connection("/jobs/id/progress", "GET");
+        assertEquals(200, connection.getResponseCode());
+        var lines = read(connection.getInputStream()).lines().toList();
+        assertEquals(1, lines.size());
+        assertEquals("COMPLETED", new ObjectMapper().readTree(lines.get(0)).get("status").asText());
+    }
+
+    @Test
+    public void missingToken() throws IOException {
+        var connection = (HttpURLConnection) new URL("http://localhost:" + victim.port() + "/tools").openConnection();
+        assertEquals(401, connection.getResponseCode());
+        var wrong = (HttpURLConnection) new URL("http://localhost:" + victim.port() + "/jobs/id").openConnection();
+        wrong.setRequestProperty(HeadlessJobServer.TOKEN_HEADER, "chuck");
+        assertEquals(401, wrong.getResponseCode());
+    }
+
+    @Test
+    public void originRejected() throws IOException {
+        var connection = connection("/tools", "GET");
+        connection.setRequestProperty("Origin", "http://example.com");
+        assertEquals(403, connection.getResponseCode());
+    }
+
+    @Test
+    public void hostRejected() throws IOException {
+        try (var socket = new Socket(InetAddress.getLoopbackAddress(), victim.port())) {
+            socket.getOutputStream().write(
+                    ("GET /tools HTTP/1.1\r\nHost: example.com\r\n" + HeadlessJobServer.TOKEN_HEADER + ": "
+                            + victim.token() + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            var statusLine = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+            assertTrue(statusLine.contains(" 403"));
+        }
+    }
+
+    @Test
+    public void submitWrongContentType() throws IOException {
+        var connection = connection("/jobs?tool=merge", "POST");
+        connection.setRequestProperty("Content-Type", "text/plain");
+        connection.setDoOutput(true);
+        connection.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(415, connection.getResponseCode());
+        verify(queue, never()).submit(any(), any(), any());
+    }
+
+    @Test
+    public void progressStreamsAreCapped() throws IOException {
+        when(job.status()).thenReturn(HeadlessJobStatus.RUNNING);
+        when(job.result()).thenReturn(Optional.empty());
+        when(queue.job("id")).thenReturn(Optional.of(job));
+        List<HttpURLConnection> streams = new ArrayList<>();
+        try {
+            for (int i = 0; i < HeadlessJobServer.MAX_PROGRESS_STREAMS; i++) {
+                var stream = connection("/jobs/id/progress", "GET");
+                assertEquals(200, stream.getResponseCode());
+                streams.add(stream);
+            }
+            assertEquals(503, connection("/jobs/id/progress", "GET").getResponseCode());
+            assertEquals(200, connection("/tools", "GET").getResponseCode());
+            assertEquals(200, connection("/jobs/id", "GET").getResponseCode());
+        } finally {
+            streams.forEach(HttpURLConnection::disconnect);
+        }
+    }
+
+    private HttpURLConnection connection(String path, String method) throws IOException {
+        var connection = (HttpURLConnection) new URL("http://localhost:" + victim.port() + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty(HeadlessJobServer.TOKEN_HEADER, victim.token());
+        return connection;
+    }
+
+    private HttpURLConnection post(String path, String body) throws IOException {
+        var connection = connection(path, "POST");
+        connection.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
+        connection.setDoOutput(true);
+        connection.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        return connection;
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        try (stream) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
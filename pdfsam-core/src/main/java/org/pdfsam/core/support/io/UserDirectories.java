@@ -0,0 +1,76 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.core.support.io;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.pdfsam.core.ConfigurableSystemProperty.PDFSAM_USER_CACHE_DIR;
+
+/**
+ * Per user directories where PDFsam can keep data across sessions. The base directory can be set with the
+ * {@link org.pdfsam.core.ConfigurableSystemProperty#PDFSAM_USER_CACHE_DIR} system property, otherwise the platform
+ * cache directory of the current user is used.
+ *
+ * @author Andrea Vacondio
+ */
+public final class UserDirectories {
+
+    private static final String APP_DIRECTORY = "pdfsam";
+
+    private UserDirectories() {
+        // hide
+    }
+
+    /**
+     * @param name name of the directory
+     * @return the directory with the given name in the user cache directory, created if it doesn't exist
+     * @throws IOException if the directory cannot be created
+     */
+    public static Path cacheDirectory(String name) throws IOException {
+        return Files.createDirectories(cacheBase().resolve(name));
+    }
+
+    static Path cacheBase() {
+        String configured = System.getProperty(PDFSAM_USER_CACHE_DIR);
+        if (StringUtils.isNotBlank(configured)) {
+            return Path.of(configured);
+        }
+        Path home = Path.of(System.getProperty("user.home"));
+        String os = System.getProperty("os.name", "").toLowerCase();
+        if (os.contains("win")) {
+            String localAppData = System.getenv("LOCALAPPDATA");
+            if (StringUtils.isNotBlank(localAppData)) {
+                return Path.of(localAppData, APP_DIRECTORY, "cache");
+            }
+            return home.resolve("AppData").resolve("Local").resolve(APP_DIRECTORY).resolve("cache");
+        }
+        if (os.contains("mac")) {
+            return home.resolve("Library").resolve("Caches").resolve(APP_DIRECTORY);
+        }
+        String xdgCache = System.getenv("XDG_CACHE_HOME");
+        if (StringUtils.isNotBlank(xdgCache)) {
+            return Path.of(xdgCache, APP_DIRECTORY);
+        }
+        return home.resolve(".cache").resolve(APP_DIRECTORY);
+    }
+}
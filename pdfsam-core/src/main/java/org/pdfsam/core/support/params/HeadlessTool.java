@@ -0,0 +1,54 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.core.support.params;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.sejda.model.parameter.base.AbstractParameters;
+
+import java.io.File;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A tool that can build its task parameters without any user interface, starting from data in the same format the tool
+ * uses to save its state in a workspace.
+ *
+ * @author Andrea Vacondio
+ */
+public interface HeadlessTool {
+
+    /**
+     * @return the unique id of the tool, the same id of the corresponding {@link org.pdfsam.model.tool.Tool}
+     */
+    String id();
+
+    /**
+     * @param data    the tool data, in the workspace format
+     * @param onError function to call in case of error where the error message is supplied
+     * @return a {@link Builder} for the parameters to be used to perform a pdf manipulation
+     */
+    Builder<? extends AbstractParameters> builder(ToolData data, Consumer<String> onError);
+
+    /**
+     * @param data the tool data, in the workspace format
+     * @param file the document to process
+     * @return a copy of the given data where the selected documents are replaced by the given file
+     */
+    Map<String, String> withInput(Map<String, String> data, File file);
+}
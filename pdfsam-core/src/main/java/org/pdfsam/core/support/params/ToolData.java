@@ -0,0 +1,221 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.core.support.params;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.pdfsam.core.support.EncryptionUtils;
+import org.sejda.commons.collection.NullSafeSet;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.input.PdfFileSource;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.parameter.base.AbstractPdfOutputParameters;
+import org.sejda.model.pdf.PdfVersion;
+import org.sejda.model.pdf.page.PageRange;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * Data a tool saves in a workspace. It gives access to the values written by the common UI components (selection
+ * panes, destination panes, prefix...) so that task parameters can be built from them without the components
+ * themselves.
+ *
+ * @author Andrea Vacondio
+ */
+public class ToolData {
+
+    private final Map<String, String> data = new HashMap<>();
+
+    public ToolData(Map<String, String> data) {
+        ofNullable(data).ifPresent(this.data::putAll);
+    }
+
+    public Optional<String> get(String key) {
+        return ofNullable(data.get(key)).filter(StringUtils::isNotBlank);
+    }
+
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(data.get(key));
+    }
+
+    /**
+     * @param key     the key
+     * @param type    the enum type
+     * @param onError consumer notified if the value is not the name of a constant of the given enum
+     * @return the enum constant whose name is the value for the given key, an empty optional if the value is missing or
+     * invalid
+     */
+    public <E extends Enum<E>> Optional<E> getEnum(String key, Class<E> type, Consumer<String> onError) {
+        return get(key).flatMap(value -> {
+            try {
+                return Optional.of(Enum.valueOf(type, value.trim()));
+            } catch (IllegalArgumentException e) {
+                onError.accept(i18n().tr("Invalid value {0} for {1}", value, key));
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * @param id      the id of the selection table
+     * @param onError consumer notified if the number of documents is invalid
+     * @return the documents of a multiple selection table, in the table order
+     */
+    public List<Input> inputs(String id, Consumer<String> onError) {
+        var prefix = defaultString(id);
+        var sizeKey = prefix + "input.size";
+        int size = get(sizeKey).map(v -> {
+            // every document has at least its own entry so a bigger size cannot be valid
+            int value = NumberUtils.toInt(v.trim(), -1);
+            if (value < 0 || value > data.size()) {
+                onError.accept(i18n().tr("Invalid value {0} for {1}", v, sizeKey));
+                return 0;
+            }
+            return value;
+        }).orElse(0);
+        List<Input> inputs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            var current = i;
+            get(prefix + "input." + i).ifPresent(f -> inputs.add(
+                    new Input(new File(f), password(prefix + "input.password.enc" + current,
+                            prefix + "input.password." + current),
+                            defaultString(data.get(prefix + "input.range." + current)),
+                            get(prefix + "input.step." + current).orElse("1"),
+                            getBoolean(prefix + "input.reverse." + current))));
+        }
+        return Collections.unmodifiableList(inputs);
+    }
+
+    /**
+     * @param id the id of the selection pane
+     * @return the document of a single selection pane
+     */
+    public Optional<Input> input(String id) {
+        var prefix = defaultString(id);
+        return get(prefix + "input").map(f -> new Input(new File(f),
+                password(prefix + "input.password.enc", prefix + "input.password"), "", "1", false));
+    }
+
+    /**
+     * @param data the tool data
+     * @param id   the id of the selection table
+     * @param file
+     * @return a copy of the given data where the documents of the multiple selection table are replaced by the given
+     * file
+     */
+    public static Map<String, String> withInputs(Map<String, String> data, String id, File file) {
+        var prefix = defaultString(id);
+        var result = withoutInputs(data, prefix);
+        result.put(prefix + "input.size", "1");
+        result.put(prefix + "input.0", file.getAbsolutePath());
+        return result;
+    }
+
+    /**
+     * @param data the tool data
+     * @param id   the id of the selection pane
+     * @param file
+     * @return a copy of the given data where the document of the single selection pane is replaced by the given file
+     */
+    public static Map<String, String> withInput(Map<String, String> data, String id, File file) {
+        var prefix = defaultString(id);
+        var result = withoutInputs(data, prefix);
+        result.put(prefix + "input", file.getAbsolutePath());
+        return result;
+    }
+
+    private static Map<String, String> withoutInputs(Map<String, String> data, String prefix) {
+        Map<String, String> result = new HashMap<>();
+        ofNullable(data).ifPresent(result::putAll);
+        result.keySet().removeIf(k -> k.equals(prefix + "input") || k.startsWith(prefix + "input."));
+        return result;
+    }
+
+    private String password(String encryptedKey, String plainKey) {
+        return get(encryptedKey).map(EncryptionUtils::decrypt).orElseGet(() -> data.get(plainKey));
+    }
+
+    /**
+     * @param id the id of the browsable field
+     * @return the path of a browsable field, resolved against the current directory if relative
+     */
+    public Optional<Path> browsableField(String id) {
+        return get(defaultString(id) + "browsableField").map(Paths::get).map(Path::toAbsolutePath);
+    }
+
+    /**
+     * @param id the id of the prefix pane
+     * @return the prefix for the generated files
+     */
+    public String prefix(String id) {
+        return defaultString(data.get(defaultString(id) + "prefix"));
+    }
+
+    /**
+     * Applies the pdf destination options to the given builder
+     *
+     * @param onError consumer notified of invalid values
+     */
+    public void applyPdfDestination(AbstractPdfOutputParametersBuilder<? extends AbstractPdfOutputParameters> builder,
+            Consumer<String> onError) {
+        builder.compress(getBoolean("compress"));
+        if (getBoolean("overwrite")) {
+            builder.existingOutput(ExistingOutputPolicy.OVERWRITE);
+        }
+        getEnum("version", PdfVersion.class, onError).ifPresent(builder::version);
+        builder.discardBookmarks(getBoolean("discardBookmarks"));
+    }
+
+    /**
+     * A document as saved by a selection pane
+     *
+     * @author Andrea Vacondio
+     */
+    public record Input(File file, String password, String pageSelection, String pace, boolean reverse) {
+
+        public PdfFileSource toPdfFileSource() {
+            try {
+                return PdfFileSource.newInstanceWithPassword(file, password);
+            } catch (IllegalArgumentException e) {
+                throw new ConversionException(
+                        i18n().tr("File \"{0}\" does not exist or is invalid", file.getName()), e);
+            }
+        }
+
+        /**
+         * @return the {@link PageRange} selection set if any, an empty set otherwise.
+         */
+        public NullSafeSet<PageRange> toPageRangeSet() throws ConversionException {
+            return ConversionUtils.toPageRangeSet(pageSelection);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.core.support.io;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.pdfsam.core.ConfigurableSystemProperty.PDFSAM_USER_CACHE_DIR;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class UserDirectoriesTest {
+
+    @TempDir
+    private Path folder;
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(PDFSAM_USER_CACHE_DIR);
+    }
+
+    @Test
+    public void configured() throws IOException {
+        System.setProperty(PDFSAM_USER_CACHE_DIR, folder.toString());
+        Path logs = UserDirectories.cacheDirectory("logs");
+        assertEquals(folder.resolve("logs"), logs);
+        assertTrue(Files.isDirectory(logs));
+    }
+
+    @Test
+    public void defaultBase() {
+        assertTrue(UserDirectories.cacheBase().toString().contains("pdfsam"));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.core.support.params;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.parameter.MergeParameters;
+import org.sejda.model.pdf.PdfVersion;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.pdfsam.core.support.EncryptionUtils.encrypt;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class ToolDataTest {
+
+    @Test
+    public void inputs() {
+        Map<String, String> data = new HashMap<>();
+        data.put("input.size", "3");
+        data.put("input.0", "/tmp/first.pdf");
+        data.put("input.password.enc0", encrypt("pwd"));
+        data.put("input.range.0", "1-3");
+        data.put("input.step.0", "2");
+        data.put("input.reverse.0", "true");
+        data.put("input.2", "/tmp/second.pdf");
+        data.put("input.password.2", "plain");
+        var inputs = new ToolData(data).inputs("", e -> fail(e));
+        assertEquals(2, inputs.size());
+        assertEquals(new File("/tmp/first.pdf"), inputs.get(0).file());
+        assertEquals("pwd", inputs.get(0).password());
+        assertEquals("1-3", inputs.get(0).pageSelection());
+        assertEquals("2", inputs.get(0).pace());
+        assertTrue(inputs.get(0).reverse());
+        assertEquals(new File("/tmp/second.pdf"), inputs.get(1).file());
+        assertEquals("plain", inputs.get(1).password());
+        assertEquals("1", inputs.get(1).pace());
+        assertFalse(inputs.get(1).reverse());
+        assertTrue(inputs.get(1).toPageRangeSet().isEmpty());
+    }
+
+    @Test
+    public void invalidInputsSize() {
+        for (String size : List.of("abc", "-1", "2147483647")) {
+            List<String> errors = new ArrayList<>();
+            var inputs = new ToolData(Map.of("input.size", size, "input.0", "/tmp/first.pdf")).inputs("", errors::add);
+            assertTrue(inputs.isEmpty());
+            assertEquals(1, errors.size());
+        }
+    }
+
+    @Test
+    public void input() {
+        var victim = new ToolData(Map.of("input", "/tmp/first.pdf", "input.password", "pwd"));
+        assertEquals(new File("/tmp/first.pdf"), victim.input("").get().file());
+        assertEquals("pwd", victim.input("").get().password());
+        assertTrue(new ToolData(Map.of()).input("").isEmpty());
+    }
+
+    @Test
+    public void withInputs() {
+        var file = new File("/tmp/chuck.pdf");
+        var data = ToolData.withInputs(
+                Map.of("input.size", "2", "input.0", "a.pdf", "input.1", "b.pdf", "input.range.1", "2", "outline",
+                        "true"), "", file);
+        assertEquals(Map.of("input.size", "1", "input.0", file.getAbsolutePath(), "outline", "true"), data);
+        assertEquals(file.getAbsoluteFile(), new ToolData(data).inputs("", e -> fail(e)).get(0).file());
+    }
+
+    @Test
+    public void withInput() {
+        var file = new File("/tmp/chuck.pdf");
+        var data = ToolData.withInput(Map.of("input", "a.pdf", "input.password", "pwd", "size", "10"), "", file);
+        assertEquals(Map.of("input", file.getAbsolutePath(), "size", "10"), data);
+    }
+
+    @Test
+    public void browsableField(@TempDir Path folder) {
+        var victim = new ToolData(Map.of("fieldbrowsableField", folder.toString()));
+        assertEquals(folder.toAbsolutePath(), victim.browsableField("field").get());
+        assertTrue(victim.browsableField("another").isEmpty());
+    }
+
+    @Test
+    public void prefix() {
+        assertEquals("prefix_", new ToolData(Map.of("toolprefix", "prefix_")).prefix("tool"));
+        assertEquals("", new ToolData(null).prefix("tool"));
+    }
+
+    @Test
+    public void applyPdfDestination() {
+        var builder = new TestBuilder();
+        new ToolData(Map.of("compress", "true", "overwrite", "true", "version", "VERSION_1_7", "discardBookmarks",
+                "true")).applyPdfDestination(builder, e -> fail(e));
+        assertTrue(builder.isCompress());
+        assertTrue(builder.isDiscardBookmarks());
+        assertEquals(ExistingOutputPolicy.OVERWRITE, builder.existingOutput());
+        assertEquals(PdfVersion.VERSION_1_7, builder.getVersion());
+    }
+
+    @Test
+    public void applyPdfDestinationInvalidVersion() {
+        var builder = new TestBuilder();
+        List<String> errors = new ArrayList<>();
+        new ToolData(Map.of("version", "VERSION_99")).applyPdfDestination(builder, errors::add);
+        assertEquals(1, errors.size());
+        assertNull(builder.getVersion());
+    }
+
+    @Test
+    public void getEnum() {
+        List<String> errors = new ArrayList<>();
+        var victim = new ToolData(Map.of("version", " VERSION_1_6 ", "invalid", "chuck"));
+        assertEquals(PdfVersion.VERSION_1_6, victim.getEnum("version", PdfVersion.class, errors::add).get());
+        assertTrue(victim.getEnum("missing", PdfVersion.class, errors::add).isEmpty());
+        assertTrue(errors.isEmpty());
+        assertTrue(victim.getEnum("invalid", PdfVersion.class, errors::add).isEmpty());
+        assertEquals(1, errors.size());
+    }
+
+    private static class TestBuilder extends AbstractPdfOutputParametersBuilder<MergeParameters> {
+        @Override
+        public MergeParameters build() {
+            return null;
+        }
+    }
+}
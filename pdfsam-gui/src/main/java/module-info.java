@@ -56,6 +56,7 @@ module org.pdfsam.gui {
     exports org.pdfsam.gui;
 
     opens org.pdfsam.gui.components.info to org.pdfsam.injector, org.pdfsam.eventstudio;
+    opens org.pdfsam.gui.components.preview to org.pdfsam.injector, org.pdfsam.eventstudio;
     opens org.pdfsam.gui.components.sidebar to org.pdfsam.injector, org.pdfsam.eventstudio;
     opens org.pdfsam.gui.configuration to org.pdfsam.injector;
     opens org.pdfsam.gui.sound to org.pdfsam.injector, org.pdfsam.eventstudio;
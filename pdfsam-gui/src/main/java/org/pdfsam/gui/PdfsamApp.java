@@ -59,6 +59,7 @@ import org.pdfsam.model.ui.workspace.LoadWorkspaceRequest;
 import org.pdfsam.model.ui.workspace.SaveWorkspaceRequest;
 import org.pdfsam.model.ui.workspace.WorkspaceCloseEvent;
 import org.pdfsam.model.update.UpdateCheckRequest;
+import org.pdfsam.ui.components.tool.DryRunTriggerRequest;
 import org.pdfsam.ui.components.tool.RunButtonTriggerRequest;
 import org.sejda.core.Sejda;
 import org.sejda.impl.sambox.component.PDDocumentHandler;
@@ -176,6 +177,8 @@ public class PdfsamApp extends Application {
                 .put(new KeyCodeCombination(KeyCode.Q, KeyCombination.SHORTCUT_DOWN), Platform::exit);
         mainScene.getAccelerators().put(RunButtonTriggerRequest.KEY_CODE_COMBINATION,
                 () -> eventStudio().broadcast(RunButtonTriggerRequest.INSTANCE));
+        mainScene.getAccelerators().put(DryRunTriggerRequest.KEY_CODE_COMBINATION,
+                () -> eventStudio().broadcast(DryRunTriggerRequest.INSTANCE));
         return mainScene;
     }
 
@@ -22,13 +22,14 @@ import jakarta.inject.Inject;
 import org.pdfsam.core.context.ApplicationContext;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.injector.Auto;
+import org.pdfsam.ui.components.tool.DryRunTriggerRequest;
 import org.pdfsam.ui.components.tool.RunButtonTriggerRequest;
 
 import static org.pdfsam.core.context.ApplicationContext.app;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
 
 /**
- * Handles the global accelerator that triggers the Run button
+ * Handles the global accelerators that trigger the Run button and the output preview
  *
  * @author Andrea Vacondio
  */
@@ -51,4 +52,9 @@ public class RunAcceleratorController {
     public void onRunButtonAccelerator(RunButtonTriggerRequest request) {
         context.runtimeState().activeToolValue().ifPresent(m -> eventStudio().broadcast(request, m.id()));
     }
+
+    @EventListener
+    public void onDryRunAccelerator(DryRunTriggerRequest request) {
+        context.runtimeState().activeToolValue().ifPresent(m -> eventStudio().broadcast(request, m.id()));
+    }
 }
@@ -26,7 +26,6 @@ import org.tinylog.writers.AbstractFormatPatternWriter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Scanner;
 
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
 
@@ -57,11 +56,8 @@ public class BroadcastingWriter extends AbstractFormatPatternWriter {
 
     @Override
     public void write(final LogEntry logEntry) {
-        try (Scanner scanner = new Scanner(render(logEntry))) {
-            while (scanner.hasNextLine()) {
-                eventStudio().broadcast(new LogMessage(scanner.nextLine(), LogLevel.toLogLevel(logEntry.getLevel())));
-            }
-        }
+        LogLevel level = LogLevel.toLogLevel(logEntry.getLevel());
+        render(logEntry).lines().forEach(line -> eventStudio().broadcast(new LogMessage(line, level)));
         if (logEntry.getLevel().ordinal() == Level.ERROR.ordinal()) {
             eventStudio().broadcast(new ErrorLoggedEvent());
         }
@@ -0,0 +1,89 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.content.log;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Filter applied to the log messages. A message matches if its level is one of the given levels and each of the terms
+ * is the prefix of a word of the message, case insensitive.
+ *
+ * @author Andrea Vacondio
+ */
+record LogFilter(Set<LogLevel> levels, List<String> terms) {
+
+    static final LogFilter NONE = new LogFilter(EnumSet.allOf(LogLevel.class), Collections.emptyList());
+
+    /**
+     * @param levels the levels to show
+     * @param query  the text the user is searching for
+     * @return a filter matching the given levels and the words of the query
+     */
+    static LogFilter of(Set<LogLevel> levels, String query) {
+        EnumSet<LogLevel> copy = levels.isEmpty() ? EnumSet.noneOf(LogLevel.class) : EnumSet.copyOf(levels);
+        return new LogFilter(copy, List.copyOf(tokens(query)));
+    }
+
+    /**
+     * @return true if this filter lets every message through
+     */
+    boolean isEmpty() {
+        return terms.isEmpty() && levels.size() == LogLevel.values().length;
+    }
+
+    boolean matches(LogMessage message) {
+        if (!levels.contains(message.level())) {
+            return false;
+        }
+        if (terms.isEmpty()) {
+            return true;
+        }
+        Set<String> words = tokens(message.message());
+        return terms.stream().allMatch(t -> words.stream().anyMatch(w -> w.startsWith(t)));
+    }
+
+    /**
+     * @return the distinct lower case words of the given text, in order of appearance
+     */
+    static Set<String> tokens(String text) {
+        if (isNull(text) || text.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.content.log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Index of the log messages, updated as messages are appended and evicted. Each message is identified by a sequence
+ * number increasing in order of arrival; the index keeps the sequence numbers of the messages of each level and, for
+ * every word, the sequence numbers of the messages containing it so that a search doesn't need to scan the messages.
+ *
+ * @author Andrea Vacondio
+ */
+class LogIndex {
+
+    private final Map<LogLevel, Postings> levels = new EnumMap<>(LogLevel.class);
+    private final NavigableMap<String, Postings> words = new TreeMap<>();
+    private long first;
+    private long next;
+
+    LogIndex() {
+        for (LogLevel level : LogLevel.values()) {
+            levels.put(level, new Postings());
+        }
+    }
+
+    /**
+     * Indexes the given message as the newest one
+     *
+     * @return the sequence number of the message
+     */
+    long add(LogMessage message) {
+        long sequence = next++;
+        levels.get(message.level()).add(sequence);
+        for (String word : LogFilter.tokens(message.message())) {
+            words.computeIfAbsent(word, k -> new Postings()).add(sequence);
+        }
+        return sequence;
+    }
+
+    void addAll(Collection<? extends LogMessage> messages) {
+        messages.forEach(this::add);
+    }
+
+    /**
+     * Removes the given message from the index. It must be the eldest message indexed.
+     */
+    void evict(LogMessage message) {
+        long sequence = first++;
+        levels.get(message.level()).removeFirst(sequence);
+        for (String word : LogFilter.tokens(message.message())) {
+            Postings postings = words.get(word);
+            if (postings != null) {
+                postings.removeFirst(sequence);
+                if (postings.isEmpty()) {
+                    words.remove(word);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        levels.values().forEach(Postings::clear);
+        words.clear();
+        first = next;
+    }
+
+    /**
+     * @return the sequence number of the eldest message indexed
+     */
+    long first() {
+        return first;
+    }
+
+    /**
+     * @return number of messages indexed
+     */
+    int size() {
+        return (int) (next - first);
+    }
+
+    /**
+     * @return the sorted sequence numbers of the indexed messages matching the given filter
+     */
+    long[] search(LogFilter filter) {
+        long[] result = null;
+        if (filter.levels().size() < LogLevel.values().length) {
+            List<long[]> buckets = new ArrayList<>();
+            for (LogLevel level : filter.levels()) {
+                buckets.add(levels.get(level).toArray());
+            }
+            result = union(buckets);
+        }
+        for (String term : filter.terms()) {
+            List<long[]> matching = new ArrayList<>();
+            for (Postings postings : words.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                matching.add(postings.toArray());
+            }
+            long[] termResult = union(matching);
+            result = result == null ? termResult : intersection(result, termResult);
+            if (result.length == 0) {
+                return result;
+            }
+        }
+        if (result == null) {
+            result = new long[size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = first + i;
+            }
+        }
+        return result;
+    }
+
+    private static long[] union(List<long[]> sorted) {
+        if (sorted.size() == 1) {
+            return sorted.get(0);
+        }
+        int length = 0;
+        for (long[] current : sorted) {
+            length += current.length;
+        }
+        long[] result = new long[length];
+        int position = 0;
+        for (long[] current : sorted) {
+            System.arraycopy(current, 0, result, position, current.length);
+            position += current.length;
+        }
+        Arrays.sort(result);
+        return dedupe(result);
+    }
+
+    private static long[] dedupe(long[] sorted) {
+        int length = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[length++] = sorted[i];
+            }
+        }
+        return length == sorted.length ? sorted : Arrays.copyOf(sorted, length);
+    }
+
+    private static long[] intersection(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int length = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[length++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Growable ring of increasing sequence numbers, appended at the tail and removed from the head
+     */
+    static final class Postings {
+        private long[] values = new long[4];
+        private int head;
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                long[] grown = new long[values.length * 2];
+                int firstSegment = values.length - head;
+                System.arraycopy(values, head, grown, 0, firstSegment);
+                System.arraycopy(values, 0, grown, firstSegment, head);
+                values = grown;
+                head = 0;
+            }
+            values[(head + size) % values.length] = value;
+            size++;
+        }
+
+        /**
+         * Removes the head if it's the given value
+         */
+        void removeFirst(long value) {
+            if (size > 0 && values[head] == value) {
+                head = (head + 1) % values.length;
+                size--;
+            }
+        }
+
+        /**
+         * Removes the head values lower than the given one
+         */
+        void removeLowerThan(long value) {
+            while (size > 0 && values[head] < value) {
+                head = (head + 1) % values.length;
+                size--;
+            }
+        }
+
+        long first() {
+            return values[head];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        long[] toArray() {
+            long[] result = new long[size];
+            int firstSegment = Math.min(size, values.length - head);
+            System.arraycopy(values, head, result, 0, firstSegment);
+            System.arraycopy(values, 0, result, firstSegment, size - firstSegment);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.content.log;
+
+import jakarta.inject.Inject;
+import org.pdfsam.core.support.io.UserDirectories;
+import org.pdfsam.eventstudio.annotation.EventListener;
+import org.pdfsam.model.lifecycle.ShutdownEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.nonNull;
+import static java.util.function.Predicate.not;
+import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * Rolling journal of the log messages on disk. Messages are queued and appended by a background thread to segment
+ * files, a new segment is started once the current one reaches the segment size and the eldest segments are deleted
+ * once there are more than the max number of segments. The journal keeps messages the log view has evicted or dropped.
+ * <p>
+ * Segments are written in a per user directory and named after the session that wrote them. They are kept when the
+ * application exits, or crashes, so the journal of the previous session can be saved by the user. At startup the
+ * segments of any older session are deleted.
+ *
+ * @author Andrea Vacondio
+ */
+class LogJournal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogJournal.class);
+
+    static final long DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+    static final int DEFAULT_MAX_SEGMENTS = 10;
+    private static final int MAX_PENDING = 100_000;
+    private static final long FLUSH_TIMEOUT_MILLIS = 2000;
+    private static final String SEGMENT_PREFIX = "session-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final String session;
+    private final List<Path> previousSession;
+    private final long segmentSize;
+    private final int maxSegments;
+    private final BlockingQueue<String> pending = new LinkedBlockingQueue<>(MAX_PENDING);
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private final Thread writer;
+    private FileChannel current;
+    private long currentSize;
+    private int segmentCounter;
+    private long written;
+    private volatile boolean closed;
+
+    @Inject
+    public LogJournal() {
+        this(createDirectory(), DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS);
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    LogJournal(Path directory, long segmentSize, int maxSegments) {
+        this(directory, String.format("%013d-%d", System.currentTimeMillis(), ProcessHandle.current().pid()),
+                segmentSize, maxSegments);
+    }
+
+    LogJournal(Path directory, String session, long segmentSize, int maxSegments) {
+        this.directory = directory;
+        this.session = session;
+        this.previousSession = prune(directory, session);
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.writer = new Thread(this::writeLoop, "pdfsam-log-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    private static Path createDirectory() {
+        try {
+            return UserDirectories.cacheDirectory("logs");
+        } catch (IOException e) {
+            LOG.warn("Unable to create the log journal directory, falling back to a temporary one", e);
+            try {
+                return Files.createTempDirectory("pdfsam-log");
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Deletes the segments of all the sessions but the most recent one that is not the given session
+     *
+     * @return the segments of the previous session, eldest first
+     */
+    private static List<Path> prune(Path directory, String session) {
+        SortedMap<String, List<Path>> sessions = new TreeMap<>();
+        try (var files = Files.list(directory)) {
+            files.filter(Files::isRegularFile).forEach(f -> sessionOf(f).filter(not(session::equals))
+                    .ifPresent(s -> sessions.computeIfAbsent(s, k -> new ArrayList<>()).add(f)));
+        } catch (IOException e) {
+            LOG.warn("Unable to list the log journal directory", e);
+            return List.of();
+        }
+        if (sessions.isEmpty()) {
+            return List.of();
+        }
+        List<Path> previous = sessions.remove(sessions.lastKey());
+        sessions.values().stream().flatMap(List::stream).forEach(f -> {
+            try {
+                Files.deleteIfExists(f);
+            } catch (IOException e) {
+                LOG.warn("Unable to delete old log journal segment {}", f, e);
+            }
+        });
+        previous.sort(Comparator.comparing(Path::getFileName));
+        return List.copyOf(previous);
+    }
+
+    private static Optional<String> sessionOf(Path segment) {
+        String name = segment.getFileName().toString();
+        int counter = name.lastIndexOf('-');
+        if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX) && counter > SEGMENT_PREFIX.length()) {
+            return Optional.of(name.substring(SEGMENT_PREFIX.length(), counter));
+        }
+        return Optional.empty();
+    }
+
+    @EventListener
+    public void onEvent(LogMessage event) {
+        if (!closed) {
+            if (pending.offer(event.message())) {
+                enqueued.incrementAndGet();
+            } else {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        close();
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        while (!closed) {
+            try {
+                String first = pending.take();
+                lock.lock();
+                try {
+                    batch.add(first);
+                    pending.drainTo(batch);
+                    write(batch);
+                } catch (IOException e) {
+                    LOG.warn("Unable to write the log journal", e);
+                } finally {
+                    written += batch.size();
+                    flushed.signalAll();
+                    lock.unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Appends the given lines to the current segment, rotating it if needed. Must be called holding the lock.
+     */
+    private void write(List<String> lines) throws IOException {
+        if (closed || lines.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = encode(lines);
+        if (current == null || (currentSize > 0 && currentSize + buffer.remaining() > segmentSize)) {
+            rotate();
+        }
+        while (buffer.hasRemaining()) {
+            currentSize += current.write(buffer);
+        }
+    }
+
+    private ByteBuffer encode(List<String> lines) {
+        long lost = dropped.getAndSet(0);
+        StringBuilder builder = new StringBuilder();
+        if (lost > 0) {
+            builder.append(i18n().tr("{0} log lines dropped from the journal", Long.toString(lost)))
+                    .append(System.lineSeparator());
+        }
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void rotate() throws IOException {
+        closeCurrent();
+        Path segment = directory.resolve(
+                String.format("%s%s-%06d%s", SEGMENT_PREFIX, session, ++segmentCounter, SEGMENT_SUFFIX));
+        current = FileChannel.open(segment, CREATE_NEW, WRITE, APPEND);
+        currentSize = 0;
+        segments.addLast(segment);
+        while (segments.size() > maxSegments) {
+            Files.deleteIfExists(segments.removeFirst());
+        }
+    }
+
+    private void closeCurrent() throws IOException {
+        if (nonNull(current)) {
+            current.close();
+            current = null;
+        }
+    }
+
+    /**
+     * Waits for the messages logged so far to be written, then copies the content of the journal segments to the given
+     * file using channel to channel transfers.
+     */
+    void transferTo(Path destination) throws IOException {
+        long target = enqueued.get();
+        lock.lock();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+            while (written < target && !closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !flushed.await(remaining, TimeUnit.NANOSECONDS)) {
+                    LOG.warn("Timeout waiting for the log journal to be written");
+                    break;
+                }
+            }
+            copy(segments, destination);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the content of the journal segments written by the previous session to the given file
+     */
+    void transferPreviousTo(Path destination) throws IOException {
+        copy(previousSession, destination);
+    }
+
+    /**
+     * @return true if there's a journal written by the previous session
+     */
+    boolean hasPreviousSession() {
+        return !previousSession.isEmpty();
+    }
+
+    private static void copy(Collection<Path> segments, Path destination) throws IOException {
+        try (FileChannel out = FileChannel.open(destination, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            for (Path segment : segments) {
+                try (FileChannel in = FileChannel.open(segment, READ)) {
+                    long position = 0;
+                    long size = in.size();
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the queued messages and deletes the journal segments
+     */
+    void clear() {
+        lock.lock();
+        try {
+            pending.clear();
+            dropped.set(0);
+            written = Math.max(written, enqueued.get());
+            closeCurrent();
+            for (Path segment : segments) {
+                Files.deleteIfExists(segment);
+            }
+            segments.clear();
+        } catch (IOException e) {
+            LOG.warn("Unable to clear the log journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the writer and closes the current segment, the segments are kept so the next session can reach them
+     */
+    void close() {
+        closed = true;
+        writer.interrupt();
+        lock.lock();
+        try {
+            closeCurrent();
+        } catch (IOException e) {
+            LOG.warn("Unable to close the log journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the journal segments, eldest first
+     */
+    List<Path> segments() {
+        lock.lock();
+        try {
+            return List.copyOf(segments);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
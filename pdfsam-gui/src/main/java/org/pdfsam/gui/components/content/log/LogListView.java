@@ -20,6 +20,9 @@ package org.pdfsam.gui.components.content.log;
 
 import jakarta.inject.Inject;
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -28,27 +31,59 @@ import javafx.stage.Window;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.ui.components.support.CircularObservableList;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.pdfsam.core.context.ApplicationContext.app;
 import static org.pdfsam.core.context.IntegerPersistentProperty.LOGVIEW_ROWS_NUMBER;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
+import static org.pdfsam.i18n.I18nContext.i18n;
 
 /**
- * {@link ListView} showing log messages
+ * {@link ListView} showing log messages. Messages are buffered in a lock free queue and drained on the FX thread in
+ * batches, at most one drain is pending at any time. When the UI falls behind and the buffer holds more messages than
+ * the view can show, the oldest ones are dropped and counted. A warning reporting them is shown ahead of the surviving
+ * messages.
+ * <p>
+ * Messages are indexed as they arrive so that a {@link LogFilter} can be applied without scanning all of them. While a
+ * filter is active the view shows a separate list of the matching messages, kept up to date as messages arrive or are
+ * evicted.
  *
  * @author Andrea Vacondio
  */
 class LogListView extends ListView<LogMessage> {
 
+    private final Queue<LogMessage> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedTotal = new AtomicLong();
+    private volatile int maxPending;
+
+    private final CircularObservableList<LogMessage> messages;
+    private final LogIndex index = new LogIndex();
+    private final ObservableList<LogMessage> filtered = FXCollections.observableArrayList();
+    private final LogIndex.Postings filteredSequences = new LogIndex.Postings();
+    private LogFilter filter = LogFilter.NONE;
+
     @Inject
     public LogListView() {
-        CircularObservableList<LogMessage> items = new CircularObservableList<>(
-                app().persistentSettings().get(LOGVIEW_ROWS_NUMBER));
-        eventStudio().add(MaxLogRowsChangedEvent.class,
-                e -> items.setMaxCapacity(app().persistentSettings().get(LOGVIEW_ROWS_NUMBER)));
+        maxPending = app().persistentSettings().get(LOGVIEW_ROWS_NUMBER);
+        messages = new CircularObservableList<>(maxPending);
+        eventStudio().add(MaxLogRowsChangedEvent.class, e -> {
+            maxPending = app().persistentSettings().get(LOGVIEW_ROWS_NUMBER);
+            messages.setMaxCapacity(maxPending);
+        });
+        messages.addListener(this::onMessagesChanged);
         setId("log-view");
-        setItems(items);
+        setItems(messages);
         getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         setCellFactory(list -> new TextCell());
         eventStudio().addAnnotatedListeners(this);
@@ -72,10 +107,126 @@ class LogListView extends ListView<LogMessage> {
 
     @EventListener
     public void onEvent(LogMessage event) {
-        Platform.runLater(() -> {
-            getItems().add(event);
+        pending.offer(event);
+        if (pendingCount.incrementAndGet() > maxPending && nonNull(pending.poll())) {
+            pendingCount.decrementAndGet();
+            dropped.incrementAndGet();
+            droppedTotal.incrementAndGet();
+        }
+        if (drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        List<LogMessage> batch = new ArrayList<>(pendingCount.get() + 1);
+        LogMessage current;
+        while (nonNull(current = pending.poll())) {
+            pendingCount.decrementAndGet();
+            batch.add(current);
+        }
+        long droppedLines = dropped.getAndSet(0);
+        if (droppedLines > 0) {
+            // leave room for the warning, otherwise the messages of this same batch would evict it
+            int exceeding = batch.size() - Math.max(0, maxPending - 1);
+            if (exceeding > 0) {
+                batch.subList(0, exceeding).clear();
+                droppedLines += exceeding;
+                droppedTotal.addAndGet(exceeding);
+            }
+            batch.add(0, new LogMessage(
+                    i18n().tr("{0} log lines dropped, the log view could not keep up", Long.toString(droppedLines)),
+                    LogLevel.WARN));
+        }
+        if (!batch.isEmpty()) {
+            messages.addAll(batch);
             scrollToBottomIfShowing();
-        });
+        }
+    }
+
+    private void onMessagesChanged(ListChangeListener.Change<? extends LogMessage> change) {
+        List<LogMessage> matching = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.wasRemoved()) {
+                if (change.getFrom() != 0 || change.getRemovedSize() > index.size()) {
+                    reindex();
+                    return;
+                }
+                if (change.getRemovedSize() == index.size()) {
+                    index.clear();
+                } else {
+                    change.getRemoved().forEach(index::evict);
+                }
+            }
+            if (change.wasAdded()) {
+                if (change.getFrom() != index.size()) {
+                    reindex();
+                    return;
+                }
+                for (LogMessage message : change.getAddedSubList()) {
+                    long sequence = index.add(message);
+                    if (!filter.isEmpty() && filter.matches(message)) {
+                        matching.add(message);
+                        filteredSequences.add(sequence);
+                    }
+                }
+            }
+        }
+        if (!filter.isEmpty()) {
+            int before = filteredSequences.size();
+            filteredSequences.removeLowerThan(index.first());
+            int evicted = before - filteredSequences.size();
+            if (evicted > 0) {
+                filtered.remove(0, evicted);
+            }
+            filtered.addAll(matching);
+        }
+    }
+
+    private void reindex() {
+        index.clear();
+        index.addAll(messages);
+        filter(filter);
+    }
+
+    /**
+     * Shows only the messages matching the given filter, or all of them if the filter is empty
+     */
+    void filter(LogFilter filter) {
+        this.filter = filter;
+        filteredSequences.clear();
+        if (filter.isEmpty()) {
+            filtered.clear();
+            setItems(messages);
+        } else {
+            long[] sequences = index.search(filter);
+            List<LogMessage> matching = new ArrayList<>(sequences.length);
+            for (long sequence : sequences) {
+                matching.add(messages.get((int) (sequence - index.first())));
+                filteredSequences.add(sequence);
+            }
+            filtered.setAll(matching);
+            setItems(filtered);
+        }
+        scrollToBottomIfShowing();
+    }
+
+    /**
+     * @return all the log messages, regardless of the filter currently shown
+     */
+    ObservableList<LogMessage> messages() {
+        return messages;
+    }
+
+    /**
+     * @return the total number of log messages dropped because the view could not keep up with them
+     */
+    long droppedCount() {
+        return droppedTotal.get();
     }
 
     public void scrollToBottomIfShowing() {
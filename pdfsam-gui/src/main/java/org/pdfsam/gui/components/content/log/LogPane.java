@@ -34,26 +34,41 @@ import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.model.io.FileType;
 import org.pdfsam.model.log.ClearLogRequest;
 import org.pdfsam.model.log.SaveLogRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.pdfsam.core.support.io.ObjectCollectionWriter.writeContent;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
 import static org.pdfsam.i18n.I18nContext.i18n;
 
 /**
- * Panel displaying log messages
+ * Panel displaying log messages. Saving and clearing the journal on disk are executed in background and the outcome of
+ * a save is reported through the log.
  *
  * @author Andrea Vacondio
  */
 public class LogPane extends BorderPane {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LogPane.class);
+
     private final LogListView logView;
+    private final LogJournal journal;
+    private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+        var thread = new Thread(r, "pdfsam-log-io");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Inject
-    public LogPane(LogListView view, LogPaneToolbar toolbar) {
+    public LogPane(LogListView view, LogPaneToolbar toolbar, LogJournal journal) {
         this.logView = view;
+        this.journal = journal;
         getStyleClass().addAll("logs-pane", "spaced-container");
         setCenter(this.logView);
         setTop(toolbar);
@@ -69,7 +84,7 @@ public class LogPane extends BorderPane {
         clearItem.setId("clearLogMenuItem");
         clearItem.setOnAction(e -> clearLog(null));
         // disable if there's no text
-        clearItem.disableProperty().bind(Bindings.isEmpty(logView.getItems()));
+        clearItem.disableProperty().bind(Bindings.isEmpty(logView.messages()));
 
         MenuItem selectAllItem = new MenuItem(i18n().tr("Select all"));
         selectAllItem.setId("selectAllLogMenuItem");
@@ -82,7 +97,13 @@ public class LogPane extends BorderPane {
         saveItem.setOnAction(e -> saveLog(null));
         // disable if there's no text
         saveItem.disableProperty().bind(clearItem.disableProperty());
-        logView.setContextMenu(new ContextMenu(copyItem, clearItem, selectAllItem, new SeparatorMenuItem(), saveItem));
+        MenuItem savePreviousItem = new MenuItem(i18n().tr("Save previous session log"));
+        savePreviousItem.setId("savePreviousLogMenuItem");
+        savePreviousItem.setOnAction(e -> savePreviousLog());
+        savePreviousItem.setDisable(!journal.hasPreviousSession());
+        logView.setContextMenu(
+                new ContextMenu(copyItem, clearItem, selectAllItem, new SeparatorMenuItem(), saveItem,
+                        savePreviousItem));
         eventStudio().addAnnotatedListeners(this);
     }
 
@@ -95,13 +116,37 @@ public class LogPane extends BorderPane {
             //            if (chosenFile.exists()) {
             //                 TODO show dialog? investigate. On Ubuntu it already asks confirmation.
             //            }
-            writeContent(logView.getItems()).to(saveTo);
+            io.execute(() -> {
+                try {
+                    journal.transferTo(saveTo.toPath());
+                    LOG.info(i18n().tr("File {0} saved", saveTo.toString()));
+                } catch (IOException e) {
+                    LOG.error(i18n().tr("Error saving content to file {0}", saveTo.toString()), e);
+                }
+            });
+        }
+    }
+
+    private void savePreviousLog() {
+        var fileChooser = Choosers.fileChooser(i18n().tr("Select where to save the log file"), FileType.LOG);
+        fileChooser.setInitialFileName("PDFsam-previous.log");
+        var saveTo = fileChooser.showSaveDialog(this.getScene().getWindow());
+        if (Objects.nonNull(saveTo)) {
+            io.execute(() -> {
+                try {
+                    journal.transferPreviousTo(saveTo.toPath());
+                    LOG.info(i18n().tr("File {0} saved", saveTo.toString()));
+                } catch (IOException e) {
+                    LOG.error(i18n().tr("Error saving content to file {0}", saveTo.toString()), e);
+                }
+            });
         }
     }
 
     @EventListener
     public void clearLog(ClearLogRequest request) {
-        logView.getItems().clear();
+        logView.messages().clear();
+        io.execute(journal::clear);
     }
 
     public void copyLog(Collection<LogMessage> selected) {
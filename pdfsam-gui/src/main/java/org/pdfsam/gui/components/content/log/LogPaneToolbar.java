@@ -21,7 +21,11 @@ package org.pdfsam.gui.components.content.log;
 import jakarta.inject.Inject;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
+import javafx.geometry.Orientation;
 import javafx.scene.control.Button;
+import javafx.scene.control.Separator;
+import javafx.scene.control.TextField;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.control.ToolBar;
 import javafx.scene.control.Tooltip;
 import org.pdfsam.model.log.ClearLogRequest;
@@ -30,6 +34,9 @@ import org.pdfsam.model.tool.Tool;
 import org.pdfsam.model.ui.SetActiveContentItemRequest;
 import org.pdfsam.ui.components.support.Style;
 
+import java.util.EnumSet;
+import java.util.List;
+
 import static org.pdfsam.core.context.ApplicationContext.app;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
 import static org.pdfsam.i18n.I18nContext.i18n;
@@ -41,17 +48,56 @@ import static org.pdfsam.i18n.I18nContext.i18n;
  */
 class LogPaneToolbar extends ToolBar {
 
+    private final LogListView logView;
+    private final List<LevelToggle> levelToggles = List.of(new LevelToggle(LogLevel.INFO, i18n().tr("Info")),
+            new LevelToggle(LogLevel.WARN, i18n().tr("Warnings")),
+            new LevelToggle(LogLevel.ERROR, i18n().tr("Errors")));
+    private final TextField searchField = new TextField();
+
     @Inject
     public LogPaneToolbar(LogListView logView) {
+        this.logView = logView;
         var clearItem = new ClearButton();
-        clearItem.disableProperty().bind(Bindings.isEmpty(logView.getItems()));
+        clearItem.disableProperty().bind(Bindings.isEmpty(logView.messages()));
         var saveItem = new SaveButton();
         saveItem.disableProperty().bind(clearItem.disableProperty());
         var closeItem = new CloseButton();
-        getItems().addAll(saveItem, clearItem, closeItem);
+        searchField.setId("logSearchField");
+        searchField.setPromptText(i18n().tr("Search"));
+        searchField.setTooltip(
+                new Tooltip(i18n().tr("Shows only the log messages containing words starting with the given text")));
+        searchField.textProperty().addListener((o, oldVal, newVal) -> applyFilter());
+        levelToggles.forEach(t -> t.selectedProperty().addListener((o, oldVal, newVal) -> applyFilter()));
+        getItems().addAll(saveItem, clearItem, new Separator(Orientation.VERTICAL));
+        getItems().addAll(levelToggles);
+        getItems().addAll(searchField, closeItem);
         getStyleClass().add("log-tool-bar");
     }
 
+    private void applyFilter() {
+        var levels = EnumSet.noneOf(LogLevel.class);
+        levelToggles.stream().filter(ToggleButton::isSelected).map(LevelToggle::level).forEach(levels::add);
+        logView.filter(LogFilter.of(levels, searchField.getText()));
+    }
+
+    static class LevelToggle extends ToggleButton {
+        private final LogLevel level;
+
+        public LevelToggle(LogLevel level, String text) {
+            this.level = level;
+            setText(text);
+            setSelected(true);
+            setId(level.style() + "-toggle");
+            setTooltip(new Tooltip(i18n().tr("Show or hide the log messages of this level")));
+            getStyleClass().addAll(Style.BUTTON.css());
+            getStyleClass().addAll(Style.TOOLBAR_BUTTON.css());
+        }
+
+        LogLevel level() {
+            return level;
+        }
+    }
+
     static class ClearButton extends Button {
         public ClearButton() {
             setTooltip(new Tooltip(i18n().tr("Removes all the log messages")));
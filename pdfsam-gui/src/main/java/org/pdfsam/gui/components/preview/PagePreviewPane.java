@@ -0,0 +1,134 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.preview;
+
+import jakarta.inject.Inject;
+import javafx.application.Platform;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.BorderPane;
+import org.pdfsam.eventstudio.annotation.EventListener;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.model.ui.ShowPagePreviewRequest;
+import org.pdfsam.service.pdf.RenderedPage;
+import org.pdfsam.service.pdf.ThumbnailService;
+import org.pdfsam.service.pdf.ThumbnailService.ThumbnailRequest;
+import org.pdfsam.ui.components.support.Style;
+
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * Panel showing the thumbnails of the pages of a pdf document. Only the visible cells request a thumbnail and the
+ * request is cancelled when the cell is scrolled away and reused for a different page.
+ *
+ * @author Andrea Vacondio
+ */
+class PagePreviewPane extends BorderPane {
+
+    static final float THUMBNAIL_SCALE = 0.25f;
+
+    private final ThumbnailService thumbnails;
+    private final Label title = new Label();
+    private final ListView<Integer> pages = new ListView<>();
+    private PdfDocumentDescriptor descriptor;
+
+    @Inject
+    PagePreviewPane(ThumbnailService thumbnails) {
+        this.thumbnails = thumbnails;
+        getStyleClass().addAll(Style.CONTAINER.css());
+        pages.setCellFactory(l -> new PageCell());
+        setTop(title);
+        setCenter(pages);
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    @EventListener
+    void requestShow(ShowPagePreviewRequest event) {
+        if (descriptor != event.descriptor()) {
+            clear();
+            descriptor = event.descriptor();
+            title.setText(descriptor.getFileName());
+            pages.getItems().setAll(IntStream.rangeClosed(1, descriptor.pages().getValue()).boxed().toList());
+        }
+    }
+
+    /**
+     * Removes the displayed document, cancelling the pending thumbnail requests
+     */
+    void clear() {
+        descriptor = null;
+        title.setText("");
+        pages.getItems().clear();
+    }
+
+    ListView<Integer> pages() {
+        return pages;
+    }
+
+    private static Image toImage(RenderedPage page) {
+        WritableImage image = new WritableImage(page.width(), page.height());
+        image.getPixelWriter().setPixels(0, 0, page.width(), page.height(), PixelFormat.getIntArgbInstance(),
+                page.pixels(), 0, page.width());
+        return image;
+    }
+
+    private class PageCell extends ListCell<Integer> {
+        private final ImageView thumbnail = new ImageView();
+        private ThumbnailRequest request;
+
+        PageCell() {
+            setContentDisplay(ContentDisplay.TOP);
+        }
+
+        @Override
+        protected void updateItem(Integer page, boolean empty) {
+            super.updateItem(page, empty);
+            if (nonNull(request)) {
+                request.cancel();
+                request = null;
+            }
+            thumbnail.setImage(null);
+            if (empty || isNull(page) || isNull(descriptor)) {
+                setText(null);
+                setGraphic(null);
+            } else {
+                setText(i18n().tr("Page {0}", page.toString()));
+                setGraphic(thumbnail);
+                var current = descriptor;
+                request = thumbnails.request(current, page, THUMBNAIL_SCALE, rendered -> Platform.runLater(() -> {
+                    if (current == descriptor && Objects.equals(getItem(), page)) {
+                        thumbnail.setImage(toImage(rendered));
+                    }
+                }));
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.preview;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.layout.BorderPane;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+import org.pdfsam.ui.components.commons.ClosePane;
+import org.pdfsam.ui.components.commons.HideOnEscapeHandler;
+import org.pdfsam.ui.components.support.Style;
+
+import java.util.List;
+
+import static org.pdfsam.core.context.ApplicationContext.app;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * Stage for the pages preview panel
+ *
+ * @author Andrea Vacondio
+ */
+class PagePreviewStage extends Stage {
+
+    @Inject
+    public PagePreviewStage(PagePreviewPane previewPane, @Named("icons") List<Image> logos) {
+        BorderPane containerPane = new BorderPane();
+        containerPane.getStyleClass().addAll(Style.CONTAINER.css());
+        containerPane.setCenter(previewPane);
+        containerPane.setBottom(new ClosePane());
+        Scene scene = new Scene(containerPane, 400, 700);
+        scene.setOnKeyReleased(new HideOnEscapeHandler(this));
+        setScene(scene);
+        app().registerScene(scene);
+        setTitle(i18n().tr("Pages preview"));
+        getIcons().addAll(logos);
+        addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> previewPane.clear());
+    }
+
+}
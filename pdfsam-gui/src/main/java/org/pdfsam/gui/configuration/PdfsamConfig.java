@@ -38,6 +38,7 @@ import org.pdfsam.gui.components.dialog.SaveWorkspaceConfirmationDialogControlle
 import org.pdfsam.gui.components.dnd.FilesDropController;
 import org.pdfsam.gui.components.info.InfoStageController;
 import org.pdfsam.gui.components.notification.NotificationsController;
+import org.pdfsam.gui.components.preview.PagePreviewStageController;
 import org.pdfsam.gui.io.NativeOpenFileController;
 import org.pdfsam.gui.io.NativeOpenUrlController;
 import org.pdfsam.gui.sound.PlaySoundController;
@@ -54,7 +55,7 @@ import org.pdfsam.injector.Provides;
         ClearToolConfirmationDialogController.class, SaveWorkspaceConfirmationDialogController.class,
         LenientTaskExecutionDialogController.class, FilesDropController.class, AppContentController.class,
         RunAcceleratorController.class, AboutContentItem.class, PreferenceContentItem.class, HomeContentItem.class,
-        LogContentItem.class })
+        LogContentItem.class, PagePreviewStageController.class })
 public class PdfsamConfig {
 
     private final HostServices services;
@@ -26,11 +26,16 @@ import org.pdfsam.service.news.NewsService;
 import org.pdfsam.service.pdf.BookmarksLevelSAMBoxLoader;
 import org.pdfsam.service.pdf.DefaultPdfLoadService;
 import org.pdfsam.service.pdf.DefaultSAMBoxLoader;
+import org.pdfsam.service.pdf.DefaultThumbnailService;
+import org.pdfsam.service.pdf.PageSizesSAMBoxLoader;
 import org.pdfsam.service.pdf.PdfLoadController;
 import org.pdfsam.service.pdf.PdfLoadService;
+import org.pdfsam.service.pdf.SAMBoxPageRenderer;
+import org.pdfsam.service.pdf.ThumbnailService;
 import org.pdfsam.service.premium.DefaultPremiumToolsService;
 import org.pdfsam.service.premium.PremiumToolsController;
 import org.pdfsam.service.premium.PremiumToolsService;
+import org.pdfsam.service.task.OutputPlanController;
 import org.pdfsam.service.task.TaskExecutionController;
 import org.pdfsam.service.tool.DefaultUsageService;
 import org.pdfsam.service.tool.UsageService;
@@ -55,7 +60,7 @@ import java.util.Arrays;
  */
 @Components({ NewsController.class, PdfLoadController.class, PremiumToolsController.class,
         TaskExecutionController.class, WorkspaceController.class, StageServiceController.class,
-        UpdatesController.class })
+        UpdatesController.class, OutputPlanController.class })
 public class ServicesConfig {
 
     @Provides
@@ -65,7 +70,13 @@ public class ServicesConfig {
 
     @Provides
     PdfLoadService loadService() {
-        return new DefaultPdfLoadService(Arrays.asList(new DefaultSAMBoxLoader(), new BookmarksLevelSAMBoxLoader()));
+        return new DefaultPdfLoadService(Arrays.asList(new DefaultSAMBoxLoader(), new BookmarksLevelSAMBoxLoader(),
+                new PageSizesSAMBoxLoader()));
+    }
+
+    @Provides
+    ThumbnailService thumbnails() {
+        return new DefaultThumbnailService(new SAMBoxPageRenderer());
     }
 
     @Provides
@@ -10,6 +10,7 @@ import org.pdfsam.core.context.ApplicationRuntimeState;
 import org.pdfsam.eventstudio.Listener;
 import org.pdfsam.test.ClearEventStudioExtension;
 import org.pdfsam.test.DefaultPriorityTestTool;
+import org.pdfsam.ui.components.tool.DryRunTriggerRequest;
 import org.pdfsam.ui.components.tool.RunButtonTriggerRequest;
 
 import java.util.Optional;
@@ -72,4 +73,13 @@ class RunAcceleratorControllerTest {
         victim.onRunButtonAccelerator(RunButtonTriggerRequest.INSTANCE);
         verify(listener, never()).onEvent(ArgumentMatchers.any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void dryRunRequestIsSent() {
+        when(runtimeState.activeToolValue()).thenReturn(Optional.of(new DefaultPriorityTestTool()));
+        Listener<DryRunTriggerRequest> listener = mock(Listener.class);
+        eventStudio().add(DryRunTriggerRequest.class, listener, DefaultPriorityTestTool.ID);
+        victim.onDryRunAccelerator(DryRunTriggerRequest.INSTANCE);
+        verify(listener).onEvent(DryRunTriggerRequest.INSTANCE);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.content.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class LogFilterTest {
+
+    @Test
+    public void tokens() {
+        assertEquals(List.of("unable", "to", "read", "page", "3", "file", "pdf"),
+                List.copyOf(LogFilter.tokens("Unable to read page 3: file.pdf? file")));
+        assertTrue(LogFilter.tokens("  ").isEmpty());
+        assertTrue(LogFilter.tokens(null).isEmpty());
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(LogFilter.NONE.isEmpty());
+        assertTrue(LogFilter.of(EnumSet.allOf(LogLevel.class), " ").isEmpty());
+        assertFalse(LogFilter.of(EnumSet.allOf(LogLevel.class), "split").isEmpty());
+        assertFalse(LogFilter.of(EnumSet.of(LogLevel.ERROR), "").isEmpty());
+    }
+
+    @Test
+    public void matches() {
+        var message = new LogMessage("Unable to read page 3", LogLevel.WARN);
+        assertTrue(LogFilter.of(EnumSet.allOf(LogLevel.class), "unab PAGE").matches(message));
+        assertFalse(LogFilter.of(EnumSet.allOf(LogLevel.class), "nable").matches(message));
+        assertFalse(LogFilter.of(EnumSet.of(LogLevel.ERROR), "unable").matches(message));
+        assertTrue(LogFilter.of(EnumSet.of(LogLevel.WARN), "").matches(message));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.content.log;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class LogIndexTest {
+
+    private LogIndex victim;
+
+    @BeforeEach
+    public void setUp() {
+        victim = new LogIndex();
+        victim.add(new LogMessage("Starting split task", LogLevel.INFO));
+        victim.add(new LogMessage("Unable to read page 3", LogLevel.WARN));
+        victim.add(new LogMessage("Split task failed", LogLevel.ERROR));
+        victim.add(new LogMessage("Task completed", LogLevel.INFO));
+    }
+
+    @Test
+    public void noFilter() {
+        assertArrayEquals(new long[] { 0, 1, 2, 3 }, victim.search(LogFilter.NONE));
+    }
+
+    @Test
+    public void levels() {
+        assertArrayEquals(new long[] { 1, 2 },
+                victim.search(LogFilter.of(EnumSet.of(LogLevel.WARN, LogLevel.ERROR), "")));
+        assertArrayEquals(new long[0], victim.search(LogFilter.of(EnumSet.noneOf(LogLevel.class), "")));
+    }
+
+    @Test
+    public void prefix() {
+        assertArrayEquals(new long[] { 0, 2 }, victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "SPL")));
+        assertArrayEquals(new long[] { 0, 2, 3 }, victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "ta")));
+    }
+
+    @Test
+    public void allTermsAndLevels() {
+        assertArrayEquals(new long[] { 0, 2 },
+                victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "split task")));
+        assertArrayEquals(new long[] { 0 }, victim.search(LogFilter.of(EnumSet.of(LogLevel.INFO), "split task")));
+        assertArrayEquals(new long[0], victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "split chuck")));
+    }
+
+    @Test
+    public void evict() {
+        victim.evict(new LogMessage("Starting split task", LogLevel.INFO));
+        assertEquals(1, victim.first());
+        assertEquals(3, victim.size());
+        assertArrayEquals(new long[] { 2 }, victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "split")));
+        assertArrayEquals(new long[] { 3 }, victim.search(LogFilter.of(EnumSet.of(LogLevel.INFO), "")));
+        assertArrayEquals(new long[0], victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "starting")));
+    }
+
+    @Test
+    public void clear() {
+        victim.clear();
+        assertEquals(0, victim.size());
+        assertArrayEquals(new long[0], victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "split")));
+        assertEquals(4, victim.add(new LogMessage("Split again", LogLevel.INFO)));
+        assertArrayEquals(new long[] { 4 }, victim.search(LogFilter.of(EnumSet.allOf(LogLevel.class), "split")));
+    }
+
+    @Test
+    public void postingsGrowAcrossTheRing() {
+        var postings = new LogIndex.Postings();
+        for (long i = 0; i < 3; i++) {
+            postings.add(i);
+        }
+        postings.removeFirst(0);
+        postings.removeFirst(1);
+        for (long i = 3; i < 10; i++) {
+            postings.add(i);
+        }
+        assertArrayEquals(new long[] { 2, 3, 4, 5, 6, 7, 8, 9 }, postings.toArray());
+        postings.removeLowerThan(5);
+        assertEquals(5, postings.first());
+        assertEquals(5, postings.size());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.content.log;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class LogJournalTest {
+
+    @TempDir
+    private Path folder;
+    private Path journalDirectory;
+    private LogJournal victim;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        journalDirectory = Files.createDirectory(folder.resolve("journal"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (victim != null) {
+            victim.close();
+        }
+    }
+
+    @Test
+    public void transferTo() throws IOException {
+        victim = new LogJournal(journalDirectory, LogJournal.DEFAULT_SEGMENT_SIZE, LogJournal.DEFAULT_MAX_SEGMENTS);
+        victim.onEvent(new LogMessage("A message", LogLevel.INFO));
+        victim.onEvent(new LogMessage("An Error message", LogLevel.ERROR));
+        Path destination = folder.resolve("saved.log");
+        victim.transferTo(destination);
+        assertEquals(List.of("A message", "An Error message"), Files.readAllLines(destination));
+    }
+
+    @Test
+    public void rotation() throws IOException {
+        victim = new LogJournal(journalDirectory, 20, 2);
+        for (int i = 0; i < 10; i++) {
+            victim.onEvent(new LogMessage("message number " + i, LogLevel.INFO));
+            victim.transferTo(folder.resolve("saved.log"));
+        }
+        assertEquals(2, victim.segments().size());
+        assertEquals(List.of("message number 8", "message number 9"),
+                Files.readAllLines(folder.resolve("saved.log")));
+        try (var files = Files.list(journalDirectory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void clear() throws IOException {
+        victim = new LogJournal(journalDirectory, LogJournal.DEFAULT_SEGMENT_SIZE, LogJournal.DEFAULT_MAX_SEGMENTS);
+        victim.onEvent(new LogMessage("A message", LogLevel.INFO));
+        victim.transferTo(folder.resolve("saved.log"));
+        victim.clear();
+        assertTrue(victim.segments().isEmpty());
+        victim.onEvent(new LogMessage("Another message", LogLevel.INFO));
+        victim.transferTo(folder.resolve("saved.log"));
+        assertEquals(List.of("Another message"), Files.readAllLines(folder.resolve("saved.log")));
+    }
+
+    @Test
+    public void close() throws IOException {
+        victim = new LogJournal(journalDirectory, LogJournal.DEFAULT_SEGMENT_SIZE, LogJournal.DEFAULT_MAX_SEGMENTS);
+        victim.onEvent(new LogMessage("A message", LogLevel.INFO));
+        victim.transferTo(folder.resolve("saved.log"));
+        victim.close();
+        assertEquals(1, victim.segments().size());
+        assertTrue(Files.exists(victim.segments().get(0)));
+    }
+
+    @Test
+    public void previousSession() throws IOException {
+        var first = new LogJournal(journalDirectory, "0000000000001-1", LogJournal.DEFAULT_SEGMENT_SIZE,
+                LogJournal.DEFAULT_MAX_SEGMENTS);
+        assertFalse(first.hasPreviousSession());
+        first.onEvent(new LogMessage("First session", LogLevel.INFO));
+        first.transferTo(folder.resolve("saved.log"));
+        first.close();
+        victim = new LogJournal(journalDirectory, "0000000000002-1", LogJournal.DEFAULT_SEGMENT_SIZE,
+                LogJournal.DEFAULT_MAX_SEGMENTS);
+        assertTrue(victim.hasPreviousSession());
+        victim.onEvent(new LogMessage("Second session", LogLevel.INFO));
+        victim.transferTo(folder.resolve("saved.log"));
+        assertEquals(List.of("Second session"), Files.readAllLines(folder.resolve("saved.log")));
+        victim.transferPreviousTo(folder.resolve("previous.log"));
+        assertEquals(List.of("First session"), Files.readAllLines(folder.resolve("previous.log")));
+    }
+
+    @Test
+    public void pruneOlderSessions() throws IOException {
+        Files.writeString(journalDirectory.resolve("session-0000000000001-1-000001.log"), "oldest");
+        Files.writeString(journalDirectory.resolve("session-0000000000002-1-000001.log"), "previous");
+        Files.writeString(journalDirectory.resolve("session-0000000000002-1-000002.log"), "previous2");
+        Files.writeString(journalDirectory.resolve("unrelated.txt"), "unrelated");
+        victim = new LogJournal(journalDirectory, "0000000000003-1", LogJournal.DEFAULT_SEGMENT_SIZE,
+                LogJournal.DEFAULT_MAX_SEGMENTS);
+        assertFalse(Files.exists(journalDirectory.resolve("session-0000000000001-1-000001.log")));
+        assertTrue(Files.exists(journalDirectory.resolve("unrelated.txt")));
+        victim.transferPreviousTo(folder.resolve("previous.log"));
+        assertEquals("previousprevious2", Files.readString(folder.resolve("previous.log")));
+    }
+}
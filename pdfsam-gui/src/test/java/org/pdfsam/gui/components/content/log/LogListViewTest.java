@@ -18,14 +18,21 @@
  */
 package org.pdfsam.gui.components.content.log;
 
+import javafx.application.Platform;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.pdfsam.core.context.IntegerPersistentProperty;
 import org.pdfsam.test.ClearEventStudioExtension;
 import org.pdfsam.test.JavaFxThreadInitializeExtension;
 
+import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static java.time.Duration.ofSeconds;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.pdfsam.core.context.ApplicationContext.app;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
 
@@ -77,4 +84,70 @@ public class LogListViewTest {
         await().atMost(ofSeconds(2)).until(() -> victim.getItems().get(0).message(), "anotherTestMessage3"::equals);
         await().atMost(ofSeconds(2)).until(() -> victim.getItems().get(1).message(), "anotherTestMessage4"::equals);
     }
+
+    @Test
+    public void appendInBatch() {
+        app().persistentSettings().set(IntegerPersistentProperty.LOGVIEW_ROWS_NUMBER, 200);
+        LogListView victim = new LogListView();
+        CountDownLatch fxThread = blockFxThread();
+        for (int i = 0; i < 10; i++) {
+            victim.onEvent(new LogMessage("message" + i, LogLevel.INFO));
+        }
+        fxThread.countDown();
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().size() == 10);
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().get(0).message(), "message0"::equals);
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().get(9).message(), "message9"::equals);
+        assertEquals(0, victim.droppedCount());
+    }
+
+    @Test
+    public void dropWhenFallingBehind() {
+        app().persistentSettings().set(IntegerPersistentProperty.LOGVIEW_ROWS_NUMBER, 5);
+        LogListView victim = new LogListView();
+        CountDownLatch fxThread = blockFxThread();
+        for (int i = 0; i < 20; i++) {
+            victim.onEvent(new LogMessage("message" + i, LogLevel.INFO));
+        }
+        assertEquals(15, victim.droppedCount());
+        fxThread.countDown();
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().size() == 5);
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().get(0).level(), LogLevel.WARN::equals);
+        assertTrue(victim.getItems().get(0).message().startsWith("16 "));
+        assertEquals("message16", victim.getItems().get(1).message());
+        assertEquals("message19", victim.getItems().get(4).message());
+        assertEquals(16, victim.droppedCount());
+    }
+
+    @Test
+    public void filter() {
+        app().persistentSettings().set(IntegerPersistentProperty.LOGVIEW_ROWS_NUMBER, 3);
+        LogListView victim = new LogListView();
+        victim.onEvent(new LogMessage("Split started", LogLevel.INFO));
+        victim.onEvent(new LogMessage("Unable to read", LogLevel.WARN));
+        victim.onEvent(new LogMessage("Split failed", LogLevel.ERROR));
+        await().atMost(ofSeconds(2)).until(() -> victim.messages().size() == 3);
+        Platform.runLater(() -> victim.filter(LogFilter.of(EnumSet.allOf(LogLevel.class), "spli")));
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().size() == 2);
+        victim.onEvent(new LogMessage("Split completed", LogLevel.INFO));
+        await().atMost(ofSeconds(2)).until(() -> victim.messages().get(2).message(), "Split completed"::equals);
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().size() == 2);
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().get(0).message(), "Split failed"::equals);
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().get(1).message(), "Split completed"::equals);
+        Platform.runLater(() -> victim.filter(LogFilter.of(EnumSet.of(LogLevel.WARN), "")));
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems().size() == 1);
+        Platform.runLater(() -> victim.filter(LogFilter.NONE));
+        await().atMost(ofSeconds(2)).until(() -> victim.getItems() == victim.messages());
+    }
+
+    private static CountDownLatch blockFxThread() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return latch;
+    }
 }
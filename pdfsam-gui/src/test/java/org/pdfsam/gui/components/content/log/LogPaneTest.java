@@ -49,8 +49,8 @@ public class LogPaneTest {
     static class Config {
 
         @Provides
-        public LogPane pane(LogListView view, LogPaneToolbar toolbar) {
-            return new LogPane(view, toolbar);
+        public LogPane pane(LogListView view, LogPaneToolbar toolbar, LogJournal journal) {
+            return new LogPane(view, toolbar, journal);
         }
 
         @Provides
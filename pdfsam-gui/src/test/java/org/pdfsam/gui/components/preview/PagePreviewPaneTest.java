@@ -0,0 +1,102 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.gui.components.preview;
+
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.model.ui.ShowPagePreviewRequest;
+import org.pdfsam.service.pdf.RenderedPage;
+import org.pdfsam.service.pdf.ThumbnailService;
+import org.pdfsam.test.ClearEventStudioExtension;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static java.time.Duration.ofSeconds;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
+
+/**
+ * @author Andrea Vacondio
+ */
+@ExtendWith({ ClearEventStudioExtension.class, ApplicationExtension.class })
+public class PagePreviewPaneTest {
+
+    private final FakeThumbnails thumbnails = new FakeThumbnails();
+    private PagePreviewPane victim;
+    private PdfDocumentDescriptor descriptor;
+
+    @Start
+    public void start(Stage stage) {
+        victim = new PagePreviewPane(thumbnails);
+        descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(mock(File.class));
+        descriptor.pages(3);
+        stage.setScene(new Scene(victim, 300, 1000));
+        stage.show();
+    }
+
+    @Test
+    public void showRequest(FxRobot robot) {
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> eventStudio().broadcast(new ShowPagePreviewRequest(descriptor)));
+        assertEquals(List.of(1, 2, 3), victim.pages().getItems());
+        await().atMost(ofSeconds(2)).until(() -> thumbnails.consumers.keySet().containsAll(List.of(1, 2, 3)));
+        WaitForAsyncUtils.waitForAsyncFx(2000,
+                () -> thumbnails.consumers.get(1).accept(new RenderedPage(1, 1, new int[] { 0xFF000000 })));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(robot.lookup(".list-cell").queryAllAs(ListCell.class).stream()
+                .anyMatch(c -> c.getGraphic() instanceof ImageView view && view.getImage() != null));
+    }
+
+    @Test
+    public void clearCancels() {
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> eventStudio().broadcast(new ShowPagePreviewRequest(descriptor)));
+        await().atMost(ofSeconds(2)).until(() -> thumbnails.consumers.keySet().containsAll(List.of(1, 2, 3)));
+        WaitForAsyncUtils.waitForAsyncFx(2000, victim::clear);
+        assertTrue(victim.pages().getItems().isEmpty());
+        await().atMost(ofSeconds(2)).until(() -> thumbnails.cancelled.containsAll(List.of(1, 2, 3)));
+    }
+
+    private static class FakeThumbnails implements ThumbnailService {
+        private final Map<Integer, Consumer<RenderedPage>> consumers = new ConcurrentHashMap<>();
+        private final List<Integer> cancelled = new CopyOnWriteArrayList<>();
+
+        @Override
+        public ThumbnailRequest request(PdfDocumentDescriptor descriptor, int page, float scale,
+                Consumer<RenderedPage> onRendered) {
+            consumers.put(page, onRendered);
+            return () -> cancelled.add(page);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.io;
+
+import java.io.File;
+
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * Snapshot of the attributes of a file, taken at a given point in time so that they can be displayed and compared
+ * without hitting the file system every time.
+ *
+ * @param size         the file size in bytes, 0 if the file doesn't exist
+ * @param lastModified the last modified time in milliseconds since the epoch, 0 if the file doesn't exist
+ * @author Andrea Vacondio
+ */
+public record FileAttributes(long size, long lastModified) {
+
+    public static final FileAttributes EMPTY = new FileAttributes(0, 0);
+
+    /**
+     * @param file
+     * @return a snapshot of the current attributes of the given file
+     */
+    public static FileAttributes of(File file) {
+        requireNotNullArg(file, "File cannot be null");
+        return new FileAttributes(file.length(), file.lastModified());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.pdf;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * Flat index of the document outline, in document order, holding for each bookmark pointing to a page of the document
+ * its level, title and target page.
+ *
+ * @param entries the indexed bookmarks
+ * @author Andrea Vacondio
+ */
+public record OutlineIndex(List<Entry> entries) {
+
+    public OutlineIndex {
+        requireNotNullArg(entries, "Entries cannot be null");
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * @return the levels having at least one bookmark pointing to a page
+     */
+    public SortedSet<Integer> levels() {
+        return entries.stream().map(Entry::level).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @param level  the outline level
+     * @param regexp optional regular expression the bookmark title has to match
+     * @return the target pages of the bookmarks at the given level matching the given regular expression
+     * @throws PatternSyntaxException if the regular expression is not valid
+     */
+    public SortedSet<Integer> pages(int level, String regexp) {
+        Pattern pattern = isBlank(regexp) ? null : Pattern.compile(regexp);
+        return entries.stream().filter(e -> e.level() == level)
+                .filter(e -> Objects.isNull(pattern) || pattern.matcher(e.title()).matches()).map(Entry::page)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @param level  the outline level
+     * @param regexp optional regular expression the bookmark title has to match
+     * @return the number of documents a split at the given level would generate. The split happens before every target
+     * page, pages before the first one are a document on their own.
+     * @throws PatternSyntaxException if the regular expression is not valid
+     */
+    public int files(int level, String regexp) {
+        SortedSet<Integer> pages = pages(level, regexp);
+        if (pages.isEmpty() || pages.first() == 1) {
+            return pages.size();
+        }
+        return pages.size() + 1;
+    }
+
+    /**
+     * A bookmark of the outline
+     *
+     * @param level one based depth of the bookmark in the outline tree
+     * @param title title of the bookmark
+     * @param page  one based target page
+     */
+    public record Entry(int level, String title, int page) {
+        public Entry {
+            title = defaultString(title);
+        }
+    }
+}
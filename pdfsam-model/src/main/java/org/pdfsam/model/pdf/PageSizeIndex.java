@@ -0,0 +1,125 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.pdf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.sejda.commons.util.RequireUtils.requireArg;
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * Index of the estimated contribution of each page to the size of a document. Every page has the size of the objects
+ * it alone uses and the list of the resources it shares with other pages, so that the size of any set of contiguous
+ * pages can be estimated counting shared resources only once.
+ *
+ * @author Andrea Vacondio
+ */
+public final class PageSizeIndex {
+
+    private final long overhead;
+    private final long[] pageSizes;
+    private final int[][] pageResources;
+    private final long[] resourceSizes;
+
+    /**
+     * @param overhead      size of a document with no pages
+     * @param pageSizes     size of the objects used only by each page
+     * @param pageResources for each page, the indexes in resourceSizes of the resources it shares with other pages
+     * @param resourceSizes size of each shared resource
+     */
+    public PageSizeIndex(long overhead, long[] pageSizes, int[][] pageResources, long[] resourceSizes) {
+        requireNotNullArg(pageSizes, "Page sizes cannot be null");
+        requireNotNullArg(pageResources, "Page resources cannot be null");
+        requireNotNullArg(resourceSizes, "Resource sizes cannot be null");
+        requireArg(pageSizes.length == pageResources.length, "Page sizes and resources must have the same length");
+        this.overhead = overhead;
+        this.pageSizes = pageSizes.clone();
+        this.pageResources = Arrays.stream(pageResources).map(int[]::clone).toArray(int[][]::new);
+        this.resourceSizes = resourceSizes.clone();
+    }
+
+    /**
+     * @return the number of indexed pages
+     */
+    public int pages() {
+        return pageSizes.length;
+    }
+
+    /**
+     * @return the estimated size of a document made of the pages from start to end (inclusive, one based)
+     */
+    public long estimatedSize(int start, int end) {
+        requireArg(start >= 1 && start <= end && end <= pages(), "Invalid pages interval");
+        BitSet counted = new BitSet(resourceSizes.length);
+        long size = overhead;
+        for (int page = start; page <= end; page++) {
+            size += contribution(page, counted);
+            markResources(page, counted);
+        }
+        return size;
+    }
+
+    /**
+     * Plans the cuts to split the document in parts whose estimated size doesn't exceed the given threshold, unless a
+     * single page exceeds it.
+     *
+     * @return the pages (one based) after which the document should be split, empty if no cut is needed
+     */
+    public List<Integer> splitAfter(long threshold) {
+        List<Integer> cuts = new ArrayList<>();
+        BitSet counted = new BitSet(resourceSizes.length);
+        long size = overhead;
+        boolean empty = true;
+        for (int page = 1; page <= pages(); page++) {
+            long contribution = contribution(page, counted);
+            if (!empty && size + contribution > threshold) {
+                cuts.add(page - 1);
+                counted.clear();
+                size = overhead + contribution(page, counted);
+            } else {
+                size += contribution;
+            }
+            markResources(page, counted);
+            empty = false;
+        }
+        return cuts;
+    }
+
+    /**
+     * @return the size the page adds to a document already containing the counted shared resources
+     */
+    private long contribution(int page, BitSet counted) {
+        long size = pageSizes[page - 1];
+        for (int resource : pageResources[page - 1]) {
+            if (!counted.get(resource)) {
+                size += resourceSizes[resource];
+            }
+        }
+        return size;
+    }
+
+    private void markResources(int page, BitSet counted) {
+        for (int resource : pageResources[page - 1]) {
+            counted.set(resource);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import javafx.beans.value.ObservableValue;
 import org.apache.commons.lang3.StringUtils;
 import org.pdfsam.i18n.I18nContext;
 import org.pdfsam.model.ObservableAtomicReference;
+import org.pdfsam.model.io.FileAttributes;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.pdf.PdfVersion;
@@ -30,11 +31,13 @@ import java.io.File;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -57,6 +60,9 @@ public class PdfDocumentDescriptor {
     private PdfVersion version;
     private final Map<String, String> metadata = new HashMap<>();
     private SortedSet<Integer> validBookmarksLevels = Collections.emptySortedSet();
+    private volatile PageSizeIndex pageSizeIndex;
+    private volatile OutlineIndex outlineIndex;
+    private volatile FileAttributes fileAttributes;
 
     private PdfDocumentDescriptor(File file, String password) {
         requireNotNullArg(file, "Input file is mandatory");
@@ -115,6 +121,30 @@ public class PdfDocumentDescriptor {
         loadingStatus.set(loadingStatus.getValue().moveTo(destination));
     }
 
+    /**
+     * Populates the descriptor with the given data, already known by the caller, and moves it to the
+     * {@link PdfDescriptorLoadingStatus#LOADED} status without going through an actual load of the document
+     *
+     * @param metadata
+     */
+    public void seed(PdfOutputMetadata metadata) {
+        requireNotNullArg(metadata, "Metadata cannot be null");
+        pages(metadata.pages());
+        setVersion(metadata.version());
+        moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
+        moveStatusTo(PdfDescriptorLoadingStatus.LOADING);
+        moveStatusTo(PdfDescriptorLoadingStatus.LOADED);
+    }
+
+    /**
+     * @return true if the descriptor has been successfully loaded already
+     */
+    public boolean isLoaded() {
+        var status = loadingStatus.getValue();
+        return status == PdfDescriptorLoadingStatus.LOADED
+                || status == PdfDescriptorLoadingStatus.LOADED_WITH_USER_PWD_DECRYPTION;
+    }
+
     public String getPassword() {
         return password;
     }
@@ -154,6 +184,51 @@ public class PdfDocumentDescriptor {
         return validBookmarksLevels;
     }
 
+    public void setOutlineIndex(OutlineIndex outlineIndex) {
+        this.outlineIndex = outlineIndex;
+    }
+
+    /**
+     * @return the index of the document outline, if it has been computed while loading the document
+     */
+    public Optional<OutlineIndex> getOutlineIndex() {
+        return ofNullable(outlineIndex);
+    }
+
+    public void setPageSizeIndex(PageSizeIndex pageSizeIndex) {
+        this.pageSizeIndex = pageSizeIndex;
+    }
+
+    /**
+     * @return the index of the pages size, if it has been computed while loading the document
+     */
+    public Optional<PageSizeIndex> getPageSizeIndex() {
+        return ofNullable(pageSizeIndex);
+    }
+
+    /**
+     * @return the snapshot of the file attributes, captured the first time they are requested if they haven't been
+     *         captured already
+     */
+    public FileAttributes getFileAttributes() {
+        var attributes = fileAttributes;
+        if (isNull(attributes)) {
+            attributes = captureFileAttributes();
+        }
+        return attributes;
+    }
+
+    /**
+     * Captures a new snapshot of the file attributes
+     *
+     * @return the captured attributes
+     */
+    public FileAttributes captureFileAttributes() {
+        var attributes = FileAttributes.of(file);
+        this.fileAttributes = attributes;
+        return attributes;
+    }
+
     /**
      * @return true if this descriptor has references, this can be false if the user deletes it from the UI and it tells to any service performing or about to perform some action
      *         on the descriptor that it should be ignored since not relevant anymore.
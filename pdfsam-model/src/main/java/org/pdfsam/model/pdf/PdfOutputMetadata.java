@@ -0,0 +1,40 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.pdf;
+
+import org.sejda.model.pdf.PdfVersion;
+
+import static org.sejda.commons.util.RequireUtils.requireArg;
+import static org.sejda.commons.util.RequireUtils.requireNotBlank;
+
+/**
+ * Data about a PDF document generated by a task, known by the task itself once the document has been written and that
+ * can be used to populate a {@link PdfDocumentDescriptor} without parsing the document again.
+ *
+ * @param name    the name of the generated file
+ * @param pages   the number of pages of the generated document
+ * @param version the version of the generated document, can be null if unknown
+ * @author Andrea Vacondio
+ */
+public record PdfOutputMetadata(String name, int pages, PdfVersion version) {
+    public PdfOutputMetadata {
+        requireNotBlank(name, "Output name cannot be blank");
+        requireArg(pages >= 0, "Number of pages cannot be negative");
+    }
+}
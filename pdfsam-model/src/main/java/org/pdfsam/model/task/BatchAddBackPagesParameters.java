@@ -0,0 +1,63 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import jakarta.validation.constraints.Min;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.sejda.model.parameter.AddBackPagesParameters;
+
+/**
+ * Parameters to add the same back pages to a large number of sources, processing up to {@link #getWorkers()} sources
+ * concurrently. Every source generates its own output document.
+ *
+ * @author Andrea Vacondio
+ */
+public class BatchAddBackPagesParameters extends AddBackPagesParameters {
+
+    @Min(1)
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * @return the maximum number of sources processed at the same time
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().appendSuper(super.hashCode()).append(workers).toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BatchAddBackPagesParameters params)) {
+            return false;
+        }
+        return new EqualsBuilder().appendSuper(super.equals(other)).append(workers, params.workers).isEquals();
+    }
+}
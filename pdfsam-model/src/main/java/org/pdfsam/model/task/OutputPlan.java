@@ -0,0 +1,46 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+import static org.sejda.commons.util.RequireUtils.requireNotBlank;
+
+/**
+ * The documents a task is expected to generate, computed without executing the task
+ *
+ * @param toolId  the tool the plan was requested for
+ * @param outputs the expected documents
+ * @author Andrea Vacondio
+ */
+public record OutputPlan(String toolId, List<PlannedOutput> outputs) {
+
+    public OutputPlan {
+        requireNotBlank(toolId, "Tool id cannot be blank");
+        outputs = List.copyOf(ofNullable(outputs).orElseGet(List::of));
+    }
+
+    /**
+     * @return the estimated size in bytes of all the generated documents
+     */
+    public long estimatedSize() {
+        return outputs.stream().mapToLong(PlannedOutput::estimatedSize).sum();
+    }
+}
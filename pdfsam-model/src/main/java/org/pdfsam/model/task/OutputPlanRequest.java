@@ -0,0 +1,45 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.sejda.model.parameter.base.AbstractParameters;
+
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+import static org.sejda.commons.util.RequireUtils.requireNotBlank;
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * Request to compute the {@link OutputPlan} of the given parameters, without executing them
+ *
+ * @param toolId      the tool requesting the plan
+ * @param parameters  the parameters built by the tool
+ * @param descriptors the loaded descriptors of the documents used by the parameters
+ * @author Andrea Vacondio
+ */
+public record OutputPlanRequest(String toolId, AbstractParameters parameters, List<PdfDocumentDescriptor> descriptors) {
+
+    public OutputPlanRequest {
+        requireNotBlank(toolId, "Tool id cannot be blank");
+        requireNotNullArg(parameters, "Task parameters cannot be null");
+        descriptors = List.copyOf(ofNullable(descriptors).orElseGet(List::of));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.sejda.model.parameter.AbstractSplitByPageParameters;
+
+import java.util.Set;
+
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * Parameters to split a document at the pages defined by the given split parameters, writing the generated documents
+ * concurrently using the given number of workers. Every worker reads from its own instance of the source document.
+ *
+ * @author Andrea Vacondio
+ */
+public class ParallelSplitByPageParameters extends AbstractSplitByPageParameters {
+
+    @Valid
+    @NotNull
+    private final AbstractSplitByPageParameters splitParameters;
+    @Min(1)
+    private final int workers;
+
+    /**
+     * @param splitParameters parameters defining where to split, their output, source and settings are copied
+     * @param workers         number of documents written concurrently
+     */
+    public ParallelSplitByPageParameters(AbstractSplitByPageParameters splitParameters, int workers) {
+        requireNotNullArg(splitParameters, "Split parameters cannot be null");
+        this.splitParameters = splitParameters;
+        this.workers = workers;
+        setCompress(splitParameters.isCompress());
+        setVersion(splitParameters.getVersion());
+        setExistingOutputPolicy(splitParameters.getExistingOutputPolicy());
+        setOutput(splitParameters.getOutput());
+        setOutputPrefix(splitParameters.getOutputPrefix());
+        setOptimizationPolicy(splitParameters.getOptimizationPolicy());
+        discardOutline(splitParameters.discardOutline());
+        splitParameters.getSourceList().forEach(this::addSource);
+    }
+
+    @Override
+    public Set<Integer> getPages(int upperLimit) {
+        return splitParameters.getPages(upperLimit);
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().appendSuper(super.hashCode()).append(splitParameters).append(workers)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ParallelSplitByPageParameters params)) {
+            return false;
+        }
+        return new EqualsBuilder().appendSuper(super.equals(other)).append(splitParameters, params.splitParameters)
+                .append(workers, params.workers).isEquals();
+    }
+}
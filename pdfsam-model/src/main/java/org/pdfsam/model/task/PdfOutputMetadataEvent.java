@@ -0,0 +1,49 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import org.pdfsam.model.pdf.PdfOutputMetadata;
+import org.sejda.model.notification.event.AbstractNotificationEvent;
+import org.sejda.model.task.NotifiableTaskMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Notification event a task can send to publish metadata about the PDF documents it generated, so that they can be
+ * used as input of another tool without being loaded again.
+ *
+ * @author Andrea Vacondio
+ */
+public class PdfOutputMetadataEvent extends AbstractNotificationEvent {
+
+    private final List<PdfOutputMetadata> outputs = new ArrayList<>();
+
+    public PdfOutputMetadataEvent(NotifiableTaskMetadata taskMetadata, List<PdfOutputMetadata> outputs) {
+        super(taskMetadata);
+        ofNullable(outputs).ifPresent(this.outputs::addAll);
+    }
+
+    public List<PdfOutputMetadata> outputs() {
+        return Collections.unmodifiableList(outputs);
+    }
+}
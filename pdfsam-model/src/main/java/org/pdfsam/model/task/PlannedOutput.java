@@ -0,0 +1,45 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import org.sejda.model.pdf.page.PageRange;
+
+import java.io.File;
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+import static org.sejda.commons.util.RequireUtils.requireNotBlank;
+
+/**
+ * A document a task is expected to generate
+ *
+ * @param name          the name of the generated document
+ * @param source        the document the pages are taken from
+ * @param pages         the pages of the source that end up in the generated document
+ * @param totalPages    the number of pages of the generated document, it can include pages from other documents
+ * @param estimatedSize the estimated size in bytes
+ * @author Andrea Vacondio
+ */
+public record PlannedOutput(String name, File source, List<PageRange> pages, int totalPages, long estimatedSize) {
+
+    public PlannedOutput {
+        requireNotBlank(name, "Output name cannot be blank");
+        pages = List.copyOf(ofNullable(pages).orElseGet(List::of));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.sejda.model.parameter.SplitBySizeParameters;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * Parameters to split a document in parts whose size doesn't exceed the given threshold, where the pages after which
+ * the document is split have been estimated up front. The planned cuts are only a hint, every part is measured once
+ * written and split further if it exceeds the threshold, so the generated documents satisfy the same constraint of
+ * {@link SplitBySizeParameters}.
+ *
+ * @author Andrea Vacondio
+ */
+public class PlannedSplitBySizeParameters extends SplitBySizeParameters {
+
+    @NotNull
+    private final SortedSet<Integer> plannedCuts;
+
+    /**
+     * @param sizeToSplitAt the maximum size of the generated documents
+     * @param plannedCuts   the estimated pages (one based) after which the document should be split
+     */
+    public PlannedSplitBySizeParameters(long sizeToSplitAt, Collection<Integer> plannedCuts) {
+        super(sizeToSplitAt);
+        requireNotNullArg(plannedCuts, "Planned cuts cannot be null");
+        this.plannedCuts = Collections.unmodifiableSortedSet(new TreeSet<>(plannedCuts));
+    }
+
+    /**
+     * @return the estimated pages after which the document should be split, in ascending order
+     */
+    public SortedSet<Integer> getPlannedCuts() {
+        return plannedCuts;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().appendSuper(super.hashCode()).append(plannedCuts).toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PlannedSplitBySizeParameters params)) {
+            return false;
+        }
+        return new EqualsBuilder().appendSuper(super.equals(other)).append(plannedCuts, params.plannedCuts)
+                .isEquals();
+    }
+}
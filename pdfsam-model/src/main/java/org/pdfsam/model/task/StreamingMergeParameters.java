@@ -0,0 +1,83 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import jakarta.validation.constraints.Min;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.sejda.model.parameter.MergeParameters;
+
+/**
+ * Parameters for a merge where at most {@link #getChunkSize()} input documents are open at the same time, intended to
+ * merge a large number of documents. Memory is bounded per chunk of inputs, the final document is still built in
+ * memory while it's written. Page selection, blank page if odd, version, compression and the optional deduplication of
+ * identical resources are honoured. Bookmarks, forms, table of contents, footer and page normalization policies are
+ * ignored.
+ *
+ * @author Andrea Vacondio
+ */
+public class StreamingMergeParameters extends MergeParameters {
+
+    public static final int DEFAULT_CHUNK_SIZE = 50;
+
+    @Min(2)
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean deduplicateResources;
+
+    /**
+     * @return the maximum number of documents that are kept open at the same time
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return true if identical streams (fonts, images, color profiles...) coming from different inputs should be
+     * written only once
+     */
+    public boolean isDeduplicateResources() {
+        return deduplicateResources;
+    }
+
+    public void setDeduplicateResources(boolean deduplicateResources) {
+        this.deduplicateResources = deduplicateResources;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().appendSuper(super.hashCode()).append(chunkSize).append(deduplicateResources)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof StreamingMergeParameters params)) {
+            return false;
+        }
+        return new EqualsBuilder().appendSuper(super.equals(other)).append(chunkSize, params.chunkSize)
+                .append(deduplicateResources, params.deduplicateResources).isEquals();
+    }
+}
@@ -25,5 +25,6 @@ package org.pdfsam.model.tool;
  */
 public enum RequiredPdfData {
     DEFAULT,
-    BOOMARKS
+    BOOMARKS,
+    PAGE_SIZES
 }
@@ -0,0 +1,53 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class FileAttributesTest {
+
+    @Test
+    public void nullArg() {
+        assertThrows(IllegalArgumentException.class, () -> FileAttributes.of(null));
+    }
+
+    @Test
+    public void of(@TempDir Path folder) throws IOException {
+        var file = Files.writeString(folder.resolve("test.pdf"), "content");
+        var attributes = FileAttributes.of(file.toFile());
+        assertEquals(Files.size(file), attributes.size());
+        assertEquals(file.toFile().lastModified(), attributes.lastModified());
+    }
+
+    @Test
+    public void missingFile(@TempDir Path folder) {
+        assertEquals(FileAttributes.EMPTY, FileAttributes.of(folder.resolve("missing.pdf").toFile()));
+    }
+}
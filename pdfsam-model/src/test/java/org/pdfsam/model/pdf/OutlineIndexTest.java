@@ -0,0 +1,71 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.pdf;
+
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.pdf.OutlineIndex.Entry;
+
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class OutlineIndexTest {
+
+    private final OutlineIndex victim = new OutlineIndex(
+            List.of(new Entry(1, "Chapter 1", 3), new Entry(2, "Section 1.1", 4), new Entry(2, "Section 1.2", 6),
+                    new Entry(1, "Chapter 2", 10), new Entry(2, "Section 2.1", 10), new Entry(1, "Appendix", 15)));
+
+    @Test
+    public void levels() {
+        assertThat(victim.levels()).containsExactly(1, 2);
+        assertThat(new OutlineIndex(List.of()).levels()).isEmpty();
+    }
+
+    @Test
+    public void pages() {
+        assertThat(victim.pages(1, null)).containsExactly(3, 10, 15);
+        assertThat(victim.pages(1, "Chapter.*")).containsExactly(3, 10);
+        assertThat(victim.pages(2, "")).containsExactly(4, 6, 10);
+        assertThat(victim.pages(3, null)).isEmpty();
+    }
+
+    @Test
+    public void files() {
+        assertEquals(4, victim.files(1, null));
+        assertEquals(3, victim.files(1, ".*Chapter.*"));
+        assertEquals(0, victim.files(1, "Chuck"));
+        assertEquals(2, new OutlineIndex(List.of(new Entry(1, "Start", 1), new Entry(1, "End", 5))).files(1, null));
+    }
+
+    @Test
+    public void invalidRegexp() {
+        assertThrows(PatternSyntaxException.class, () -> victim.files(1, "[Chuck"));
+    }
+
+    @Test
+    public void nullTitle() {
+        assertEquals("", new Entry(1, null, 1).title());
+    }
+}
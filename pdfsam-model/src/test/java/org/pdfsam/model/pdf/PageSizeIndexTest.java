@@ -0,0 +1,66 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.pdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class PageSizeIndexTest {
+
+    // 4 pages of 100 bytes each, pages 1-3 share a 500 bytes font, pages 3-4 share a 1000 bytes image
+    private final PageSizeIndex victim = new PageSizeIndex(10, new long[] { 100, 100, 100, 100 },
+            new int[][] { { 0 }, { 0 }, { 0, 1 }, { 1 } }, new long[] { 500, 1000 });
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PageSizeIndex(10, new long[] { 100 }, new int[][] {}, new long[] {}));
+        assertThrows(IllegalArgumentException.class, () -> victim.estimatedSize(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> victim.estimatedSize(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> victim.estimatedSize(1, 5));
+    }
+
+    @Test
+    public void estimatedSize() {
+        assertEquals(4, victim.pages());
+        assertEquals(610, victim.estimatedSize(1, 1));
+        assertEquals(710, victim.estimatedSize(1, 2));
+        assertEquals(1910, victim.estimatedSize(1, 4));
+        assertEquals(1710, victim.estimatedSize(3, 4));
+    }
+
+    @Test
+    public void splitAfter() {
+        assertEquals(List.of(), victim.splitAfter(2000));
+        assertEquals(List.of(2), victim.splitAfter(1800));
+        assertEquals(List.of(2, 3), victim.splitAfter(1200));
+    }
+
+    @Test
+    public void singlePageExceedingThreshold() {
+        assertEquals(List.of(1, 2, 3), victim.splitAfter(10));
+    }
+}
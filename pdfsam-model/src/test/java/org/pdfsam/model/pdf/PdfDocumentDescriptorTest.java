@@ -20,6 +20,7 @@ package org.pdfsam.model.pdf;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.pdfsam.model.io.FileAttributes;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.pdf.PdfVersion;
@@ -81,6 +82,17 @@ public class PdfDocumentDescriptorTest {
         assertFalse(victim.retain().retain().release());
     }
 
+    @Test
+    public void fileAttributesAreCapturedOnce() {
+        when(file.length()).thenReturn(10L);
+        when(file.lastModified()).thenReturn(20L);
+        assertEquals(new FileAttributes(10, 20), victim.getFileAttributes());
+        when(file.length()).thenReturn(30L);
+        assertEquals(new FileAttributes(10, 20), victim.getFileAttributes());
+        assertEquals(new FileAttributes(30, 20), victim.captureFileAttributes());
+        assertEquals(new FileAttributes(30, 20), victim.getFileAttributes());
+    }
+
     @Test
     public void noVersionString() {
         assertEquals("", victim.getVersionString());
@@ -105,6 +117,23 @@ public class PdfDocumentDescriptorTest {
         assertThrows(IllegalStateException.class, () -> victim.moveStatusTo(PdfDescriptorLoadingStatus.LOADING));
     }
 
+    @Test
+    public void seed() {
+        assertFalse(victim.isLoaded());
+        victim.seed(new PdfOutputMetadata("name", 5, PdfVersion.VERSION_1_6));
+        assertEquals(PdfDescriptorLoadingStatus.LOADED, victim.loadingStatus().getValue());
+        assertEquals(5, victim.pages().getValue());
+        assertEquals(PdfVersion.VERSION_1_6, victim.getVersion());
+        assertTrue(victim.isLoaded());
+    }
+
+    @Test
+    public void seedInvalidStatus() {
+        victim.moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
+        assertThrows(IllegalStateException.class,
+                () -> victim.seed(new PdfOutputMetadata("name", 5, PdfVersion.VERSION_1_6)));
+    }
+
     @Test
     public void toPdfSource() {
         PdfFileSource source = victim.toPdfFileSource();
@@ -0,0 +1,41 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.pdf;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.model.pdf.PdfVersion;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class PdfOutputMetadataTest {
+
+    @Test
+    public void blankName() {
+        assertThrows(IllegalArgumentException.class, () -> new PdfOutputMetadata(" ", 1, PdfVersion.VERSION_1_5));
+    }
+
+    @Test
+    public void negativePages() {
+        assertThrows(IllegalArgumentException.class, () -> new PdfOutputMetadata("name", -1, PdfVersion.VERSION_1_5));
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.tests.TestUtils;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class BatchAddBackPagesParametersTest {
+
+    @Test
+    public void testEquals() {
+        BatchAddBackPagesParameters eq1 = new BatchAddBackPagesParameters();
+        eq1.setWorkers(4);
+        BatchAddBackPagesParameters eq2 = new BatchAddBackPagesParameters();
+        eq2.setWorkers(4);
+        BatchAddBackPagesParameters eq3 = new BatchAddBackPagesParameters();
+        eq3.setWorkers(4);
+        BatchAddBackPagesParameters diff = new BatchAddBackPagesParameters();
+        diff.setWorkers(1);
+        TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
+    }
+}
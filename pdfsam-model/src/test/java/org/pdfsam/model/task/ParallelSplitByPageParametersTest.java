@@ -0,0 +1,74 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.parameter.SplitByEveryXPagesParameters;
+import org.sejda.model.parameter.SplitByPagesParameters;
+import org.sejda.model.pdf.PdfVersion;
+import org.sejda.tests.TestUtils;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class ParallelSplitByPageParametersTest {
+
+    @Test
+    public void testEquals() {
+        SplitByEveryXPagesParameters split = new SplitByEveryXPagesParameters(2);
+        ParallelSplitByPageParameters eq1 = new ParallelSplitByPageParameters(split, 2);
+        ParallelSplitByPageParameters eq2 = new ParallelSplitByPageParameters(split, 2);
+        ParallelSplitByPageParameters eq3 = new ParallelSplitByPageParameters(split, 2);
+        ParallelSplitByPageParameters diff = new ParallelSplitByPageParameters(split, 3);
+        TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
+    }
+
+    @Test
+    public void nullSplitParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSplitByPageParameters(null, 2));
+    }
+
+    @Test
+    public void copiesSettings() {
+        PdfSource<?> source = mock(PdfSource.class);
+        SplitByPagesParameters split = new SplitByPagesParameters();
+        split.addSource(source);
+        split.addPage(3);
+        split.setVersion(PdfVersion.VERSION_1_7);
+        split.setCompress(true);
+        split.setOutputPrefix("prefix");
+        split.discardOutline(true);
+        ParallelSplitByPageParameters victim = new ParallelSplitByPageParameters(split, 4);
+        assertEquals(source, victim.getSourceList().get(0));
+        assertEquals(PdfVersion.VERSION_1_7, victim.getVersion());
+        assertTrue(victim.isCompress());
+        assertTrue(victim.discardOutline());
+        assertEquals("prefix", victim.getOutputPrefix());
+        assertEquals(4, victim.getWorkers());
+        assertEquals(Set.of(3), victim.getPages(10));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.model.task;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.tests.TestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class PlannedSplitBySizeParametersTest {
+
+    @Test
+    public void testEquals() {
+        PlannedSplitBySizeParameters eq1 = new PlannedSplitBySizeParameters(100, List.of(2, 4));
+        PlannedSplitBySizeParameters eq2 = new PlannedSplitBySizeParameters(100, List.of(4, 2));
+        PlannedSplitBySizeParameters eq3 = new PlannedSplitBySizeParameters(100, List.of(2, 4));
+        PlannedSplitBySizeParameters diff = new PlannedSplitBySizeParameters(100, List.of(3));
+        TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
+    }
+
+    @Test
+    public void nullCuts() {
+        assertThrows(IllegalArgumentException.class, () -> new PlannedSplitBySizeParameters(100, null));
+    }
+
+    @Test
+    public void sortedCuts() {
+        var victim = new PlannedSplitBySizeParameters(100, List.of(7, 2, 4));
+        assertEquals(List.of(2, 4, 7), List.copyOf(victim.getPlannedCuts()));
+        assertEquals(100, victim.getSizeToSplitAt());
+    }
+}
@@ -19,6 +19,7 @@
 module org.pdfsam.service {
     requires com.fasterxml.jackson.datatype.jdk8;
     requires com.fasterxml.jackson.datatype.jsr310;
+    requires java.desktop;
     requires javafx.graphics;
     requires org.apache.commons.lang3;
     requires org.pdfsam.core;
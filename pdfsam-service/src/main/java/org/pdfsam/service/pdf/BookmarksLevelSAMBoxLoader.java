@@ -18,13 +18,27 @@
  */
 package org.pdfsam.service.pdf;
 
+import org.pdfsam.model.pdf.OutlineIndex;
 import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.pdfsam.model.tool.RequiredPdfData;
 import org.sejda.impl.sambox.component.OutlineUtils;
+import org.sejda.sambox.cos.COSDictionary;
 import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.destination.PDPageDestination;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.outline.PDOutlineNode;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
 
 /**
- * Loader populating the descriptor with bookmarks related data.
+ * Loader populating the descriptor with bookmarks related data. The outline tree is walked once to build an
+ * {@link OutlineIndex} with the bookmarks pointing to a page of the document, the valid levels are derived from it.
  *
  * @author Andrea Vacondio
  */
@@ -32,7 +46,27 @@ public class BookmarksLevelSAMBoxLoader implements PdfLoader<PDDocument> {
 
     @Override
     public void accept(PDDocument document, PdfDocumentDescriptor descriptor) {
-        descriptor.setValidBookmarksLevels(OutlineUtils.getOutlineLevelsWithPageDestination(document));
+        List<OutlineIndex.Entry> entries = new ArrayList<>();
+        PDDocumentOutline outline = document.getDocumentCatalog().getDocumentOutline();
+        if (nonNull(outline)) {
+            Map<COSDictionary, Integer> pages = new IdentityHashMap<>();
+            for (PDPage page : document.getPages()) {
+                pages.putIfAbsent(page.getCOSObject(), pages.size() + 1);
+            }
+            collect(pages, outline, 1, entries);
+        }
+        OutlineIndex index = new OutlineIndex(entries);
+        descriptor.setOutlineIndex(index);
+        descriptor.setValidBookmarksLevels(index.levels());
+    }
+
+    private static void collect(Map<COSDictionary, Integer> pages, PDOutlineNode node, int level,
+            List<OutlineIndex.Entry> entries) {
+        node.children().forEach(item -> {
+            OutlineUtils.pageDestinationFor(item).map(PDPageDestination::getPage).map(p -> pages.get(p.getCOSObject()))
+                    .ifPresent(page -> entries.add(new OutlineIndex.Entry(level, item.getTitle(), page)));
+            collect(pages, item, level + 1, entries);
+        });
     }
 
     @Override
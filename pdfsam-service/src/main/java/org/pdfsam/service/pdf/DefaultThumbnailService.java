@@ -0,0 +1,299 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.pdfsam.core.support.io.UserDirectories;
+import org.pdfsam.eventstudio.annotation.EventListener;
+import org.pdfsam.model.lifecycle.ShutdownEvent;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.sejda.commons.collection.LRUMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.nonNull;
+import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
+import static org.sejda.commons.util.RequireUtils.requireArg;
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * {@link ThumbnailService} rendering pages on a bounded pool of background threads, with the most recent requests
+ * served first. Rendered pages are cached in memory, in a least recently used cache, and on disk, in the user cache
+ * directory. Thumbnails are keyed by the renderer identity and by the file identity (path, size and last modified
+ * time) so that a modified file, or a different renderer, renders the page again. Pages of password protected documents
+ * are cached in memory only.
+ *
+ * @author Andrea Vacondio
+ */
+public class DefaultThumbnailService implements ThumbnailService {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThumbnailService.class);
+
+    static final int DEFAULT_MEMORY_ENTRIES = 256;
+    static final int DEFAULT_DISK_ENTRIES = 4096;
+    static final int MAX_CACHED_PIXELS = 4096 * 4096;
+    private static final String EXTENSION = ".thumb";
+
+    private final PageRenderer renderer;
+    private final Path diskCache;
+    private final int diskEntries;
+    private final Map<ThumbnailKey, RenderedPage> memoryCache;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public DefaultThumbnailService(PageRenderer renderer) {
+        this(renderer, diskCacheDirectory(), DEFAULT_MEMORY_ENTRIES, DEFAULT_DISK_ENTRIES,
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+    }
+
+    private static Path diskCacheDirectory() {
+        try {
+            return UserDirectories.cacheDirectory("thumbnails");
+        } catch (IOException e) {
+            LOG.warn("Unable to create the thumbnails cache directory, falling back to a temporary one", e);
+            try {
+                return Files.createTempDirectory("pdfsam-thumbnails");
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    DefaultThumbnailService(PageRenderer renderer, Path diskCache, int memoryEntries, int diskEntries, int threads) {
+        requireNotNullArg(renderer, "Renderer cannot be null");
+        requireNotNullArg(diskCache, "Disk cache directory cannot be null");
+        requireArg(memoryEntries > 0 && diskEntries > 0 && threads > 0, "Invalid thumbnails cache configuration");
+        this.renderer = renderer;
+        this.diskCache = diskCache;
+        this.diskEntries = diskEntries;
+        this.memoryCache = new LRUMap<>(memoryEntries);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "thumbnails-renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    @Override
+    public ThumbnailRequest request(PdfDocumentDescriptor descriptor, int page, float scale,
+            Consumer<RenderedPage> onRendered) {
+        requireNotNullArg(descriptor, "Cannot render a null document");
+        requireNotNullArg(onRendered, "Rendered page consumer cannot be null");
+        ThumbnailKey key = ThumbnailKey.of(renderer.identity(), descriptor.getFile(), page, scale);
+        RenderedPage cached = fromMemory(key);
+        if (nonNull(cached)) {
+            onRendered.accept(cached);
+            return () -> {
+                // already done
+            };
+        }
+        RenderTask task = new RenderTask(key, descriptor, onRendered, sequence.incrementAndGet());
+        executor.execute(task);
+        return task;
+    }
+
+    private RenderedPage fromMemory(ThumbnailKey key) {
+        synchronized (memoryCache) {
+            return memoryCache.get(key);
+        }
+    }
+
+    private void toMemory(ThumbnailKey key, RenderedPage page) {
+        synchronized (memoryCache) {
+            memoryCache.put(key, page);
+        }
+    }
+
+    private RenderedPage fromDisk(ThumbnailKey key) {
+        Path file = diskCache.resolve(key.fileName());
+        if (Files.isRegularFile(file)) {
+            try (var in = new DataInputStream(
+                    new InflaterInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+                int width = in.readInt();
+                int height = in.readInt();
+                if (width <= 0 || height <= 0 || (long) width * height > MAX_CACHED_PIXELS) {
+                    LOG.warn("Invalid size {}x{} of cached thumbnail {}", width, height, file);
+                    return null;
+                }
+                int[] pixels = new int[width * height];
+                for (int i = 0; i < pixels.length; i++) {
+                    pixels[i] = in.readInt();
+                }
+                return new RenderedPage(width, height, pixels);
+            } catch (IOException | IllegalArgumentException | NegativeArraySizeException | OutOfMemoryError e) {
+                LOG.warn("Unable to read cached thumbnail {}", file, e);
+            }
+        }
+        return null;
+    }
+
+    private void toDisk(ThumbnailKey key, RenderedPage page) {
+        try {
+            Files.createDirectories(diskCache);
+            Path tmp = Files.createTempFile(diskCache, null, null);
+            try (var out = new DataOutputStream(
+                    new DeflaterOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))) {
+                out.writeInt(page.width());
+                out.writeInt(page.height());
+                for (int pixel : page.pixels()) {
+                    out.writeInt(pixel);
+                }
+            }
+            Files.move(tmp, diskCache.resolve(key.fileName()), ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOG.warn("Unable to cache thumbnail on disk", e);
+        }
+    }
+
+    /**
+     * Deletes the least recently written thumbnails when the disk cache has more than the allowed number of entries
+     */
+    void pruneDiskCache() {
+        if (Files.isDirectory(diskCache)) {
+            try (Stream<Path> files = Files.list(diskCache)) {
+                List<Path> thumbnails = files.filter(p -> p.getFileName().toString().endsWith(EXTENSION))
+                        .sorted(Comparator.comparing(DefaultThumbnailService::lastModified).reversed()).toList();
+                for (Path stale : thumbnails.subList(Math.min(diskEntries, thumbnails.size()), thumbnails.size())) {
+                    Files.deleteIfExists(stale);
+                }
+            } catch (IOException e) {
+                LOG.warn("Unable to prune the thumbnails disk cache", e);
+            }
+        }
+    }
+
+    private static long lastModified(Path path) {
+        return path.toFile().lastModified();
+    }
+
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        executor.shutdownNow();
+        renderer.close();
+        pruneDiskCache();
+    }
+
+    private class RenderTask implements Runnable, Comparable<RenderTask>, ThumbnailRequest {
+        private final ThumbnailKey key;
+        private final PdfDocumentDescriptor descriptor;
+        private final Consumer<RenderedPage> onRendered;
+        private final long sequence;
+        private volatile boolean cancelled;
+
+        RenderTask(ThumbnailKey key, PdfDocumentDescriptor descriptor, Consumer<RenderedPage> onRendered,
+                long sequence) {
+            this.key = key;
+            this.descriptor = descriptor;
+            this.onRendered = onRendered;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            RenderedPage page = fromMemory(key);
+            // pages of password protected documents are never written unencrypted to disk
+            boolean diskTier = !descriptor.hasPassword();
+            if (page == null) {
+                if (diskTier) {
+                    page = fromDisk(key);
+                }
+                if (page == null) {
+                    try {
+                        page = renderer.render(descriptor, key.page(), key.scale());
+                    } catch (Exception e) {
+                        LOG.warn("Unable to render page {} of {}", key.page(), descriptor.getFileName(), e);
+                        return;
+                    }
+                    if (diskTier) {
+                        toDisk(key, page);
+                    }
+                }
+                toMemory(key, page);
+            }
+            if (!cancelled) {
+                onRendered.accept(page);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            executor.remove(this);
+        }
+
+        @Override
+        public int compareTo(RenderTask other) {
+            // most recent first
+            return Long.compare(other.sequence, sequence);
+        }
+    }
+
+    /**
+     * Identity of a thumbnail, the file is identified by its path, size and last modified time
+     */
+    record ThumbnailKey(String renderer, String path, long length, long lastModified, int page, float scale) {
+
+        static ThumbnailKey of(String renderer, File file, int page, float scale) {
+            requireArg(page > 0, "Invalid page number " + page);
+            requireArg(scale > 0, "Scale must be positive");
+            return new ThumbnailKey(renderer, file.getAbsolutePath(), file.length(), file.lastModified(), page, scale);
+        }
+
+        String fileName() {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(
+                        String.join("|", renderer, path, Long.toString(length), Long.toString(lastModified),
+                                Integer.toString(page), Float.toString(scale)).getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(hash) + EXTENSION;
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
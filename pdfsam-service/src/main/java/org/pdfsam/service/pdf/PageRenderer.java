@@ -0,0 +1,59 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+
+import java.io.IOException;
+
+/**
+ * Renders a page of a PDF document
+ *
+ * @author Andrea Vacondio
+ */
+@FunctionalInterface
+public interface PageRenderer extends AutoCloseable {
+
+    /**
+     * @param descriptor
+     *            the document
+     * @param page
+     *            the page number, starting from 1
+     * @param scale
+     *            the scale of the rendered page, 1 means 72 pixels per inch
+     * @return the rendered page
+     */
+    RenderedPage render(PdfDocumentDescriptor descriptor, int page, float scale) throws IOException;
+
+    /**
+     * @return an identifier of the renderer and of the version of its output, pages rendered by different renderers are
+     * cached separately
+     */
+    default String identity() {
+        return getClass().getName();
+    }
+
+    /**
+     * Releases the resources held by the renderer
+     */
+    @Override
+    default void close() {
+        // nothing to release
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.pdfsam.model.pdf.PageSizeIndex;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.model.tool.RequiredPdfData;
+import org.sejda.sambox.cos.COSArray;
+import org.sejda.sambox.cos.COSBase;
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.cos.COSStream;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Loader populating the descriptor with the {@link PageSizeIndex}. The size of a page is estimated from the encoded
+ * length of the streams reachable from the page (contents, fonts, images, forms, annotations appearances...), streams
+ * used by more than one page are indexed as shared resources.
+ *
+ * @author Andrea Vacondio
+ */
+public class PageSizesSAMBoxLoader implements PdfLoader<PDDocument> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PageSizesSAMBoxLoader.class);
+    /**
+     * Rough size of the catalog, info dictionary, trailer and xref of a generated document
+     */
+    static final long DOCUMENT_OVERHEAD = 2048;
+    /**
+     * Rough size of the page dictionary and of the non stream objects of a page
+     */
+    static final long PAGE_OVERHEAD = 512;
+    private static final Set<COSName> IGNORED_KEYS = Set.of(COSName.PARENT, COSName.P, COSName.DEST, COSName.A,
+            COSName.B);
+
+    @Override
+    public void accept(PDDocument document, PdfDocumentDescriptor descriptor) {
+        List<Set<COSStream>> pagesStreams = new ArrayList<>();
+        Map<COSStream, Integer> usages = new IdentityHashMap<>();
+        for (PDPage page : document.getPages()) {
+            Set<COSStream> streams = Collections.newSetFromMap(new IdentityHashMap<>());
+            collect(page.getCOSObject(), streams, Collections.newSetFromMap(new IdentityHashMap<>()), true);
+            streams.forEach(s -> usages.merge(s, 1, Integer::sum));
+            pagesStreams.add(streams);
+        }
+
+        Map<COSStream, Integer> sharedIds = new IdentityHashMap<>();
+        List<Long> sharedSizes = new ArrayList<>();
+        long[] pageSizes = new long[pagesStreams.size()];
+        int[][] pageResources = new int[pagesStreams.size()][];
+        for (int i = 0; i < pagesStreams.size(); i++) {
+            long own = PAGE_OVERHEAD;
+            List<Integer> shared = new ArrayList<>();
+            for (COSStream stream : pagesStreams.get(i)) {
+                if (usages.get(stream) > 1) {
+                    shared.add(sharedIds.computeIfAbsent(stream, s -> {
+                        sharedSizes.add(length(s));
+                        return sharedSizes.size() - 1;
+                    }));
+                } else {
+                    own += length(stream);
+                }
+            }
+            pageSizes[i] = own;
+            pageResources[i] = shared.stream().mapToInt(Integer::intValue).toArray();
+        }
+        descriptor.setPageSizeIndex(new PageSizeIndex(DOCUMENT_OVERHEAD, pageSizes, pageResources,
+                sharedSizes.stream().mapToLong(Long::longValue).toArray()));
+    }
+
+    private static void collect(COSBase base, Set<COSStream> streams, Set<COSBase> visited, boolean root) {
+        COSBase object = base.getCOSObject();
+        if (!visited.add(object)) {
+            return;
+        }
+        if (object instanceof COSDictionary dictionary) {
+            // we don't want to walk into other pages
+            if (!root && COSName.PAGE.equals(dictionary.getCOSName(COSName.TYPE))) {
+                return;
+            }
+            if (object instanceof COSStream stream) {
+                streams.add(stream);
+            }
+            for (COSName key : dictionary.keySet()) {
+                if (!IGNORED_KEYS.contains(key)) {
+                    COSBase value = dictionary.getDictionaryObject(key);
+                    if (nonNull(value)) {
+                        collect(value, streams, visited, false);
+                    }
+                }
+            }
+        } else if (object instanceof COSArray array) {
+            for (int i = 0; i < array.size(); i++) {
+                COSBase value = array.getObject(i);
+                if (nonNull(value)) {
+                    collect(value, streams, visited, false);
+                }
+            }
+        }
+    }
+
+    private static long length(COSStream stream) {
+        try {
+            return stream.getFilteredLength();
+        } catch (IOException e) {
+            LOG.warn("Unable to get the length of a stream", e);
+            return 0;
+        }
+    }
+
+    @Override
+    public RequiredPdfData key() {
+        return RequiredPdfData.PAGE_SIZES;
+    }
+}
@@ -68,15 +68,22 @@ public class PdfLoadController {
     }
 
     /**
-     * Request to load a collection of documents
+     * Request to load a collection of documents. Documents that are already loaded, because populated with data known in
+     * advance, are skipped. The file attributes of the documents are captured before loading them.
      *
      * @param event
      */
     @EventListener
     public void request(PdfLoadRequest event) {
         LOG.trace("PDF load request received");
-        event.getDocuments().forEach(i -> i.moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED));
-        executor.execute(() -> loadService.load(event.getDocuments(), requiredLoadData.get(event.toolBinding())));
+        var toLoad = event.getDocuments().stream().filter(d -> !d.isLoaded()).toList();
+        toLoad.forEach(i -> i.moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED));
+        if (!toLoad.isEmpty()) {
+            executor.execute(() -> {
+                toLoad.parallelStream().forEach(PdfDocumentDescriptor::captureFileAttributes);
+                loadService.load(toLoad, requiredLoadData.get(event.toolBinding()));
+            });
+        }
     }
 
     /**
@@ -0,0 +1,35 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import static org.sejda.commons.util.RequireUtils.requireArg;
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * A rendered page as a width x height array of ARGB pixels, row by row.
+ *
+ * @author Andrea Vacondio
+ */
+public record RenderedPage(int width, int height, int[] pixels) {
+    public RenderedPage {
+        requireNotNullArg(pixels, "Pixels cannot be null");
+        requireArg(width > 0 && height > 0, "Invalid rendered page size");
+        requireArg(pixels.length == width * height, "Pixels do not match the rendered page size");
+    }
+}
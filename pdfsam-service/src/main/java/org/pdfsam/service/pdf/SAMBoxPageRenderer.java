@@ -0,0 +1,168 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.sejda.io.BufferedSeekableSource;
+import org.sejda.io.FileChannelSeekableSource;
+import org.sejda.sambox.input.PDFParser;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.sejda.commons.util.IOUtils.closeQuietly;
+import static org.sejda.commons.util.RequireUtils.requireArg;
+
+/**
+ * {@link PageRenderer} rasterizing pages with the SAMBox renderer. Rendering many pages of the same document is the
+ * common case, so the most recently used documents are kept open and shared by the requests for the same file. A
+ * document can't be rendered concurrently, requests for the same document are serialized while different documents
+ * are rendered in parallel.
+ *
+ * @author Andrea Vacondio
+ */
+public class SAMBoxPageRenderer implements PageRenderer {
+    private static final Logger LOG = LoggerFactory.getLogger(SAMBoxPageRenderer.class);
+
+    static final int DEFAULT_OPEN_DOCUMENTS = 4;
+    private static final String IDENTITY = "sambox-raster-1";
+
+    private final Map<DocumentKey, OpenDocument> documents;
+    private final int openDocuments;
+    private boolean closed;
+
+    public SAMBoxPageRenderer() {
+        this(DEFAULT_OPEN_DOCUMENTS);
+    }
+
+    SAMBoxPageRenderer(int openDocuments) {
+        requireArg(openDocuments > 0, "Invalid number of open documents");
+        this.documents = new LinkedHashMap<>(openDocuments + 1, 0.75f, true);
+        this.openDocuments = openDocuments;
+    }
+
+    @Override
+    public RenderedPage render(PdfDocumentDescriptor descriptor, int page, float scale) throws IOException {
+        requireArg(scale > 0, "Scale must be positive");
+        while (true) {
+            OpenDocument document = open(descriptor);
+            synchronized (document) {
+                if (!document.closed) {
+                    return document.render(page, scale);
+                }
+            }
+        }
+    }
+
+    private OpenDocument open(PdfDocumentDescriptor descriptor) throws IOException {
+        DocumentKey key = DocumentKey.of(descriptor.getFile());
+        List<OpenDocument> evicted = new ArrayList<>();
+        OpenDocument document;
+        synchronized (documents) {
+            if (closed) {
+                throw new IllegalStateException("The renderer has been closed");
+            }
+            document = documents.get(key);
+            if (document == null) {
+                LOG.trace("Opening {} for rendering", descriptor.getFileName());
+                document = new OpenDocument(PDFParser.parse(
+                        new BufferedSeekableSource(new FileChannelSeekableSource(descriptor.getFile())),
+                        descriptor.getPassword()));
+                documents.put(key, document);
+                var iterator = documents.values().iterator();
+                while (documents.size() > openDocuments && iterator.hasNext()) {
+                    evicted.add(iterator.next());
+                    iterator.remove();
+                }
+            }
+        }
+        evicted.forEach(OpenDocument::close);
+        return document;
+    }
+
+    @Override
+    public String identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * @return the number of documents currently open
+     */
+    int openDocuments() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    @Override
+    public void close() {
+        List<OpenDocument> open;
+        synchronized (documents) {
+            closed = true;
+            open = List.copyOf(documents.values());
+            documents.clear();
+        }
+        open.forEach(OpenDocument::close);
+    }
+
+    /**
+     * A document, the same file modified is a different document
+     */
+    private record DocumentKey(String path, long length, long lastModified) {
+        static DocumentKey of(File file) {
+            return new DocumentKey(file.getAbsolutePath(), file.length(), file.lastModified());
+        }
+    }
+
+    private static class OpenDocument {
+        private final PDDocument document;
+        private final PDFRenderer renderer;
+        private boolean closed;
+
+        OpenDocument(PDDocument document) {
+            this.document = document;
+            this.renderer = new PDFRenderer(document);
+        }
+
+        /**
+         * Must be called holding the lock on this instance
+         */
+        RenderedPage render(int page, float scale) throws IOException {
+            requireArg(page > 0 && page <= document.getNumberOfPages(), "Invalid page number " + page);
+            BufferedImage image = renderer.renderImage(page - 1, scale);
+            int width = image.getWidth();
+            int height = image.getHeight();
+            return new RenderedPage(width, height, image.getRGB(0, 0, width, height, null, 0, width));
+        }
+
+        synchronized void close() {
+            closed = true;
+            closeQuietly(document);
+        }
+    }
+}
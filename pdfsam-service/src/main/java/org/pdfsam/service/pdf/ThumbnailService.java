@@ -0,0 +1,59 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+
+import java.util.function.Consumer;
+
+/**
+ * Service providing rendered thumbnails of the pages of PDF documents
+ *
+ * @author Andrea Vacondio
+ */
+public interface ThumbnailService {
+
+    /**
+     * Requests the thumbnail of a page. The most recent requests are served first, so that what the user is currently
+     * looking at is rendered before what was requested and not cancelled earlier on.
+     *
+     * @param descriptor
+     *            the document
+     * @param page
+     *            the page number, starting from 1
+     * @param scale
+     *            the scale of the thumbnail
+     * @param onRendered
+     *            consumer of the thumbnail, called on the requesting thread for cached thumbnails and on a background
+     *            thread otherwise
+     * @return the request, that can be cancelled when the thumbnail is no longer needed
+     */
+    ThumbnailRequest request(PdfDocumentDescriptor descriptor, int page, float scale,
+            Consumer<RenderedPage> onRendered);
+
+    /**
+     * A pending thumbnail request
+     */
+    interface ThumbnailRequest {
+        /**
+         * Cancels the request. The consumer won't be notified if the rendering hasn't completed yet.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.sambox.cos.COSArray;
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.cos.COSInteger;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.cos.COSNumber;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PDPageTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.Objects.nonNull;
+import static org.sejda.commons.util.RequireUtils.requireArg;
+
+/**
+ * Pages to repeat in an add back pages task. Every back page is resolved once into a template carrying its inherited
+ * attributes, every insertion then adds a shallow copy of the template referencing the same content streams and
+ * resources, so they are imported and written once no matter how many times the page is repeated. Annotations of the
+ * back pages are copied at every insertion since an annotation cannot belong to more than one page.
+ * <p>
+ * Back pages are inserted in the page tree of the opened source document, so the source pages are untouched and its
+ * outline, forms, named destinations and links are kept. Page labels are shifted to the new page indexes.
+ *
+ * @author Andrea Vacondio
+ */
+class BackPagesCache {
+    private static final Logger LOG = LoggerFactory.getLogger(BackPagesCache.class);
+
+    private final List<PDPage> templates = new ArrayList<>();
+
+    BackPagesCache(List<PDPage> pages) {
+        for (PDPage page : pages) {
+            templates.add(template(page));
+        }
+    }
+
+    /**
+     * @param backPages the opened back pages document
+     * @param pages     the pages to repeat, in any order
+     * @return a cache of the given pages of the back pages document, sorted by page number
+     */
+    static BackPagesCache of(PDDocumentHandler backPages, Set<Integer> pages) {
+        List<PDPage> selected = new ArrayList<>();
+        for (Integer page : new TreeSet<>(pages)) {
+            selected.add(backPages.getPage(page));
+        }
+        return new BackPagesCache(selected);
+    }
+
+    /**
+     * @return the number of pages added at every insertion
+     */
+    int size() {
+        return templates.size();
+    }
+
+    /**
+     * Inserts the back pages in the given document after every step pages
+     */
+    void insertInto(PDDocumentHandler document, int step) {
+        requireArg(step > 0, "Step must be positive");
+        PDPageTree tree = document.getUnderlyingPDDocument().getPages();
+        List<PDPage> originals = new ArrayList<>(document.getNumberOfPages());
+        tree.forEach(originals::add);
+        for (int page = step; page <= originals.size(); page += step) {
+            PDPage anchor = originals.get(page - 1);
+            for (PDPage template : templates) {
+                PDPage copy = copy(template);
+                tree.insertAfter(copy, anchor);
+                anchor = copy;
+            }
+        }
+        shiftPageLabels(document.getUnderlyingPDDocument(), step);
+    }
+
+    private void shiftPageLabels(PDDocument document, int step) {
+        COSDictionary labels = document.getDocumentCatalog().getCOSObject()
+                .getDictionaryObject(COSName.PAGE_LABELS, COSDictionary.class);
+        if (nonNull(labels) && !templates.isEmpty()) {
+            COSArray nums = labels.getDictionaryObject(COSName.NUMS, COSArray.class);
+            if (nonNull(nums)) {
+                for (int i = 0; i < nums.size(); i += 2) {
+                    if (nums.getObject(i) instanceof COSNumber start) {
+                        int index = start.intValue();
+                        nums.set(i, COSInteger.get(index + (long) (index / step) * templates.size()));
+                    }
+                }
+            } else {
+                LOG.warn("Page labels not stored as a flat number tree, they are not shifted");
+            }
+        }
+    }
+
+    private static PDPage copy(PDPage template) {
+        PDPage copy = new PDPage(template.getCOSObject().duplicate());
+        COSArray annotations = template.getCOSObject().getDictionaryObject(COSName.ANNOTS, COSArray.class);
+        if (nonNull(annotations)) {
+            COSArray copied = new COSArray();
+            for (int i = 0; i < annotations.size(); i++) {
+                if (annotations.getObject(i) instanceof COSDictionary annotation) {
+                    COSDictionary duplicate = annotation.duplicate();
+                    duplicate.setItem(COSName.P, copy.getCOSObject());
+                    duplicate.removeItem(COSName.POPUP);
+                    duplicate.removeItem(COSName.PARENT);
+                    copied.add(duplicate);
+                }
+            }
+            copy.getCOSObject().setItem(COSName.ANNOTS, copied);
+        }
+        return copy;
+    }
+
+    private static PDPage template(PDPage original) {
+        PDPage template = new PDPage(original.getCOSObject().duplicate());
+        template.getCOSObject().removeItem(COSName.PARENT);
+        template.getCOSObject().removeItem(COSName.STRUCT_PARENTS);
+        template.setMediaBox(original.getMediaBox());
+        template.setCropBox(original.getCropBox());
+        template.setRotation(original.getRotation());
+        template.setResources(original.getResources());
+        return template;
+    }
+}
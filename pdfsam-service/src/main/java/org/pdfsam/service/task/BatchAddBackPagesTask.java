@@ -0,0 +1,188 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.pdfsam.model.task.BatchAddBackPagesParameters;
+import org.sejda.commons.util.IOUtils;
+import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.OutputWriters;
+import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.pdf.encryption.PdfAccessPermission;
+import org.sejda.model.task.BaseTask;
+import org.sejda.model.task.TaskExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.nonNull;
+import static org.sejda.commons.util.IOUtils.closeQuietly;
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.sejda.core.support.io.model.FileOutput.file;
+import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
+import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
+import static org.sejda.model.util.IOUtils.createTemporaryBuffer;
+
+/**
+ * Adds the same back pages to every source processing up to {@link BatchAddBackPagesParameters#getWorkers()} sources
+ * concurrently. The back pages source is parsed once for each worker, since loaded documents cannot be shared between
+ * threads, and each worker reuses its {@link BackPagesCache} for all the sources it processes, so the back pages are
+ * imported once regardless of the number of insertions. Outputs are named and progress is notified in sources order.
+ * Back pages are inserted in the opened sources, as {@link CachingAddBackPagesTask} does, so their outline, forms and
+ * page labels are kept. Temporary buffers are tracked as soon as they are created and deleted if the task fails.
+ *
+ * @author Andrea Vacondio
+ */
+public class BatchAddBackPagesTask extends BaseTask<BatchAddBackPagesParameters> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchAddBackPagesTask.class);
+
+    private MultipleOutputWriter outputWriter;
+    private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private ExecutorService executor;
+    private final List<PDDocumentHandler> backPagesHandlers = Collections.synchronizedList(new ArrayList<>());
+    private final List<File> buffers = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void before(BatchAddBackPagesParameters parameters, TaskExecutionContext executionContext)
+            throws TaskException {
+        super.before(parameters, executionContext);
+        documentLoader = new DefaultPdfSourceOpener();
+        outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+    }
+
+    @Override
+    public void execute(BatchAddBackPagesParameters parameters) throws TaskException {
+        List<PdfSource<?>> sources = parameters.getSourceList();
+        Queue<BackPagesCache> available = new ConcurrentLinkedQueue<>();
+        available.add(backPages(parameters));
+        var counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parameters.getWorkers(), sources.size())), r -> {
+            var thread = new Thread(r, "pdfsam-backpages-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        LOG.debug("Adding back pages to {} sources using up to {} workers", sources.size(), parameters.getWorkers());
+        List<Future<File>> results = sources.stream()
+                .map(source -> executor.submit(() -> write(source, available, parameters))).toList();
+
+        for (int i = 0; i < sources.size(); i++) {
+            PdfSource<?> source = sources.get(i);
+            executionContext().notifiableTaskMetadata().setCurrentSource(source);
+            File tmpFile = await(results.get(i));
+            String outName = nameGenerator(parameters.getOutputPrefix())
+                    .generate(nameRequest().originalName(source.getName()).fileNumber(i + 1));
+            outputWriter.addOutput(file(tmpFile).name(outName));
+            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(i + 1).outOf(sources.size());
+        }
+        executionContext().notifiableTaskMetadata().clearCurrentSource();
+        parameters.getOutput().accept(outputWriter);
+        buffers.clear();
+        LOG.debug("Back pages added to {} documents and written to {}", sources.size(), parameters.getOutput());
+    }
+
+    private BackPagesCache backPages(BatchAddBackPagesParameters parameters) throws TaskException {
+        LOG.debug("Opening back pages source {}", parameters.getBackPagesSource());
+        PDDocumentHandler backPagesHandler = parameters.getBackPagesSource().open(documentLoader);
+        backPagesHandlers.add(backPagesHandler);
+        backPagesHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
+        return BackPagesCache.of(backPagesHandler, parameters.getPages(backPagesHandler.getNumberOfPages()));
+    }
+
+    private File write(PdfSource<?> source, Queue<BackPagesCache> available, BatchAddBackPagesParameters parameters)
+            throws TaskException {
+        executionContext().assertTaskNotCancelled();
+        BackPagesCache backPages = available.poll();
+        if (backPages == null) {
+            backPages = backPages(parameters);
+        }
+        LOG.debug("Opening {}", source);
+        PDDocumentHandler documentHandler = source.open(documentLoader);
+        try {
+            return write(documentHandler, backPages, parameters);
+        } finally {
+            closeQuietly(documentHandler);
+            available.add(backPages);
+        }
+    }
+
+    /**
+     * Writes the given document to a temporary file adding the back pages after every step pages
+     */
+    private File write(PDDocumentHandler documentHandler, BackPagesCache backPages,
+            BatchAddBackPagesParameters parameters) throws TaskException {
+        executionContext().assertTaskNotCancelled();
+        File tmpFile = createTemporaryBuffer(parameters.getOutput());
+        buffers.add(tmpFile);
+        CachingAddBackPagesTask.write(documentHandler, backPages, parameters, tmpFile);
+        return tmpFile;
+    }
+
+    private File await(Future<File> result) throws TaskException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskExecutionException("Interrupted while adding back pages", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TaskException taskException) {
+                throw taskException;
+            }
+            throw new TaskExecutionException("Unable to add back pages", e.getCause());
+        }
+    }
+
+    @Override
+    public void after() {
+        if (nonNull(executor)) {
+            executor.shutdownNow();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    LOG.warn("Back pages workers did not terminate");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List.copyOf(backPagesHandlers).forEach(IOUtils::closeQuietly);
+        backPagesHandlers.clear();
+        List.copyOf(buffers).forEach(f -> {
+            if (!f.delete()) {
+                LOG.warn("Unable to delete temporary file {}", f);
+            }
+        });
+        buffers.clear();
+    }
+}
@@ -18,8 +18,11 @@
  */
 package org.pdfsam.service.task;
 
+import org.pdfsam.model.pdf.PdfOutputMetadata;
 import org.pdfsam.model.task.BulkRotateParameters;
+import org.pdfsam.model.task.PdfOutputMetadataEvent;
 import org.pdfsam.model.task.PdfRotationInput;
+import org.sejda.core.notification.context.GlobalNotificationContext;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -27,6 +30,7 @@ import org.sejda.impl.sambox.component.PDDocumentHandler;
 import org.sejda.impl.sambox.component.PdfRotator;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.pdf.PdfVersion;
 import org.sejda.model.pdf.encryption.PdfAccessPermission;
 import org.sejda.model.task.BaseTask;
 import org.sejda.model.task.TaskExecutionContext;
@@ -34,6 +38,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.sejda.commons.util.IOUtils.closeQuietly;
 import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
@@ -67,6 +74,7 @@ public class BulkRotateTask extends BaseTask<BulkRotateParameters> {
     @Override
     public void execute(BulkRotateParameters parameters) throws TaskException {
         int currentStep = 0;
+        List<PdfOutputMetadata> outputsMetadata = new ArrayList<>();
 
         for (PdfRotationInput input : parameters.getInputSet()) {
             currentStep++;
@@ -91,6 +99,8 @@ public class BulkRotateTask extends BaseTask<BulkRotateParameters> {
                 String outName = nameGenerator(parameters.getOutputPrefix())
                         .generate(nameRequest().originalName(input.source.getName()).fileNumber(currentStep));
                 outputWriter.addOutput(file(tmpFile).name(outName));
+                outputsMetadata.add(new PdfOutputMetadata(outName, documentHandler.getNumberOfPages(),
+                        toPdfVersion(documentHandler.getUnderlyingPDDocument().getVersion())));
             } finally {
                 closeQuietly(documentHandler);
             }
@@ -101,6 +111,13 @@ public class BulkRotateTask extends BaseTask<BulkRotateParameters> {
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Input documents rotated and written to {}", parameters.getOutput());
+        GlobalNotificationContext.getContext().notifyListeners(
+                new PdfOutputMetadataEvent(executionContext().notifiableTaskMetadata(), outputsMetadata));
+    }
+
+    private static PdfVersion toPdfVersion(String version) {
+        return Arrays.stream(PdfVersion.values()).filter(v -> v.getVersionString().equals(version)).findFirst()
+                .orElse(null);
     }
 
     @Override
@@ -0,0 +1,133 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.OutputWriters;
+import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.parameter.AddBackPagesParameters;
+import org.sejda.model.pdf.encryption.PdfAccessPermission;
+import org.sejda.model.task.BaseTask;
+import org.sejda.model.task.TaskExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.sejda.commons.util.IOUtils.closeQuietly;
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.sejda.core.support.io.model.FileOutput.file;
+import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
+import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
+import static org.sejda.model.util.IOUtils.createTemporaryBuffer;
+
+/**
+ * Adds the selected pages of the back pages source after every {@link AddBackPagesParameters#getStep()} pages of each
+ * source. The back pages source is opened once and its pages are repeated through a {@link BackPagesCache}, so the
+ * back pages are imported once regardless of the number of insertions. Back pages are inserted in the opened source
+ * document, which is then saved, so its outline, forms, page labels, named destinations and links are kept.
+ *
+ * @author Andrea Vacondio
+ */
+public class CachingAddBackPagesTask extends BaseTask<AddBackPagesParameters> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingAddBackPagesTask.class);
+
+    private MultipleOutputWriter outputWriter;
+    private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private PDDocumentHandler backPagesHandler;
+    private PDDocumentHandler documentHandler;
+    private final List<File> buffers = new ArrayList<>();
+
+    @Override
+    public void before(AddBackPagesParameters parameters, TaskExecutionContext executionContext)
+            throws TaskException {
+        super.before(parameters, executionContext);
+        documentLoader = new DefaultPdfSourceOpener();
+        outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+    }
+
+    @Override
+    public void execute(AddBackPagesParameters parameters) throws TaskException {
+        LOG.debug("Opening back pages source {}", parameters.getBackPagesSource());
+        backPagesHandler = parameters.getBackPagesSource().open(documentLoader);
+        backPagesHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
+        var backPages = BackPagesCache.of(backPagesHandler,
+                parameters.getPages(backPagesHandler.getNumberOfPages()));
+        LOG.debug("{} back pages will be added every {} pages", backPages.size(), parameters.getStep());
+
+        int currentStep = 0;
+        int totalSteps = parameters.getSourceList().size();
+        for (PdfSource<?> source : parameters.getSourceList()) {
+            executionContext().assertTaskNotCancelled();
+            currentStep++;
+            LOG.debug("Opening {}", source);
+            executionContext().notifiableTaskMetadata().setCurrentSource(source);
+            try {
+                documentHandler = source.open(documentLoader);
+                File tmpFile = createTemporaryBuffer(parameters.getOutput());
+                buffers.add(tmpFile);
+                write(documentHandler, backPages, parameters, tmpFile);
+                String outName = nameGenerator(parameters.getOutputPrefix())
+                        .generate(nameRequest().originalName(source.getName()).fileNumber(currentStep));
+                outputWriter.addOutput(file(tmpFile).name(outName));
+            } finally {
+                closeQuietly(documentHandler);
+            }
+            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
+        }
+        executionContext().notifiableTaskMetadata().clearCurrentSource();
+
+        parameters.getOutput().accept(outputWriter);
+        buffers.clear();
+        LOG.debug("Back pages added to input documents and written to {}", parameters.getOutput());
+    }
+
+    /**
+     * Inserts the back pages in the given document and saves it to the given temporary file
+     */
+    static void write(PDDocumentHandler documentHandler, BackPagesCache backPages, AddBackPagesParameters parameters,
+            File tmpFile) throws TaskException {
+        documentHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
+        documentHandler.setCreatorOnPDDocument();
+        backPages.insertInto(documentHandler, parameters.getStep());
+        LOG.debug("Created output on temporary buffer {}", tmpFile);
+        documentHandler.setVersionOnPDDocument(parameters.getVersion());
+        documentHandler.setCompress(parameters.isCompress());
+        documentHandler.savePDDocument(tmpFile, parameters.getOutput().getEncryptionAtRestPolicy());
+    }
+
+    @Override
+    public void after() {
+        closeQuietly(documentHandler);
+        closeQuietly(backPagesHandler);
+        buffers.forEach(f -> {
+            if (!f.delete()) {
+                LOG.warn("Unable to delete temporary file {}", f);
+            }
+        });
+        buffers.clear();
+    }
+}
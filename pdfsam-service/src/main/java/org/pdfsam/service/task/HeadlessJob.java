@@ -0,0 +1,90 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
+import static org.sejda.commons.util.RequireUtils.requireNotBlank;
+
+/**
+ * A job submitted to the {@link HeadlessJobQueue}. Status, progress and result are updated by the worker thread
+ * executing the job and can be read from any thread.
+ *
+ * @author Andrea Vacondio
+ */
+public class HeadlessJob {
+
+    private final String id;
+    private final String toolId;
+    private volatile HeadlessJobStatus status = HeadlessJobStatus.QUEUED;
+    private volatile BigDecimal percentage = BigDecimal.ZERO;
+    private volatile HeadlessTaskResult result;
+
+    HeadlessJob(String id, String toolId) {
+        requireNotBlank(id, "Job id cannot be blank");
+        this.id = id;
+        this.toolId = toolId;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String toolId() {
+        return toolId;
+    }
+
+    public HeadlessJobStatus status() {
+        return status;
+    }
+
+    /**
+     * @return the percentage of work done
+     */
+    public BigDecimal percentage() {
+        return percentage;
+    }
+
+    /**
+     * @return the result of the execution, empty if the job is not completed yet
+     */
+    public Optional<HeadlessTaskResult> result() {
+        return ofNullable(result);
+    }
+
+    void running() {
+        this.status = HeadlessJobStatus.RUNNING;
+    }
+
+    void progress(BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+
+    void completed(HeadlessTaskResult result) {
+        this.result = result;
+        if (result.isSuccessful()) {
+            this.percentage = new BigDecimal(100);
+            this.status = HeadlessJobStatus.COMPLETED;
+        } else {
+            this.status = HeadlessJobStatus.FAILED;
+        }
+    }
+}
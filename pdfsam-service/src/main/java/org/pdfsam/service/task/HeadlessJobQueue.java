@@ -0,0 +1,162 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.sejda.model.parameter.base.AbstractParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.Optional.ofNullable;
+import static org.sejda.commons.util.RequireUtils.requireArg;
+
+/**
+ * Queue of jobs executed by a bounded pool of workers using a {@link HeadlessTaskRunner}. Jobs exceeding the queue
+ * capacity are rejected and only the most recent jobs are retained once completed, so a long running process doesn't
+ * accumulate them.
+ *
+ * @author Andrea Vacondio
+ */
+public class HeadlessJobQueue implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(HeadlessJobQueue.class);
+    static final int RETAINED_JOBS = 500;
+
+    private final HeadlessTaskRunner runner;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, HeadlessJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * @param runner   the runner executing the jobs
+     * @param workers  number of jobs executed concurrently
+     * @param capacity number of jobs that can wait for a worker before new jobs are rejected
+     */
+    public HeadlessJobQueue(HeadlessTaskRunner runner, int workers, int capacity) {
+        requireArg(workers > 0, "Workers must be a positive number");
+        requireArg(capacity > 0, "Capacity must be a positive number");
+        this.runner = runner;
+        var counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), r -> {
+            var thread = new Thread(r, "pdfsam-job-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the ids of the tools jobs can be submitted for
+     */
+    public Set<String> toolIds() {
+        return runner.toolIds();
+    }
+
+    /**
+     * Submits a job for the given tool
+     *
+     * @param toolId
+     * @param data    the tool data, in the workspace format
+     * @param onError function to call in case of invalid data where the error message is supplied
+     * @return the submitted job or an empty optional if the tool is unknown or the data is not valid
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public Optional<HeadlessJob> submit(String toolId, Map<String, String> data, Consumer<String> onError) {
+        return submit(toolId, data, onError, j -> {
+        });
+    }
+
+    /**
+     * Submits a job for the given tool
+     *
+     * @param toolId
+     * @param data         the tool data, in the workspace format
+     * @param onError      function to call in case of invalid data where the error message is supplied
+     * @param onCompletion function to call, from the worker thread, when the job is completed or failed
+     * @return the submitted job or an empty optional if the tool is unknown or the data is not valid
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public Optional<HeadlessJob> submit(String toolId, Map<String, String> data, Consumer<String> onError,
+            Consumer<HeadlessJob> onCompletion) {
+        return runner.parameters(toolId, data, onError).map(parameters -> {
+            var job = new HeadlessJob(UUID.randomUUID().toString(), toolId);
+            jobs.put(job.id(), job);
+            evict();
+            try {
+                executor.execute(() -> execute(job, parameters, onCompletion));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.id());
+                throw e;
+            }
+            return job;
+        });
+    }
+
+    private void execute(HeadlessJob job, AbstractParameters parameters, Consumer<HeadlessJob> onCompletion) {
+        job.running();
+        LOG.debug("Running job {} for tool {}", job.id(), job.toolId());
+        try {
+            job.completed(runner.run(parameters, job::progress));
+        } catch (RuntimeException e) {
+            job.completed(new HeadlessTaskResult(null, e));
+        }
+        LOG.debug("Job {} {}", job.id(), job.status());
+        evict();
+        onCompletion.accept(job);
+    }
+
+    /**
+     * Removes the oldest completed or failed jobs exceeding the retained ones, skipping the jobs still queued or
+     * running
+     */
+    private void evict() {
+        synchronized (jobs) {
+            var iterator = jobs.values().iterator();
+            while (jobs.size() > RETAINED_JOBS && iterator.hasNext()) {
+                if (iterator.next().status().isFinal()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param id
+     * @return the job with the given id
+     */
+    public Optional<HeadlessJob> job(String id) {
+        return ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
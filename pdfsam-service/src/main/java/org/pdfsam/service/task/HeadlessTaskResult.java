@@ -0,0 +1,45 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Result of a task executed by the {@link HeadlessTaskRunner}
+ *
+ * @param outputs the files generated by the task
+ * @param failure the cause of the failure, null if the task completed successfully
+ * @author Andrea Vacondio
+ */
+public record HeadlessTaskResult(List<File> outputs, Throwable failure) {
+
+    public HeadlessTaskResult {
+        outputs = Collections.unmodifiableList(new ArrayList<>(ofNullable(outputs).orElseGet(List::of)));
+    }
+
+    public boolean isSuccessful() {
+        return isNull(failure);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.core.support.params.ToolData;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.core.service.TaskExecutionService;
+import org.sejda.model.exception.TaskOutputVisitException;
+import org.sejda.model.notification.event.PercentageOfWorkDoneChangedEvent;
+import org.sejda.model.notification.event.TaskExecutionCompletedEvent;
+import org.sejda.model.notification.event.TaskExecutionFailedEvent;
+import org.sejda.model.output.DirectoryTaskOutput;
+import org.sejda.model.output.FileOrDirectoryTaskOutput;
+import org.sejda.model.output.FileTaskOutput;
+import org.sejda.model.output.TaskOutputDispatcher;
+import org.sejda.model.parameter.base.AbstractParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.util.Optional.ofNullable;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * Component building and executing the task parameters of {@link HeadlessTool}s without any user interface. Tasks are
+ * executed synchronously in the calling thread and notifications are collected using the thread local notification
+ * context, so multiple runners can execute tasks concurrently in different threads.
+ *
+ * @author Andrea Vacondio
+ */
+public class HeadlessTaskRunner {
+    private static final Logger LOG = LoggerFactory.getLogger(HeadlessTaskRunner.class);
+
+    private final TaskExecutionService executionService;
+    private final Map<String, HeadlessTool> tools = new TreeMap<>();
+
+    public HeadlessTaskRunner(TaskExecutionService executionService, Collection<? extends HeadlessTool> tools) {
+        this.executionService = executionService;
+        ofNullable(tools).ifPresent(t -> t.forEach(tool -> this.tools.put(tool.id(), tool)));
+    }
+
+    /**
+     * @return the ids of the tools this runner can execute
+     */
+    public Set<String> toolIds() {
+        return Collections.unmodifiableSet(tools.keySet());
+    }
+
+    /**
+     * @param toolId
+     * @return the tool with the given id
+     */
+    public Optional<HeadlessTool> tool(String toolId) {
+        return ofNullable(tools.get(toolId));
+    }
+
+    /**
+     * Builds the task parameters for the given tool
+     *
+     * @param toolId
+     * @param data    the tool data, in the workspace format
+     * @param onError function to call in case of error where the error message is supplied
+     * @return the parameters or an empty optional if the tool is unknown or the data is not valid
+     */
+    public Optional<AbstractParameters> parameters(String toolId, Map<String, String> data,
+            Consumer<String> onError) {
+        var tool = tools.get(toolId);
+        if (tool == null) {
+            onError.accept(i18n().tr("Unknown tool: {0}", toolId));
+            return Optional.empty();
+        }
+        List<String> errors = new ArrayList<>();
+        try {
+            Builder<? extends AbstractParameters> builder = tool.builder(new ToolData(data), errors::add);
+            errors.forEach(onError);
+            if (errors.isEmpty()) {
+                return Optional.of(builder.build());
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to build the parameters for {}", toolId, e);
+            errors.forEach(onError);
+            onError.accept(ofNullable(e.getMessage()).orElseGet(() -> i18n().tr("Invalid parameters for {0}", toolId)));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param parameters
+     * @return the folder where the given parameters write their output, the parent folder in case of a single output
+     * file
+     */
+    public Optional<File> outputFolder(AbstractParameters parameters) {
+        AtomicReference<File> folder = new AtomicReference<>();
+        try {
+            parameters.getOutput().accept(new TaskOutputDispatcher() {
+                @Override
+                public void dispatch(FileTaskOutput output) {
+                    folder.set(output.getDestination().getAbsoluteFile().getParentFile());
+                }
+
+                @Override
+                public void dispatch(DirectoryTaskOutput output) {
+                    folder.set(output.getDestination());
+                }
+
+                @Override
+                public void dispatch(FileOrDirectoryTaskOutput output) {
+                    folder.set(output.getDestination());
+                }
+            });
+        } catch (TaskOutputVisitException e) {
+            LOG.warn("Unable to find the output folder", e);
+        }
+        return ofNullable(folder.get());
+    }
+
+    /**
+     * Executes the given parameters, blocking until the task is completed or failed
+     *
+     * @param parameters
+     * @return the result of the execution
+     */
+    public HeadlessTaskResult run(AbstractParameters parameters) {
+        return run(parameters, p -> {
+        });
+    }
+
+    /**
+     * Executes the given parameters, blocking until the task is completed or failed
+     *
+     * @param parameters
+     * @param onProgress function to call when the percentage of work done changes
+     * @return the result of the execution
+     */
+    public HeadlessTaskResult run(AbstractParameters parameters, Consumer<BigDecimal> onProgress) {
+        List<File> outputs = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ThreadLocalNotificationContext.getContext().addListener(TaskExecutionCompletedEvent.class,
+                e -> outputs.addAll(e.getNotifiableTaskMetadata().taskOutput()));
+        ThreadLocalNotificationContext.getContext().addListener(PercentageOfWorkDoneChangedEvent.class, e -> {
+            if (!e.isUndetermined()) {
+                onProgress.accept(e.getPercentage());
+            }
+        });
+        ThreadLocalNotificationContext.getContext().addListener(TaskExecutionFailedEvent.class,
+                e -> failure.set(ofNullable(e.getFailingCause()).orElseGet(
+                        () -> new RuntimeException(i18n().tr("The task failed")))));
+        try {
+            LOG.debug("Executing {}", parameters);
+            executionService.execute(parameters);
+        } finally {
+            ThreadLocalNotificationContext.getContext().clearListeners();
+        }
+        return new HeadlessTaskResult(outputs, failure.get());
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.endsWithIgnoreCase;
+import static org.apache.commons.lang3.StringUtils.removeEndIgnoreCase;
+import static org.pdfsam.i18n.I18nContext.i18n;
+import static org.sejda.commons.util.RequireUtils.requireArg;
+
+/**
+ * Watches a folder and submits a job to a {@link HeadlessJobQueue} for every PDF document that lands there. Documents
+ * are submitted once their size and last modified time didn't change for the given quiet period, so files that are
+ * still being copied are not processed. When the queue is full, documents stay pending and are submitted once workers
+ * are available again. Successfully processed documents are moved to the {@value #PROCESSED} subfolder and documents
+ * that couldn't be processed to the {@value #FAILED} subfolder, so they are not processed again when the watcher is
+ * restarted.
+ *
+ * @author Andrea Vacondio
+ */
+public class HotFolderWatcher implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(HotFolderWatcher.class);
+    public static final String PROCESSED = "processed";
+    public static final String FAILED = "failed";
+
+    private final HeadlessJobQueue queue;
+    private final String toolId;
+    private final Function<File, Map<String, String>> dataFor;
+    private final Path folder;
+    private final long quietPeriodMillis;
+    private final Map<Path, Candidate> pending = new ConcurrentHashMap<>();
+    private final Set<Path> submitted = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        var thread = new Thread(r, "pdfsam-hot-folder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private WatchService watchService;
+
+    /**
+     * @param queue       the queue jobs are submitted to
+     * @param toolId      the tool processing the documents
+     * @param dataFor     function returning the tool data to process the given document
+     * @param folder      the folder to watch
+     * @param quietPeriod the time a document must remain unchanged before being processed
+     */
+    public HotFolderWatcher(HeadlessJobQueue queue, String toolId, Function<File, Map<String, String>> dataFor,
+            Path folder, Duration quietPeriod) {
+        requireArg(nonNull(folder) && Files.isDirectory(folder), "An existing folder to watch is required");
+        requireArg(nonNull(quietPeriod) && !quietPeriod.isNegative(), "The quiet period cannot be negative");
+        this.queue = queue;
+        this.toolId = toolId;
+        this.dataFor = dataFor;
+        this.folder = folder;
+        this.quietPeriodMillis = quietPeriod.toMillis();
+    }
+
+    /**
+     * Starts watching the folder, documents already in the folder are processed as well
+     */
+    public void start() throws IOException {
+        watchService = folder.getFileSystem().newWatchService();
+        folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        scan();
+        // not a daemon, it keeps the process alive until the watcher is closed
+        new Thread(this::watch, "pdfsam-hot-folder-watcher").start();
+        scheduler.scheduleWithFixedDelay(this::check, quietPeriodMillis, Math.max(quietPeriodMillis / 2, 100),
+                TimeUnit.MILLISECONDS);
+        LOG.info(i18n().tr("Watching {0}", folder.toAbsolutePath().toString()));
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                var key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        scan();
+                    } else if (event.kind() == ENTRY_DELETE) {
+                        var file = folder.resolve((Path) event.context());
+                        pending.remove(file);
+                        submitted.remove(file);
+                    } else {
+                        changed(folder.resolve((Path) event.context()));
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LOG.debug("Stopped watching {}", folder);
+        }
+    }
+
+    private void scan() {
+        try (var files = Files.list(folder)) {
+            files.forEach(this::changed);
+        } catch (IOException e) {
+            LOG.error(i18n().tr("Unable to list the files in {0}", folder.toString()), e);
+        }
+    }
+
+    /**
+     * Notifies that the given file has been created or modified
+     */
+    void changed(Path file) {
+        if (endsWithIgnoreCase(file.getFileName().toString(), ".pdf") && !submitted.contains(file)
+                && !Files.isDirectory(file)) {
+            pending.putIfAbsent(file, new Candidate(-1, -1, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Submits the pending documents that didn't change for the quiet period
+     */
+    void check() {
+        var now = System.currentTimeMillis();
+        for (var entry : pending.entrySet()) {
+            var file = entry.getKey();
+            try {
+                var size = Files.size(file);
+                var lastModified = Files.getLastModifiedTime(file).toMillis();
+                var candidate = entry.getValue();
+                if (candidate.size() != size || candidate.lastModified() != lastModified) {
+                    pending.put(file, new Candidate(size, lastModified, now));
+                } else if (size > 0 && now - candidate.stableSince() >= quietPeriodMillis && !submit(file)) {
+                    // the queue is full, we try again at the next check
+                    return;
+                }
+            } catch (IOException e) {
+                LOG.debug("Unable to access {}, it's no longer pending", file);
+                pending.remove(file);
+            }
+        }
+    }
+
+    private boolean submit(Path file) {
+        submitted.add(file);
+        try {
+            var job = queue.submit(toolId, dataFor.apply(file.toFile()),
+                    m -> LOG.warn(i18n().tr("Unable to process {0}: {1}", file.getFileName().toString(), m)), j -> {
+                        if (j.status() == HeadlessJobStatus.COMPLETED) {
+                            LOG.info(i18n().tr("Processed {0}", file.getFileName().toString()));
+                            moveTo(file, PROCESSED);
+                        } else {
+                            LOG.error(i18n().tr("Unable to process {0}", file.getFileName().toString()),
+                                    j.result().map(HeadlessTaskResult::failure).orElse(null));
+                            moveTo(file, FAILED);
+                        }
+                    });
+            pending.remove(file);
+            if (job.isEmpty()) {
+                moveTo(file, FAILED);
+            }
+            return true;
+        } catch (RejectedExecutionException e) {
+            submitted.remove(file);
+            return false;
+        }
+    }
+
+    /**
+     * Moves the given file to the given subfolder, without replacing documents with the same name moved there before.
+     * The file is no longer considered submitted, so if it cannot be moved it's processed again once modified.
+     */
+    void moveTo(Path file, String subfolder) {
+        try {
+            var destinationFolder = Files.createDirectories(folder.resolve(subfolder));
+            var name = file.getFileName().toString();
+            var destination = destinationFolder.resolve(name);
+            if (Files.exists(destination)) {
+                destination = destinationFolder.resolve(
+                        removeEndIgnoreCase(name, ".pdf") + "-" + System.currentTimeMillis() + ".pdf");
+            }
+            Files.move(file, destination);
+        } catch (IOException e) {
+            LOG.warn(i18n().tr("Unable to move {0} to the {1} folder", file.getFileName().toString(), subfolder), e);
+        } finally {
+            submitted.remove(file);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        if (nonNull(watchService)) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOG.warn(i18n().tr("Unable to stop watching {0}", folder.toString()), e);
+            }
+        }
+    }
+
+    private record Candidate(long size, long lastModified, long stableSince) {
+    }
+}
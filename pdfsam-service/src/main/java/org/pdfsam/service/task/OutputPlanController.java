@@ -0,0 +1,79 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import jakarta.inject.Inject;
+import org.pdfsam.eventstudio.annotation.EventListener;
+import org.pdfsam.injector.Auto;
+import org.pdfsam.model.task.OutputPlan;
+import org.pdfsam.model.task.OutputPlanRequest;
+import org.sejda.model.pdf.page.PageRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.stream.Collectors;
+
+import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * Component listening for {@link OutputPlanRequest}, logging the computed {@link OutputPlan} and sending it to the
+ * requesting tool.
+ *
+ * @author Andrea Vacondio
+ */
+@Auto
+public class OutputPlanController {
+    private static final Logger LOG = LoggerFactory.getLogger(OutputPlanController.class);
+
+    private final OutputPlanner planner;
+
+    @Inject
+    public OutputPlanController() {
+        this(new OutputPlanner());
+    }
+
+    OutputPlanController(OutputPlanner planner) {
+        this.planner = planner;
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    @EventListener
+    public void request(OutputPlanRequest request) {
+        planner.plan(request.toolId(), request.parameters(), request.descriptors(), LOG::warn).ifPresent(plan -> {
+            plan.outputs().forEach(o -> LOG.info(i18n().tr("{0}: pages {1} ({2} pages, about {3} KB)", o.name(),
+                    o.pages().stream().map(OutputPlanController::toString).collect(Collectors.joining(",")),
+                    Integer.toString(o.totalPages()), Long.toString(kilobytes(o.estimatedSize())))));
+            LOG.info(i18n().tr("{0} files would be generated, about {1} KB in total",
+                    Integer.toString(plan.outputs().size()), Long.toString(kilobytes(plan.estimatedSize()))));
+            eventStudio().broadcast(plan, request.toolId());
+        });
+    }
+
+    private static String toString(PageRange range) {
+        if (range.getStart() == range.getEnd()) {
+            return Integer.toString(range.getStart());
+        }
+        return range.getStart() + "-" + range.getEnd();
+    }
+
+    private static long kilobytes(long bytes) {
+        return Math.max(1, Math.round(bytes / 1024d));
+    }
+}
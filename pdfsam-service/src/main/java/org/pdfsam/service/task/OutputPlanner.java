@@ -0,0 +1,194 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.model.task.OutputPlan;
+import org.pdfsam.model.task.PlannedOutput;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.output.FileTaskOutput;
+import org.sejda.model.parameter.AbstractSplitByPageParameters;
+import org.sejda.model.parameter.AddBackPagesParameters;
+import org.sejda.model.parameter.ExtractPagesParameters;
+import org.sejda.model.parameter.base.AbstractParameters;
+import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.pdf.page.PageRange;
+import org.sejda.model.pdf.page.PagesSelection;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import static java.util.Optional.ofNullable;
+import static org.pdfsam.i18n.I18nContext.i18n;
+import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
+import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
+
+/**
+ * Computes the {@link OutputPlan} of split, extract and add back pages parameters using the page count of the loaded
+ * descriptors. Names are generated with the same prefix and name generator used by the tasks, sizes are estimated
+ * proportionally to the number of pages taken from each source. Nothing is read or written.
+ *
+ * @author Andrea Vacondio
+ */
+class OutputPlanner {
+
+    /**
+     * @param toolId
+     * @param parameters
+     * @param descriptors the loaded descriptors of the documents used by the parameters
+     * @param onError     function to call if the plan cannot be computed where the error message is supplied
+     * @return the plan or an empty optional if parameters are not supported or a document is not loaded
+     */
+    Optional<OutputPlan> plan(String toolId, AbstractParameters parameters,
+            Collection<PdfDocumentDescriptor> descriptors, Consumer<String> onError) {
+        try {
+            List<PlannedOutput> outputs = new ArrayList<>();
+            if (parameters instanceof AbstractSplitByPageParameters split) {
+                planSplit(split, descriptors, outputs);
+            } else if (parameters instanceof ExtractPagesParameters extract) {
+                planExtract(extract, descriptors, outputs);
+            } else if (parameters instanceof AddBackPagesParameters backPages) {
+                planBackPages(backPages, descriptors, outputs);
+            } else {
+                onError.accept(i18n().tr("Output preview is not available for this tool"));
+                return Optional.empty();
+            }
+            return Optional.of(new OutputPlan(toolId, outputs));
+        } catch (IllegalStateException e) {
+            onError.accept(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void planSplit(AbstractSplitByPageParameters parameters, Collection<PdfDocumentDescriptor> descriptors,
+            List<PlannedOutput> outputs) {
+        for (PdfSource<?> source : parameters.getSourceList()) {
+            var descriptor = descriptor(source, descriptors);
+            int total = descriptor.pages().getValue();
+            var splitPages = parameters.getPages(total);
+            int start = 1;
+            for (int page = 1; page <= total; page++) {
+                if (splitPages.contains(page) || page == total) {
+                    outputs.add(output(parameters, descriptor, start, outputs.size() + 1,
+                            List.of(new PageRange(start, page))));
+                    start = page + 1;
+                }
+            }
+        }
+    }
+
+    private void planExtract(ExtractPagesParameters parameters, Collection<PdfDocumentDescriptor> descriptors,
+            List<PlannedOutput> outputs) {
+        for (PdfSource<?> source : parameters.getSourceList()) {
+            var descriptor = descriptor(source, descriptors);
+            int total = descriptor.pages().getValue();
+            if (parameters.isSeparateFileForEachRange() && !parameters.isInvertSelection()) {
+                for (PagesSelection selection : parameters.getPageSelection()) {
+                    var ranges = ranges(new TreeSet<>(selection.getPages(total)));
+                    if (!ranges.isEmpty()) {
+                        outputs.add(output(parameters, descriptor, ranges.get(0).getStart(), outputs.size() + 1,
+                                ranges));
+                    }
+                }
+            } else {
+                var ranges = ranges(new TreeSet<>(parameters.getPages(total)));
+                if (parameters.isSeparateFileForEachRange()) {
+                    ranges.forEach(r -> outputs.add(
+                            output(parameters, descriptor, r.getStart(), outputs.size() + 1, List.of(r))));
+                } else if (!ranges.isEmpty()) {
+                    outputs.add(output(parameters, descriptor, ranges.get(0).getStart(), outputs.size() + 1, ranges));
+                }
+            }
+        }
+    }
+
+    private void planBackPages(AddBackPagesParameters parameters, Collection<PdfDocumentDescriptor> descriptors,
+            List<PlannedOutput> outputs) {
+        var descriptor = descriptor(parameters.getSourceList().get(0), descriptors);
+        var backPages = descriptor(parameters.getBackPagesSource(), descriptors);
+        int total = descriptor.pages().getValue();
+        int backPagesTotal = backPages.pages().getValue();
+        int repeated = backPagesTotal;
+        if (!parameters.getPageSelection().isEmpty()) {
+            repeated = parameters.getPages(backPagesTotal).size();
+        }
+        int added = (total / parameters.getStep()) * repeated;
+        long size = descriptor.getFile().length() + estimatedSize(backPages, repeated);
+        var name = descriptor.getFile().getName();
+        if (parameters.getOutput() instanceof FileTaskOutput file) {
+            name = file.getDestination().getName();
+        }
+        outputs.add(new PlannedOutput(name, descriptor.getFile(), List.of(new PageRange(1, total)), total + added,
+                size));
+    }
+
+    private static PlannedOutput output(MultiplePdfSourceMultipleOutputParameters parameters,
+            PdfDocumentDescriptor descriptor, int page, int fileNumber, List<PageRange> ranges) {
+        var name = nameGenerator(parameters.getOutputPrefix()).generate(
+                nameRequest().page(page).originalName(descriptor.getFile().getName()).fileNumber(fileNumber));
+        int pages = ranges.stream().mapToInt(r -> r.getEnd() - r.getStart() + 1).sum();
+        return new PlannedOutput(name, descriptor.getFile(), ranges, pages, estimatedSize(descriptor, pages));
+    }
+
+    private static long estimatedSize(PdfDocumentDescriptor descriptor, int pages) {
+        int total = descriptor.pages().getValue();
+        if (total <= 0) {
+            return 0;
+        }
+        return descriptor.getFile().length() * pages / total;
+    }
+
+    /**
+     * @return the given pages as a list of contiguous ranges
+     */
+    static List<PageRange> ranges(SortedSet<Integer> pages) {
+        List<PageRange> ranges = new ArrayList<>();
+        Integer start = null;
+        Integer previous = null;
+        for (Integer page : pages) {
+            if (Objects.isNull(start)) {
+                start = page;
+            } else if (page != previous + 1) {
+                ranges.add(new PageRange(start, previous));
+                start = page;
+            }
+            previous = page;
+        }
+        if (Objects.nonNull(start)) {
+            ranges.add(new PageRange(start, previous));
+        }
+        return ranges;
+    }
+
+    private static PdfDocumentDescriptor descriptor(PdfSource<?> source, Collection<PdfDocumentDescriptor> descriptors) {
+        File file = ofNullable(source).map(PdfSource::getSource).filter(File.class::isInstance).map(File.class::cast)
+                .orElse(null);
+        return descriptors.stream().filter(d -> d.getFile().equals(file)).filter(PdfDocumentDescriptor::isLoaded)
+                .findFirst().orElseThrow(() -> new IllegalStateException(
+                        i18n().tr("The document {0} is not loaded yet",
+                                ofNullable(source).map(PdfSource::getName).orElse(""))));
+    }
+}
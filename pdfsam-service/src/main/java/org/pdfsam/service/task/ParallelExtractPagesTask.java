@@ -0,0 +1,228 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.pdfsam.model.task.ParallelExtractPagesParameters;
+import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.OutputWriters;
+import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.impl.sambox.component.optimization.OptimizationRuler;
+import org.sejda.impl.sambox.component.optimization.ResourceDictionaryCleaner;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.pdf.encryption.PdfAccessPermission;
+import org.sejda.model.pdf.page.PageRange;
+import org.sejda.model.pdf.page.PagesSelection;
+import org.sejda.model.task.BaseTask;
+import org.sejda.model.task.TaskExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.nonNull;
+import static org.sejda.commons.util.IOUtils.closeQuietly;
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.sejda.core.support.io.model.FileOutput.file;
+import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
+import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
+import static org.sejda.model.util.IOUtils.createTemporaryBuffer;
+
+/**
+ * Extracts pages from the sources processing up to {@link ParallelExtractPagesParameters#getWorkers()} sources
+ * concurrently. Every source is opened, extracted and released by a single worker, temporary files are then added to
+ * the shared output writer in sources order, so output names, file numbers and progress are the same as a sequential
+ * extraction. Bookmarks, forms and links are not carried over to the generated documents, so the tools use this task
+ * only when bookmarks are discarded.
+ *
+ * @author Andrea Vacondio
+ */
+public class ParallelExtractPagesTask extends BaseTask<ParallelExtractPagesParameters> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelExtractPagesTask.class);
+
+    private MultipleOutputWriter outputWriter;
+    private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private ExecutorService executor;
+    private final List<File> buffers = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void before(ParallelExtractPagesParameters parameters, TaskExecutionContext executionContext)
+            throws TaskException {
+        super.before(parameters, executionContext);
+        documentLoader = new DefaultPdfSourceOpener();
+        outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+    }
+
+    @Override
+    public void execute(ParallelExtractPagesParameters parameters) throws TaskException {
+        List<PdfSource<?>> sources = parameters.getSourceList();
+        var counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parameters.getWorkers(), sources.size())), r -> {
+            var thread = new Thread(r, "pdfsam-extract-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        LOG.debug("Extracting pages from {} sources using up to {} workers", sources.size(), parameters.getWorkers());
+        List<Future<List<Extracted>>> results = sources.stream()
+                .map(source -> executor.submit(() -> extract(source, parameters))).toList();
+
+        int fileNumber = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            PdfSource<?> source = sources.get(i);
+            executionContext().notifiableTaskMetadata().setCurrentSource(source);
+            for (Extracted extracted : await(results.get(i))) {
+                String outName = nameGenerator(parameters.getOutputPrefix()).generate(
+                        nameRequest().page(extracted.page()).originalName(source.getName()).fileNumber(++fileNumber));
+                outputWriter.addOutput(file(extracted.file()).name(outName));
+            }
+            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(i + 1).outOf(sources.size());
+        }
+        executionContext().notifiableTaskMetadata().clearCurrentSource();
+        parameters.getOutput().accept(outputWriter);
+        buffers.clear();
+        LOG.debug("Pages extracted and written to {}", parameters.getOutput());
+    }
+
+    private List<Extracted> await(Future<List<Extracted>> result) throws TaskException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskExecutionException("Interrupted while extracting pages", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TaskException taskException) {
+                throw taskException;
+            }
+            throw new TaskExecutionException("Unable to extract pages", e.getCause());
+        }
+    }
+
+    /**
+     * Extracts the selected pages of the given source to temporary files, one for each set of pages
+     */
+    private List<Extracted> extract(PdfSource<?> source, ParallelExtractPagesParameters parameters)
+            throws TaskException {
+        executionContext().assertTaskNotCancelled();
+        LOG.debug("Opening {}", source);
+        PDDocumentHandler documentHandler = source.open(documentLoader);
+        try {
+            documentHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
+            boolean optimize = new OptimizationRuler(parameters.getOptimizationPolicy()).apply(
+                    documentHandler.getUnderlyingPDDocument());
+            List<Extracted> extracted = new ArrayList<>();
+            for (List<PageRange> ranges : pagesSets(parameters, documentHandler.getNumberOfPages())) {
+                extracted.add(new Extracted(write(documentHandler, ranges, optimize, parameters),
+                        ranges.get(0).getStart()));
+            }
+            if (extracted.isEmpty()) {
+                LOG.warn("No page selected from {}", source);
+            }
+            return extracted;
+        } finally {
+            closeQuietly(documentHandler);
+        }
+    }
+
+    private File write(PDDocumentHandler source, List<PageRange> ranges, boolean optimize,
+            ParallelExtractPagesParameters parameters) throws TaskException {
+        PDDocumentHandler destination = new PDDocumentHandler();
+        try {
+            destination.setCreatorOnPDDocument();
+            for (PageRange range : ranges) {
+                for (int page = range.getStart(); page <= range.getEnd(); page++) {
+                    executionContext().assertTaskNotCancelled();
+                    destination.importPage(source.getPage(page));
+                }
+            }
+            if (optimize) {
+                new ResourceDictionaryCleaner().accept(destination.getUnderlyingPDDocument());
+            }
+            File tmpFile = createTemporaryBuffer(parameters.getOutput());
+            buffers.add(tmpFile);
+            LOG.debug("Created output on temporary buffer {}", tmpFile);
+            destination.setVersionOnPDDocument(parameters.getVersion());
+            destination.setCompress(parameters.isCompress());
+            destination.savePDDocument(tmpFile, parameters.getOutput().getEncryptionAtRestPolicy());
+            return tmpFile;
+        } finally {
+            closeQuietly(destination);
+        }
+    }
+
+    /**
+     * @return the sets of pages to extract, each one as a list of contiguous ranges and each one generating a document,
+     * the same way {@link OutputPlanner} plans them
+     */
+    static List<List<PageRange>> pagesSets(ParallelExtractPagesParameters parameters, int totalPages) {
+        List<List<PageRange>> sets = new ArrayList<>();
+        if (parameters.isSeparateFileForEachRange() && !parameters.isInvertSelection()) {
+            for (PagesSelection selection : parameters.getPageSelection()) {
+                var ranges = OutputPlanner.ranges(new TreeSet<>(selection.getPages(totalPages)));
+                if (!ranges.isEmpty()) {
+                    sets.add(ranges);
+                }
+            }
+        } else {
+            var ranges = OutputPlanner.ranges(new TreeSet<>(parameters.getPages(totalPages)));
+            if (parameters.isSeparateFileForEachRange()) {
+                ranges.forEach(r -> sets.add(List.of(r)));
+            } else if (!ranges.isEmpty()) {
+                sets.add(ranges);
+            }
+        }
+        return sets;
+    }
+
+    private record Extracted(File file, int page) {
+    }
+
+    @Override
+    public void after() {
+        if (nonNull(executor)) {
+            executor.shutdownNow();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    LOG.warn("Extract workers did not terminate");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List.copyOf(buffers).forEach(f -> {
+            if (!f.delete()) {
+                LOG.warn("Unable to delete temporary file {}", f);
+            }
+        });
+        buffers.clear();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.pdfsam.model.task.ParallelSplitByPageParameters;
+import org.sejda.commons.util.IOUtils;
+import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.OutputWriters;
+import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.impl.sambox.component.optimization.OptimizationRuler;
+import org.sejda.impl.sambox.component.optimization.ResourceDictionaryCleaner;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.pdf.encryption.PdfAccessPermission;
+import org.sejda.model.task.BaseTask;
+import org.sejda.model.task.TaskExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.nonNull;
+import static org.sejda.commons.util.IOUtils.closeQuietly;
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.sejda.core.support.io.model.FileOutput.file;
+import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
+import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
+import static org.sejda.model.util.IOUtils.createTemporaryBuffer;
+
+/**
+ * Splits a document at the pages defined by the parameters, writing up to
+ * {@link ParallelSplitByPageParameters#getWorkers()} documents concurrently. Page ranges are computed up front, every
+ * worker imports pages from its own instance of the source document, so no object of a loaded document is ever shared
+ * between threads, and results are collected in page order, so output names and progress are the same as a sequential
+ * split. The optimization policy is applied to the generated documents while the outline is not copied, so the tools
+ * use this task only when bookmarks are discarded.
+ *
+ * @author Andrea Vacondio
+ */
+public class ParallelSplitByPageTask extends BaseTask<ParallelSplitByPageParameters> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelSplitByPageTask.class);
+
+    private MultipleOutputWriter outputWriter;
+    private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private ExecutorService executor;
+    private final List<PDDocumentHandler> opened = Collections.synchronizedList(new ArrayList<>());
+    private final List<File> buffers = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void before(ParallelSplitByPageParameters parameters, TaskExecutionContext executionContext)
+            throws TaskException {
+        super.before(parameters, executionContext);
+        documentLoader = new DefaultPdfSourceOpener();
+        outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+    }
+
+    @Override
+    public void execute(ParallelSplitByPageParameters parameters) throws TaskException {
+        PdfSource<?> source = parameters.getSourceList().get(0);
+        LOG.debug("Opening {}", source);
+        executionContext().notifiableTaskMetadata().setCurrentSource(source);
+        PDDocumentHandler first = open(source);
+        first.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
+        boolean optimize = new OptimizationRuler(parameters.getOptimizationPolicy()).apply(
+                first.getUnderlyingPDDocument());
+        List<PageRange> ranges = ranges(parameters.getPages(first.getNumberOfPages()), first.getNumberOfPages());
+        LOG.debug("Writing {} documents using up to {} workers", ranges.size(), parameters.getWorkers());
+
+        Queue<PDDocumentHandler> available = new ConcurrentLinkedQueue<>();
+        available.add(first);
+        var counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parameters.getWorkers(), ranges.size())), r -> {
+            var thread = new Thread(r, "pdfsam-split-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<File>> results = ranges.stream()
+                .map(range -> executor.submit(() -> write(range, source, available, optimize, parameters))).toList();
+
+        for (int i = 0; i < ranges.size(); i++) {
+            File tmpFile = await(results.get(i));
+            String outName = nameGenerator(parameters.getOutputPrefix()).generate(
+                    nameRequest().page(ranges.get(i).start()).originalName(source.getName()).fileNumber(i + 1));
+            outputWriter.addOutput(file(tmpFile).name(outName));
+            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(i + 1).outOf(ranges.size());
+        }
+        executionContext().notifiableTaskMetadata().clearCurrentSource();
+        parameters.getOutput().accept(outputWriter);
+        buffers.clear();
+        LOG.debug("Input document split and written to {}", parameters.getOutput());
+    }
+
+    private File await(Future<File> result) throws TaskException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskExecutionException("Interrupted while writing split documents", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TaskException taskException) {
+                throw taskException;
+            }
+            throw new TaskExecutionException("Unable to write split document", e.getCause());
+        }
+    }
+
+    /**
+     * Writes the given range to a temporary file, importing pages from a source instance no other worker is using
+     */
+    private File write(PageRange range, PdfSource<?> source, Queue<PDDocumentHandler> available, boolean optimize,
+            ParallelSplitByPageParameters parameters) throws TaskException {
+        PDDocumentHandler sourceHandler = available.poll();
+        if (sourceHandler == null) {
+            LOG.trace("Opening a new instance of {} for {}", source, Thread.currentThread().getName());
+            sourceHandler = open(source);
+        }
+        PDDocumentHandler destination = new PDDocumentHandler();
+        try {
+            destination.setCreatorOnPDDocument();
+            for (int page = range.start(); page <= range.end(); page++) {
+                executionContext().assertTaskNotCancelled();
+                destination.importPage(sourceHandler.getPage(page));
+            }
+            if (optimize) {
+                new ResourceDictionaryCleaner().accept(destination.getUnderlyingPDDocument());
+            }
+            File tmpFile = createTemporaryBuffer(parameters.getOutput());
+            buffers.add(tmpFile);
+            LOG.debug("Writing pages {} to {} on temporary buffer {}", range.start(), range.end(), tmpFile);
+            destination.setVersionOnPDDocument(parameters.getVersion());
+            destination.setCompress(parameters.isCompress());
+            destination.savePDDocument(tmpFile, parameters.getOutput().getEncryptionAtRestPolicy());
+            return tmpFile;
+        } finally {
+            closeQuietly(destination);
+            available.add(sourceHandler);
+        }
+    }
+
+    private PDDocumentHandler open(PdfSource<?> source) throws TaskException {
+        PDDocumentHandler handler = source.open(documentLoader);
+        opened.add(handler);
+        return handler;
+    }
+
+    /**
+     * @return the ranges of pages to write, in page order regardless of the iteration order of the split pages, each
+     * one ending at a split page, the last one ending at the last page
+     */
+    static List<PageRange> ranges(Collection<Integer> splitAfter, int totalPages) {
+        List<PageRange> ranges = new ArrayList<>();
+        int start = 1;
+        for (Integer page : new TreeSet<>(splitAfter)) {
+            if (page >= start && page < totalPages) {
+                ranges.add(new PageRange(start, page));
+                start = page + 1;
+            }
+        }
+        if (start <= totalPages) {
+            ranges.add(new PageRange(start, totalPages));
+        }
+        return ranges;
+    }
+
+    record PageRange(int start, int end) {
+    }
+
+    @Override
+    public void after() {
+        if (nonNull(executor)) {
+            executor.shutdownNow();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    LOG.warn("Split workers did not terminate");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List.copyOf(opened).forEach(IOUtils::closeQuietly);
+        opened.clear();
+        List.copyOf(buffers).forEach(f -> {
+            if (!f.delete()) {
+                LOG.warn("Unable to delete temporary file {}", f);
+            }
+        });
+        buffers.clear();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.pdfsam.model.task.PlannedSplitBySizeParameters;
+import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.OutputWriters;
+import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.pdf.encryption.PdfAccessPermission;
+import org.sejda.model.task.BaseTask;
+import org.sejda.model.task.TaskExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+
+import static org.sejda.commons.util.IOUtils.closeQuietly;
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.sejda.core.support.io.model.FileOutput.file;
+import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
+import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
+import static org.sejda.model.util.IOUtils.createTemporaryBuffer;
+
+/**
+ * Splits a document by size using the planned cuts as a starting point. Every part is written and measured, a part
+ * exceeding the threshold is written again with fewer pages, proportionally to the excess, until it fits or it's made
+ * of a single page. The generated documents are therefore never bigger than the threshold unless a single page is,
+ * same as the regular split by size, while in the common case the planned parts are written once. Outline and
+ * optimization settings are not applied to the generated documents.
+ *
+ * @author Andrea Vacondio
+ */
+public class PlannedSplitBySizeTask extends BaseTask<PlannedSplitBySizeParameters> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PlannedSplitBySizeTask.class);
+
+    private MultipleOutputWriter outputWriter;
+    private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private PDDocumentHandler sourceHandler;
+    private final List<File> buffers = new ArrayList<>();
+
+    @Override
+    public void before(PlannedSplitBySizeParameters parameters, TaskExecutionContext executionContext)
+            throws TaskException {
+        super.before(parameters, executionContext);
+        documentLoader = new DefaultPdfSourceOpener();
+        outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+    }
+
+    @Override
+    public void execute(PlannedSplitBySizeParameters parameters) throws TaskException {
+        PdfSource<?> source = parameters.getSourceList().get(0);
+        LOG.debug("Opening {}", source);
+        executionContext().notifiableTaskMetadata().setCurrentSource(source);
+        sourceHandler = source.open(documentLoader);
+        sourceHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
+        int totalPages = sourceHandler.getNumberOfPages();
+        int start = 1;
+        int fileNumber = 0;
+        while (start <= totalPages) {
+            int end = plannedEnd(parameters.getPlannedCuts(), start, totalPages);
+            File tmpFile = write(start, end, parameters);
+            long size = tmpFile.length();
+            while (size > parameters.getSizeToSplitAt() && end > start) {
+                LOG.debug("Pages {} to {} exceed the threshold with {} bytes, writing fewer pages", start, end, size);
+                delete(tmpFile);
+                long fitting = (end - start + 1) * parameters.getSizeToSplitAt() / size;
+                end = (int) Math.max(start, Math.min(end - 1, start + fitting - 1));
+                tmpFile = write(start, end, parameters);
+                size = tmpFile.length();
+            }
+            String outName = nameGenerator(parameters.getOutputPrefix()).generate(
+                    nameRequest().page(start).originalName(source.getName()).fileNumber(++fileNumber));
+            outputWriter.addOutput(file(tmpFile).name(outName));
+            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(end).outOf(totalPages);
+            start = end + 1;
+        }
+        executionContext().notifiableTaskMetadata().clearCurrentSource();
+        parameters.getOutput().accept(outputWriter);
+        buffers.clear();
+        LOG.debug("Input document split and written to {}", parameters.getOutput());
+    }
+
+    /**
+     * @return the last page of the part starting at the given page according to the plan
+     */
+    static int plannedEnd(SortedSet<Integer> plannedCuts, int start, int totalPages) {
+        return plannedCuts.tailSet(start).stream().filter(p -> p < totalPages).findFirst().orElse(totalPages);
+    }
+
+    private File write(int start, int end, PlannedSplitBySizeParameters parameters) throws TaskException {
+        PDDocumentHandler destination = new PDDocumentHandler();
+        try {
+            destination.setCreatorOnPDDocument();
+            for (int page = start; page <= end; page++) {
+                executionContext().assertTaskNotCancelled();
+                destination.importPage(sourceHandler.getPage(page));
+            }
+            File tmpFile = createTemporaryBuffer(parameters.getOutput());
+            buffers.add(tmpFile);
+            LOG.trace("Writing pages {} to {} on temporary buffer {}", start, end, tmpFile);
+            destination.setVersionOnPDDocument(parameters.getVersion());
+            destination.setCompress(parameters.isCompress());
+            destination.savePDDocument(tmpFile, parameters.getOutput().getEncryptionAtRestPolicy());
+            return tmpFile;
+        } finally {
+            closeQuietly(destination);
+        }
+    }
+
+    private void delete(File file) {
+        buffers.remove(file);
+        if (!file.delete()) {
+            LOG.warn("Unable to delete temporary file {}", file);
+        }
+    }
+
+    @Override
+    public void after() {
+        closeQuietly(sourceHandler);
+        List.copyOf(buffers).forEach(this::delete);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.sejda.sambox.cos.COSArray;
+import org.sejda.sambox.cos.COSBase;
+import org.sejda.sambox.cos.COSBoolean;
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.cos.COSNull;
+import org.sejda.sambox.cos.COSNumber;
+import org.sejda.sambox.cos.COSStream;
+import org.sejda.sambox.cos.COSString;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Walks the resources of the pages of a document replacing streams (fonts, images, color profiles...) that have the
+ * same encoded content and dictionary with a single instance, so that identical resources coming from different input
+ * documents are written only once.
+ *
+ * @author Andrea Vacondio
+ */
+class ResourcesDeduplicator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResourcesDeduplicator.class);
+    private static final Set<COSName> IGNORED_KEYS = Set.of(COSName.LENGTH, COSName.PARENT);
+    private static final int MAX_DESCRIPTION_DEPTH = 8;
+
+    private final Set<COSBase> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<COSStream, String> keys = new IdentityHashMap<>();
+    private final Map<String, COSStream> canonicals = new HashMap<>();
+    private final Map<COSStream, Integer> ids = new IdentityHashMap<>();
+    private int replaced;
+
+    /**
+     * Deduplicates the streams reachable from the pages resources of the given document
+     *
+     * @return the number of stream references that have been replaced
+     */
+    int deduplicate(PDDocument document) {
+        for (PDPage page : document.getPages()) {
+            COSBase resources = page.getCOSObject().getDictionaryObject(COSName.RESOURCES);
+            if (nonNull(resources)) {
+                visit(resources);
+            }
+        }
+        LOG.debug("Replaced {} duplicated resource streams", replaced);
+        return replaced;
+    }
+
+    private void visit(COSBase base) {
+        COSBase object = base.getCOSObject();
+        if (!visited.add(object)) {
+            return;
+        }
+        if (object instanceof COSDictionary dictionary) {
+            for (COSName key : List.copyOf(dictionary.keySet())) {
+                if (!IGNORED_KEYS.contains(key)) {
+                    COSBase value = dictionary.getDictionaryObject(key);
+                    if (nonNull(value)) {
+                        visit(value);
+                        duplicateOf(value).ifPresent(c -> dictionary.setItem(key, c));
+                    }
+                }
+            }
+        } else if (object instanceof COSArray array) {
+            for (int i = 0; i < array.size(); i++) {
+                COSBase value = array.getObject(i);
+                if (nonNull(value)) {
+                    visit(value);
+                    final int index = i;
+                    duplicateOf(value).ifPresent(c -> array.set(index, c));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the already registered stream equal to the given value, if the value is a stream and it is not the
+     * registered instance itself
+     */
+    private Optional<COSStream> duplicateOf(COSBase value) {
+        if (value.getCOSObject() instanceof COSStream stream) {
+            if (!keys.containsKey(stream)) {
+                keys.put(stream, keyOf(stream));
+            }
+            String key = keys.get(stream);
+            if (nonNull(key)) {
+                COSStream canonical = canonicals.putIfAbsent(key, stream);
+                if (nonNull(canonical) && canonical != stream) {
+                    replaced++;
+                    return Optional.of(canonical);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return a key made of the dictionary description and the digest of the encoded stream content, or null if the
+     * stream cannot be safely compared
+     */
+    private String keyOf(COSStream stream) {
+        String dictionary = describe(stream, 0);
+        if (isNull(dictionary)) {
+            return null;
+        }
+        try (DigestInputStream digest = new DigestInputStream(stream.getFilteredStream(),
+                MessageDigest.getInstance("SHA-256"))) {
+            digest.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digest.getMessageDigest().digest()) + dictionary;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOG.warn("Unable to read stream content, it won't be deduplicated", e);
+            return null;
+        }
+    }
+
+    private String describe(COSBase base, int depth) {
+        if (depth > MAX_DESCRIPTION_DEPTH || isNull(base)) {
+            return null;
+        }
+        COSBase object = base.getCOSObject();
+        if (object instanceof COSName || object instanceof COSNumber || object instanceof COSBoolean
+                || object instanceof COSNull) {
+            return object.toString();
+        }
+        if (object instanceof COSString string) {
+            return "(" + HexFormat.of().formatHex(string.getBytes()) + ")";
+        }
+        if (object instanceof COSStream stream && depth > 0) {
+            // nested streams are visited before their parent, so they are already canonical when shared
+            COSStream canonical = Optional.ofNullable(keys.get(stream)).map(canonicals::get).orElse(stream);
+            return "#" + ids.computeIfAbsent(canonical, k -> ids.size());
+        }
+        if (object instanceof COSDictionary dictionary) {
+            StringBuilder description = new StringBuilder("<<");
+            for (COSName key : dictionary.keySet().stream().filter(k -> !IGNORED_KEYS.contains(k))
+                    .sorted(Comparator.comparing(COSName::getName)).toList()) {
+                String value = describe(dictionary.getDictionaryObject(key), depth + 1);
+                if (isNull(value)) {
+                    return null;
+                }
+                description.append('/').append(key.getName()).append(' ').append(value);
+            }
+            return description.append(">>").toString();
+        }
+        if (object instanceof COSArray array) {
+            StringBuilder description = new StringBuilder("[");
+            for (int i = 0; i < array.size(); i++) {
+                String value = describe(array.getObject(i), depth + 1);
+                if (isNull(value)) {
+                    return null;
+                }
+                description.append(value).append(' ');
+            }
+            return description.append(']').toString();
+        }
+        return null;
+    }
+}
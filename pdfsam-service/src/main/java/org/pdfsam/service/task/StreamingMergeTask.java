@@ -0,0 +1,170 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.pdfsam.model.task.StreamingMergeParameters;
+import org.sejda.commons.util.IOUtils;
+import org.sejda.core.support.io.OutputWriters;
+import org.sejda.core.support.io.SingleOutputWriter;
+import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfFileSource;
+import org.sejda.model.input.PdfMergeInput;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.pdf.encryption.PdfAccessPermission;
+import org.sejda.model.task.BaseTask;
+import org.sejda.model.task.TaskExecutionContext;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+import static org.sejda.commons.util.IOUtils.closeQuietly;
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.sejda.model.util.IOUtils.createTemporaryBuffer;
+
+/**
+ * Merges the inputs keeping at most {@link StreamingMergeParameters#getChunkSize()} documents open at the same time.
+ * Inputs are merged in chunks written to temporary files, each chunk source is released as soon as the chunk is
+ * written, and the temporary files are then merged the same way until a single document is left. When requested,
+ * identical resources are deduplicated every time a document is written, so duplicates across chunks are removed by
+ * the following merges.
+ * <p>
+ * Memory is bounded only while merging the input chunks: SAMBox writes a document once it's completely built, so the
+ * last merge loads every object of the output while writing it and its memory usage grows with the output size. The
+ * gain over the regular merge is in the number of open documents and in the memory used by the inputs, not in the
+ * size of the output that can be produced.
+ *
+ * @author Andrea Vacondio
+ */
+public class StreamingMergeTask extends BaseTask<StreamingMergeParameters> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingMergeTask.class);
+
+    private int totalSteps;
+    private int currentStep;
+    private SingleOutputWriter outputWriter;
+    private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private final List<File> intermediates = new ArrayList<>();
+
+    @Override
+    public void before(StreamingMergeParameters parameters, TaskExecutionContext executionContext)
+            throws TaskException {
+        super.before(parameters, executionContext);
+        totalSteps = parameters.getInputList().size();
+        currentStep = 0;
+        documentLoader = new DefaultPdfSourceOpener();
+        outputWriter = OutputWriters.newSingleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+    }
+
+    @Override
+    public void execute(StreamingMergeParameters parameters) throws TaskException {
+        List<PdfMergeInput> inputs = parameters.getInputList();
+        List<File> chunks = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i += parameters.getChunkSize()) {
+            chunks.add(merge(inputs.subList(i, Math.min(i + parameters.getChunkSize(), inputs.size())), parameters,
+                    true));
+        }
+        executionContext().notifiableTaskMetadata().clearCurrentSource();
+
+        while (chunks.size() > 1) {
+            LOG.debug("Merging {} intermediate documents", chunks.size());
+            List<File> merged = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i += parameters.getChunkSize()) {
+                List<PdfMergeInput> chunkInputs = chunks.subList(i,
+                        Math.min(i + parameters.getChunkSize(), chunks.size())).stream().map(f -> {
+                    PdfFileSource source = PdfFileSource.newInstanceNoPassword(f);
+                    source.setEncryptionAtRestPolicy(parameters.getOutput().getEncryptionAtRestPolicy());
+                    return new PdfMergeInput(source);
+                }).toList();
+                merged.add(merge(chunkInputs, parameters, false));
+            }
+            chunks.forEach(this::delete);
+            chunks = merged;
+        }
+        File tmpFile = chunks.get(0);
+        intermediates.remove(tmpFile);
+        outputWriter.taskOutput(tmpFile);
+        parameters.getOutput().accept(outputWriter);
+        LOG.debug("Input documents merged correctly and written to {}", parameters.getOutput());
+    }
+
+    /**
+     * Merges the given inputs to a temporary file, closing every opened document before returning
+     */
+    private File merge(List<PdfMergeInput> inputs, StreamingMergeParameters parameters, boolean firstPass)
+            throws TaskException {
+        List<PDDocumentHandler> opened = new ArrayList<>(inputs.size());
+        PDDocumentHandler destination = new PDDocumentHandler();
+        try {
+            destination.setCreatorOnPDDocument();
+            for (PdfMergeInput input : inputs) {
+                LOG.debug("Opening {}", input.getSource());
+                executionContext().notifiableTaskMetadata().setCurrentSource(input.getSource());
+                PDDocumentHandler documentHandler = input.getSource().open(documentLoader);
+                opened.add(documentHandler);
+                documentHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
+                Set<Integer> pages = input.getPages(documentHandler.getNumberOfPages());
+                PDPage last = null;
+                for (Integer page : pages) {
+                    executionContext().assertTaskNotCancelled();
+                    last = destination.importPage(documentHandler.getPage(page));
+                }
+                if (firstPass && parameters.isBlankPageIfOdd() && nonNull(last) && pages.size() % 2 != 0) {
+                    destination.getUnderlyingPDDocument().addPage(new PDPage(last.getMediaBox()));
+                }
+                if (firstPass) {
+                    notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(++currentStep)
+                            .outOf(totalSteps);
+                }
+            }
+            if (parameters.isDeduplicateResources()) {
+                new ResourcesDeduplicator().deduplicate(destination.getUnderlyingPDDocument());
+            }
+            File tmpFile = createTemporaryBuffer(parameters.getOutput());
+            intermediates.add(tmpFile);
+            LOG.debug("Created output on temporary buffer {}", tmpFile);
+            destination.setVersionOnPDDocument(parameters.getVersion());
+            destination.setCompress(parameters.isCompress());
+            destination.savePDDocument(tmpFile, parameters.getOutput().getEncryptionAtRestPolicy());
+            return tmpFile;
+        } finally {
+            closeQuietly(destination);
+            opened.forEach(IOUtils::closeQuietly);
+        }
+    }
+
+    private void delete(File file) {
+        intermediates.remove(file);
+        if (!file.delete()) {
+            LOG.warn("Unable to delete temporary file {}", file);
+        }
+    }
+
+    @Override
+    public void after() {
+        List.copyOf(intermediates).forEach(this::delete);
+    }
+}
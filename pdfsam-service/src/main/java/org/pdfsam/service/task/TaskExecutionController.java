@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.injector.Auto;
 import org.pdfsam.model.lifecycle.ShutdownEvent;
+import org.pdfsam.model.task.PdfOutputMetadataEvent;
 import org.pdfsam.model.tool.TaskExecutionRequest;
 import org.pdfsam.service.tool.UsageService;
 import org.sejda.core.notification.context.GlobalNotificationContext;
@@ -73,6 +74,8 @@ public class TaskExecutionController {
         });
         GlobalNotificationContext.getContext()
                 .addListener(PercentageOfWorkDoneChangedEvent.class, new TaskEventBroadcaster<>());
+        GlobalNotificationContext.getContext()
+                .addListener(PdfOutputMetadataEvent.class, new TaskEventBroadcaster<>());
     }
 
     /**
@@ -45,6 +45,10 @@ public class BookmarksLevelSAMBoxLoaderTest {
         try (PDDocument document = PDFParser.parse(SeekableSources.seekableSourceFrom(path))) {
             new BookmarksLevelSAMBoxLoader().accept(document, descriptor);
             assertThat(descriptor.getValidBookmarksLevels()).containsExactly(1, 2, 3);
+            assertThat(descriptor.getOutlineIndex()).isPresent();
+            var index = descriptor.getOutlineIndex().get();
+            assertThat(index.levels()).containsExactly(1, 2, 3);
+            assertThat(index.entries()).allMatch(e -> e.page() >= 1 && e.page() <= document.getNumberOfPages());
         }
     }
 }
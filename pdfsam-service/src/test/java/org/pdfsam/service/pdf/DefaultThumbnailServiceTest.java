@@ -0,0 +1,313 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.model.lifecycle.ShutdownEvent;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.test.ClearEventStudioExtension;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DeflaterOutputStream;
+
+import static java.time.Duration.ofSeconds;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+@ExtendWith({ ClearEventStudioExtension.class })
+public class DefaultThumbnailServiceTest {
+
+    private Path file;
+    private Path cache;
+    private PdfDocumentDescriptor descriptor;
+    private FakeRenderer renderer;
+
+    @BeforeEach
+    public void setUp(@TempDir Path folder) throws IOException {
+        file = Files.writeString(folder.resolve("test.pdf"), "content");
+        cache = folder.resolve("cache");
+        descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(file.toFile());
+        renderer = new FakeRenderer();
+    }
+
+    @Test
+    public void invalidArgs() {
+        var victim = new DefaultThumbnailService(renderer, cache, 10, 10, 1);
+        assertThrows(IllegalArgumentException.class, () -> victim.request(null, 1, 1f, p -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> victim.request(descriptor, 0, 1f, p -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> victim.request(descriptor, 1, 0f, p -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> victim.request(descriptor, 1, 1f, null));
+    }
+
+    @Test
+    public void memoryCache() {
+        var victim = new DefaultThumbnailService(renderer, cache, 10, 10, 1);
+        var first = new AtomicReference<RenderedPage>();
+        victim.request(descriptor, 1, 1f, first::set);
+        await().atMost(ofSeconds(2)).until(() -> first.get() != null);
+        var second = new AtomicReference<RenderedPage>();
+        victim.request(descriptor, 1, 1f, second::set);
+        assertSame(first.get(), second.get());
+        assertEquals(List.of(1), renderer.rendered);
+    }
+
+    @Test
+    public void memoryCacheEviction() {
+        var victim = new DefaultThumbnailService(renderer, cache, 1, 10, 1);
+        var rendered = new CopyOnWriteArrayList<RenderedPage>();
+        victim.request(descriptor, 1, 1f, rendered::add);
+        victim.request(descriptor, 2, 1f, rendered::add);
+        await().atMost(ofSeconds(2)).until(() -> rendered.size() == 2);
+        var page = new AtomicReference<RenderedPage>();
+        victim.request(descriptor, 1, 1f, page::set);
+        // evicted from memory, served by the disk cache
+        await().atMost(ofSeconds(2)).until(() -> page.get() != null);
+        assertEquals(2, renderer.rendered.size());
+        assertArrayEquals(rendered.get(0).pixels(), page.get().pixels());
+    }
+
+    @Test
+    public void diskCache() {
+        var rendered = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(renderer, cache, 10, 10, 1).request(descriptor, 1, 1f, rendered::set);
+        await().atMost(ofSeconds(2)).until(() -> rendered.get() != null);
+
+        var otherRenderer = new FakeRenderer();
+        var page = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(otherRenderer, cache, 10, 10, 1).request(descriptor, 1, 1f, page::set);
+        await().atMost(ofSeconds(2)).until(() -> page.get() != null);
+        assertTrue(otherRenderer.rendered.isEmpty());
+        assertEquals(rendered.get().width(), page.get().width());
+        assertEquals(rendered.get().height(), page.get().height());
+        assertArrayEquals(rendered.get().pixels(), page.get().pixels());
+    }
+
+    @Test
+    public void differentRendererIsRenderedAgain() {
+        var rendered = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(renderer, cache, 10, 10, 1).request(descriptor, 1, 1f, rendered::set);
+        await().atMost(ofSeconds(2)).until(() -> rendered.get() != null);
+
+        var otherRenderer = new FakeRenderer() {
+            @Override
+            public String identity() {
+                return "other";
+            }
+        };
+        var page = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(otherRenderer, cache, 10, 10, 1).request(descriptor, 1, 1f, page::set);
+        await().atMost(ofSeconds(2)).until(() -> page.get() != null);
+        assertEquals(List.of(1), otherRenderer.rendered);
+    }
+
+    @Test
+    public void passwordProtectedNotOnDisk() throws IOException {
+        var protectedDescriptor = PdfDocumentDescriptor.newDescriptor(file.toFile(), "secret");
+        var victim = new DefaultThumbnailService(renderer, cache, 10, 10, 1);
+        var rendered = new AtomicReference<RenderedPage>();
+        victim.request(protectedDescriptor, 1, 1f, rendered::set);
+        await().atMost(ofSeconds(2)).until(() -> rendered.get() != null);
+        assertEquals(0, thumbnails());
+        var page = new AtomicReference<RenderedPage>();
+        victim.request(protectedDescriptor, 1, 1f, page::set);
+        assertSame(rendered.get(), page.get());
+        assertEquals(List.of(1), renderer.rendered);
+    }
+
+    @Test
+    public void corruptedDiskEntry() throws IOException {
+        var key = DefaultThumbnailService.ThumbnailKey.of(renderer.identity(), file.toFile(), 1, 1f);
+        Files.createDirectories(cache);
+        try (var out = new DataOutputStream(new DeflaterOutputStream(Files.newOutputStream(
+                cache.resolve(key.fileName()))))) {
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        var page = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(renderer, cache, 10, 10, 1).request(descriptor, 1, 1f, page::set);
+        await().atMost(ofSeconds(2)).until(() -> page.get() != null);
+        assertEquals(List.of(1), renderer.rendered);
+    }
+
+    @Test
+    public void modifiedFileIsRenderedAgain() throws IOException {
+        var rendered = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(renderer, cache, 10, 10, 1).request(descriptor, 1, 1f, rendered::set);
+        await().atMost(ofSeconds(2)).until(() -> rendered.get() != null);
+        Files.writeString(file, "modified content");
+
+        var otherRenderer = new FakeRenderer();
+        var page = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(otherRenderer, cache, 10, 10, 1).request(descriptor, 1, 1f, page::set);
+        await().atMost(ofSeconds(2)).until(() -> page.get() != null);
+        assertEquals(List.of(1), otherRenderer.rendered);
+    }
+
+    @Test
+    public void differentScale() {
+        var victim = new DefaultThumbnailService(renderer, cache, 10, 10, 1);
+        var rendered = new CopyOnWriteArrayList<RenderedPage>();
+        victim.request(descriptor, 1, 1f, rendered::add);
+        victim.request(descriptor, 1, 2f, rendered::add);
+        await().atMost(ofSeconds(2)).until(() -> rendered.size() == 2);
+        assertEquals(2, renderer.rendered.size());
+        assertNotEquals(rendered.get(0).width(), rendered.get(1).width());
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        var victim = new DefaultThumbnailService(renderer, cache, 10, 10, 1);
+        var rendered = new CopyOnWriteArrayList<RenderedPage>();
+        renderer.block();
+        victim.request(descriptor, 1, 1f, rendered::add);
+        renderer.awaitBlocked();
+        victim.request(descriptor, 2, 1f, rendered::add).cancel();
+        renderer.release();
+        await().atMost(ofSeconds(2)).until(() -> rendered.size() == 1);
+        victim.request(descriptor, 3, 1f, rendered::add);
+        await().atMost(ofSeconds(2)).until(() -> rendered.size() == 2);
+        assertEquals(List.of(1, 3), renderer.rendered);
+    }
+
+    @Test
+    public void mostRecentFirst() throws InterruptedException {
+        var victim = new DefaultThumbnailService(renderer, cache, 10, 10, 1);
+        var rendered = new CopyOnWriteArrayList<RenderedPage>();
+        renderer.block();
+        victim.request(descriptor, 1, 1f, rendered::add);
+        renderer.awaitBlocked();
+        victim.request(descriptor, 2, 1f, rendered::add);
+        victim.request(descriptor, 3, 1f, rendered::add);
+        renderer.release();
+        await().atMost(ofSeconds(2)).until(() -> rendered.size() == 3);
+        assertEquals(List.of(1, 3, 2), renderer.rendered);
+    }
+
+    @Test
+    public void failingRenderer() {
+        var victim = new DefaultThumbnailService((d, p, s) -> {
+            throw new IOException("failed");
+        }, cache, 10, 10, 1);
+        var rendered = new AtomicReference<RenderedPage>();
+        victim.request(descriptor, 1, 1f, rendered::set);
+        var page = new AtomicReference<RenderedPage>();
+        new DefaultThumbnailService(renderer, cache, 10, 10, 1).request(descriptor, 1, 1f, page::set);
+        await().atMost(ofSeconds(2)).until(() -> page.get() != null);
+        assertNull(rendered.get());
+    }
+
+    @Test
+    public void pruneDiskCache() throws IOException {
+        var victim = new DefaultThumbnailService(renderer, cache, 10, 1, 1);
+        var rendered = new CopyOnWriteArrayList<RenderedPage>();
+        victim.request(descriptor, 1, 1f, rendered::add);
+        victim.request(descriptor, 2, 1f, rendered::add);
+        await().atMost(ofSeconds(2)).until(() -> rendered.size() == 2);
+        await().atMost(ofSeconds(2)).until(() -> thumbnails() == 2);
+        victim.onShutdown(new ShutdownEvent());
+        assertEquals(1, thumbnails());
+        assertTrue(renderer.closed);
+    }
+
+    @Test
+    public void keyFileName() {
+        var key = DefaultThumbnailService.ThumbnailKey.of("renderer", file.toFile(), 1, 1f);
+        assertNotNull(key.fileName());
+        assertEquals(key.fileName(),
+                DefaultThumbnailService.ThumbnailKey.of("renderer", file.toFile(), 1, 1f).fileName());
+        assertNotEquals(key.fileName(),
+                DefaultThumbnailService.ThumbnailKey.of("renderer", file.toFile(), 2, 1f).fileName());
+        assertNotEquals(key.fileName(),
+                DefaultThumbnailService.ThumbnailKey.of("other", file.toFile(), 1, 1f).fileName());
+    }
+
+    private long thumbnails() throws IOException {
+        try (var files = Files.list(cache)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".thumb")).count();
+        }
+    }
+
+    private static class FakeRenderer implements PageRenderer {
+        private final List<Integer> rendered = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch blocked;
+        private volatile CountDownLatch release;
+        private volatile boolean closed;
+
+        void block() {
+            blocked = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(2, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            release.countDown();
+        }
+
+        @Override
+        public RenderedPage render(PdfDocumentDescriptor descriptor, int page, float scale) {
+            rendered.add(page);
+            if (release != null && blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            int size = Math.round(10 * scale);
+            int[] pixels = new int[size * size];
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = page * 31 + i;
+            }
+            return new RenderedPage(size, size, pixels);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
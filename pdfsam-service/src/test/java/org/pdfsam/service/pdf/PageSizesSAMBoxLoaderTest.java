@@ -0,0 +1,64 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.model.pdf.PageSizeIndex;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.model.tool.RequiredPdfData;
+import org.sejda.io.SeekableSources;
+import org.sejda.sambox.input.PDFParser;
+import org.sejda.sambox.pdmodel.PDDocument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class PageSizesSAMBoxLoaderTest {
+
+    @Test
+    public void accept(@TempDir Path folder) throws IOException {
+        var path = Files.createTempFile(folder, null, ".pdf");
+        Files.copy(getClass().getResourceAsStream("/test_pdfsam.pdf"), path, StandardCopyOption.REPLACE_EXISTING);
+        var descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(path.toFile());
+        try (PDDocument document = PDFParser.parse(SeekableSources.seekableSourceFrom(path))) {
+            new PageSizesSAMBoxLoader().accept(document, descriptor);
+            assertTrue(descriptor.getPageSizeIndex().isPresent());
+            PageSizeIndex index = descriptor.getPageSizeIndex().get();
+            assertEquals(document.getNumberOfPages(), index.pages());
+            assertThat(index.estimatedSize(1, 1)).isGreaterThan(
+                    PageSizesSAMBoxLoader.DOCUMENT_OVERHEAD + PageSizesSAMBoxLoader.PAGE_OVERHEAD);
+            assertThat(index.estimatedSize(1, index.pages())).isGreaterThanOrEqualTo(index.estimatedSize(1, 1));
+        }
+    }
+
+    @Test
+    public void key() {
+        assertEquals(RequiredPdfData.PAGE_SIZES, new PageSizesSAMBoxLoader().key());
+    }
+}
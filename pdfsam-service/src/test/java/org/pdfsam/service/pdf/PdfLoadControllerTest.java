@@ -46,8 +46,10 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
 
 /**
@@ -76,6 +78,32 @@ public class PdfLoadControllerTest {
         verify(first).moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
         verify(second).moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
         verify(loadService, timeout(1000).times(1)).load(anyCollection(), eq(RequiredPdfData.DEFAULT));
+        verify(first).captureFileAttributes();
+        verify(second).captureFileAttributes();
+    }
+
+    @Test
+    public void requestSkipsLoaded() {
+        PdfLoadRequest request = new PdfLoadRequest(DefaultPriorityTestTool.ID);
+        PdfDocumentDescriptor loaded = mock(PdfDocumentDescriptor.class);
+        when(loaded.isLoaded()).thenReturn(true);
+        PdfDocumentDescriptor second = mock(PdfDocumentDescriptor.class);
+        request.add(loaded);
+        request.add(second);
+        victim.request(request);
+        verify(loaded, never()).moveStatusTo(any());
+        verify(second).moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
+        verify(loadService, timeout(1000).times(1)).load(eq(List.of(second)), eq(RequiredPdfData.DEFAULT));
+    }
+
+    @Test
+    public void requestAllLoaded() {
+        PdfLoadRequest request = new PdfLoadRequest(DefaultPriorityTestTool.ID);
+        PdfDocumentDescriptor loaded = mock(PdfDocumentDescriptor.class);
+        when(loaded.isLoaded()).thenReturn(true);
+        request.add(loaded);
+        victim.request(request);
+        verify(loadService, after(1000).never()).load(anyCollection(), any());
     }
 
     @Test
@@ -0,0 +1,97 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.pdf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class SAMBoxPageRendererTest {
+    @TempDir
+    private Path folder;
+    private SAMBoxPageRenderer victim;
+    private PdfDocumentDescriptor descriptor;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        victim = new SAMBoxPageRenderer(1);
+        descriptor = descriptor("PDFsamTest.pdf");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        victim.close();
+    }
+
+    @Test
+    public void render() throws IOException {
+        var page = victim.render(descriptor, 1, 0.5f);
+        var doubled = victim.render(descriptor, 1, 1f);
+        assertEquals(page.width() * 2, doubled.width(), 1);
+        assertEquals(page.height() * 2, doubled.height(), 1);
+        assertEquals(page.width() * page.height(), page.pixels().length);
+        assertTrue(Arrays.stream(page.pixels()).allMatch(p -> (p >>> 24) == 0xFF));
+        assertTrue(Arrays.stream(page.pixels()).distinct().count() > 1);
+    }
+
+    @Test
+    public void sharesOpenDocuments() throws IOException {
+        victim.render(descriptor, 1, 0.5f);
+        victim.render(descriptor, 2, 0.5f);
+        assertEquals(1, victim.openDocuments());
+        victim.render(descriptor("other.pdf"), 1, 0.5f);
+        assertEquals(1, victim.openDocuments());
+        victim.render(descriptor, 1, 0.5f);
+        assertEquals(1, victim.openDocuments());
+    }
+
+    @Test
+    public void close() throws IOException {
+        victim.render(descriptor, 1, 0.5f);
+        victim.close();
+        assertEquals(0, victim.openDocuments());
+        assertThrows(IllegalStateException.class, () -> victim.render(descriptor, 1, 0.5f));
+    }
+
+    @Test
+    public void invalidPage() {
+        assertThrows(IllegalArgumentException.class, () -> victim.render(descriptor, 3, 1f));
+        assertThrows(IllegalArgumentException.class, () -> victim.render(descriptor, 1, 0f));
+    }
+
+    private PdfDocumentDescriptor descriptor(String name) throws IOException {
+        var testFile = folder.resolve(name);
+        Files.copy(getClass().getResourceAsStream("/test_pdfsam.pdf"), testFile);
+        return PdfDocumentDescriptor.newDescriptorNoPassword(testFile.toFile());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.sambox.cos.COSArray;
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.cos.COSInteger;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.cos.COSNumber;
+import org.sejda.sambox.cos.COSStream;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.common.PDRectangle;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class BackPagesCacheTest {
+
+    @Test
+    public void contentsAreShared() throws IOException {
+        try (PDDocument back = new PDDocument(); PDDocumentHandler destination = document(2)) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            page.getCOSObject().setItem(COSName.CONTENTS, new COSStream());
+            page.setRotation(90);
+            back.addPage(page);
+            var victim = new BackPagesCache(List.of(page));
+            assertEquals(1, victim.size());
+            victim.insertInto(destination, 1);
+            assertEquals(4, destination.getNumberOfPages());
+            PDPage first = destination.getPage(2);
+            PDPage second = destination.getPage(4);
+            assertNotSame(first.getCOSObject(), second.getCOSObject());
+            assertSame(first.getCOSObject().getDictionaryObject(COSName.CONTENTS),
+                    second.getCOSObject().getDictionaryObject(COSName.CONTENTS));
+            assertEquals(90, second.getRotation());
+            assertEquals(PDRectangle.A4, second.getMediaBox());
+        }
+    }
+
+    @Test
+    public void sourcePagesAreKept() throws IOException {
+        try (PDDocument back = new PDDocument(); PDDocumentHandler destination = document(5)) {
+            back.addPage(new PDPage(PDRectangle.A4));
+            back.addPage(new PDPage(PDRectangle.A4));
+            PDPage second = destination.getPage(2);
+            PDPage fifth = destination.getPage(5);
+            new BackPagesCache(List.of(back.getPage(0), back.getPage(1))).insertInto(destination, 2);
+            assertEquals(9, destination.getNumberOfPages());
+            assertSame(second.getCOSObject(), destination.getPage(2).getCOSObject());
+            assertSame(fifth.getCOSObject(), destination.getPage(9).getCOSObject());
+        }
+    }
+
+    @Test
+    public void annotationsAreCopied() throws IOException {
+        try (PDDocument back = new PDDocument(); PDDocumentHandler destination = document(2)) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            var annotations = new COSArray();
+            annotations.add(new COSDictionary());
+            page.getCOSObject().setItem(COSName.ANNOTS, annotations);
+            back.addPage(page);
+            new BackPagesCache(List.of(page)).insertInto(destination, 1);
+            assertEquals(4, destination.getNumberOfPages());
+            COSArray first = destination.getPage(2).getCOSObject().getDictionaryObject(COSName.ANNOTS, COSArray.class);
+            COSArray second = destination.getPage(4).getCOSObject()
+                    .getDictionaryObject(COSName.ANNOTS, COSArray.class);
+            assertNotSame(first.getObject(0), second.getObject(0));
+            assertSame(destination.getPage(4).getCOSObject(),
+                    ((COSDictionary) second.getObject(0)).getDictionaryObject(COSName.P));
+        }
+    }
+
+    @Test
+    public void pageLabelsAreShifted() throws IOException {
+        try (PDDocument back = new PDDocument(); PDDocumentHandler destination = document(6)) {
+            back.addPage(new PDPage(PDRectangle.A4));
+            var nums = new COSArray();
+            nums.add(COSInteger.get(0));
+            nums.add(new COSDictionary());
+            nums.add(COSInteger.get(3));
+            nums.add(new COSDictionary());
+            var labels = new COSDictionary();
+            labels.setItem(COSName.NUMS, nums);
+            destination.getUnderlyingPDDocument().getDocumentCatalog().getCOSObject()
+                    .setItem(COSName.PAGE_LABELS, labels);
+            new BackPagesCache(List.of(back.getPage(0))).insertInto(destination, 2);
+            assertEquals(9, destination.getNumberOfPages());
+            assertEquals(0, ((COSNumber) nums.getObject(0)).intValue());
+            assertEquals(4, ((COSNumber) nums.getObject(2)).intValue());
+        }
+    }
+
+    private static PDDocumentHandler document(int pages) {
+        PDDocument document = new PDDocument();
+        for (int i = 0; i < pages; i++) {
+            document.addPage(new PDPage(PDRectangle.A4));
+        }
+        return new PDDocumentHandler(document);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.task.BatchAddBackPagesParameters;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.pdf.page.PageRange;
+import org.sejda.model.task.Task;
+import org.sejda.tests.tasks.BaseTaskTest;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.sejda.tests.TestUtils.shortInput;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class BatchAddBackPagesTaskTest extends BaseTaskTest<BatchAddBackPagesParameters> {
+
+    @Override
+    public Task<BatchAddBackPagesParameters> getTask() {
+        return new BatchAddBackPagesTask();
+    }
+
+    @Test
+    public void manySources() throws IOException {
+        var parameters = new BatchAddBackPagesParameters();
+        parameters.setWorkers(3);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        parameters.setOutputPrefix("[FILENUMBER]_[BASENAME]");
+        parameters.setBackPagesSource(shortInput());
+        parameters.addPageRange(new PageRange(4, 4));
+        parameters.setStep(2);
+        for (int i = 0; i < 7; i++) {
+            parameters.addSource(shortInput());
+        }
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(7).assertOutputContainsFilenames("1_short-test-file.pdf",
+                "7_short-test-file.pdf").forEachPdfOutput(d -> assertEquals(6, d.getNumberOfPages()));
+    }
+
+    @Test
+    public void singleWorker() throws IOException {
+        var parameters = new BatchAddBackPagesParameters();
+        parameters.setWorkers(1);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        parameters.setOutputPrefix("[FILENUMBER]_[BASENAME]");
+        parameters.setBackPagesSource(shortInput());
+        parameters.setStep(4);
+        parameters.addSource(shortInput());
+        parameters.addSource(shortInput());
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(2).forEachPdfOutput(d -> assertEquals(8, d.getNumberOfPages()));
+    }
+
+    @Test
+    public void everyPage() throws IOException {
+        var parameters = new BatchAddBackPagesParameters();
+        parameters.setWorkers(2);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        parameters.setBackPagesSource(shortInput());
+        parameters.addPageRange(new PageRange(1, 1));
+        parameters.setStep(1);
+        parameters.addSource(shortInput());
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(1).forEachPdfOutput(d -> assertEquals(8, d.getNumberOfPages()));
+    }
+}
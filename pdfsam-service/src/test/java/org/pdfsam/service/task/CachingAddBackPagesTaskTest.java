@@ -0,0 +1,84 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.parameter.AddBackPagesParameters;
+import org.sejda.model.pdf.page.PageRange;
+import org.sejda.model.task.Task;
+import org.sejda.tests.tasks.BaseTaskTest;
+
+import java.io.IOException;
+
+import static org.sejda.tests.TestUtils.mediumInput;
+import static org.sejda.tests.TestUtils.shortInput;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class CachingAddBackPagesTaskTest extends BaseTaskTest<AddBackPagesParameters> {
+
+    private AddBackPagesParameters parameters;
+
+    @Override
+    public Task<AddBackPagesParameters> getTask() {
+        return new CachingAddBackPagesTask();
+    }
+
+    private void setUpParameters(int step) {
+        parameters = new AddBackPagesParameters();
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        parameters.setStep(step);
+        parameters.setBackPagesSource(shortInput());
+    }
+
+    @Test
+    public void everyPage() throws IOException {
+        setUpParameters(1);
+        parameters.addPageRange(new PageRange(1, 1));
+        parameters.addSource(shortInput());
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertPages(8);
+    }
+
+    @Test
+    public void allBackPagesWithStep() throws IOException {
+        setUpParameters(3);
+        parameters.addSource(shortInput());
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertPages(8);
+    }
+
+    @Test
+    public void multipleSources() throws IOException {
+        setUpParameters(2);
+        parameters.addPageRange(new PageRange(2, 3));
+        parameters.addSource(shortInput());
+        parameters.addSource(mediumInput());
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(2);
+    }
+}
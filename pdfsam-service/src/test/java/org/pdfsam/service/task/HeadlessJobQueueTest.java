@@ -0,0 +1,156 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sejda.model.parameter.base.AbstractParameters;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class HeadlessJobQueueTest {
+
+    private HeadlessTaskRunner runner;
+    private HeadlessJobQueue victim;
+    private final AbstractParameters params = mock(AbstractParameters.class);
+
+    @BeforeEach
+    public void setUp() {
+        runner = mock(HeadlessTaskRunner.class);
+        victim = new HeadlessJobQueue(runner, 1, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        victim.close();
+    }
+
+    @Test
+    public void invalidData() {
+        when(runner.parameters(any(), any(), any())).thenReturn(Optional.empty());
+        assertTrue(victim.submit("merge", Map.of(), s -> {
+        }).isEmpty());
+    }
+
+    @Test
+    public void completed() throws InterruptedException {
+        var output = new File("chuck.pdf");
+        when(runner.parameters(eq("merge"), any(), any())).thenReturn(Optional.of(params));
+        when(runner.run(eq(params), any())).thenAnswer(a -> {
+            a.<Consumer<BigDecimal>>getArgument(1).accept(new BigDecimal(50));
+            return new HeadlessTaskResult(List.of(output), null);
+        });
+        var job = victim.submit("merge", Map.of(), s -> {
+        }).orElseThrow();
+        assertEquals(job, victim.job(job.id()).orElseThrow());
+        awaitFinal(job);
+        assertEquals(HeadlessJobStatus.COMPLETED, job.status());
+        assertEquals(new BigDecimal(100), job.percentage());
+        assertEquals(List.of(output), job.result().orElseThrow().outputs());
+    }
+
+    @Test
+    public void failed() throws InterruptedException {
+        when(runner.parameters(any(), any(), any())).thenReturn(Optional.of(params));
+        when(runner.run(eq(params), any())).thenThrow(new RuntimeException("Chuck"));
+        var job = victim.submit("merge", Map.of(), s -> {
+        }).orElseThrow();
+        awaitFinal(job);
+        assertEquals(HeadlessJobStatus.FAILED, job.status());
+        assertFalse(job.result().orElseThrow().isSuccessful());
+    }
+
+    @Test
+    public void rejected() {
+        var latch = new CountDownLatch(1);
+        when(runner.parameters(any(), any(), any())).thenReturn(Optional.of(params));
+        when(runner.run(eq(params), any())).thenAnswer(a -> {
+            latch.await(5, TimeUnit.SECONDS);
+            return new HeadlessTaskResult(List.of(), null);
+        });
+        List<String> errors = new ArrayList<>();
+        victim.submit("merge", Map.of(), errors::add);
+        victim.submit("merge", Map.of(), errors::add);
+        assertThrows(RejectedExecutionException.class, () -> victim.submit("merge", Map.of(), errors::add));
+        latch.countDown();
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void oldestFinalJobsEvicted() throws InterruptedException {
+        var running = mock(AbstractParameters.class);
+        var latch = new CountDownLatch(1);
+        when(runner.parameters(any(), any(), any())).thenReturn(Optional.of(running)).thenReturn(Optional.of(params));
+        when(runner.run(any(), any())).thenAnswer(a -> {
+            if (a.getArgument(0) == running) {
+                latch.await(5, TimeUnit.SECONDS);
+            }
+            return new HeadlessTaskResult(List.of(), null);
+        });
+        victim.close();
+        victim = new HeadlessJobQueue(runner, 2, HeadlessJobQueue.RETAINED_JOBS);
+        var completed = new CountDownLatch(HeadlessJobQueue.RETAINED_JOBS);
+        var first = victim.submit("merge", Map.of(), s -> {
+        }).orElseThrow();
+        List<HeadlessJob> jobs = new ArrayList<>();
+        for (int i = 0; i < HeadlessJobQueue.RETAINED_JOBS; i++) {
+            jobs.add(victim.submit("merge", Map.of(), s -> {
+            }, j -> completed.countDown()).orElseThrow());
+        }
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertTrue(victim.job(first.id()).isPresent());
+        assertTrue(victim.job(jobs.get(0).id()).isEmpty());
+        assertTrue(victim.job(jobs.get(1).id()).isPresent());
+        assertTrue(victim.job(jobs.get(HeadlessJobQueue.RETAINED_JOBS - 1).id()).isPresent());
+        latch.countDown();
+    }
+
+    @Test
+    public void unknownJob() {
+        assertTrue(victim.job("chuck").isEmpty());
+    }
+
+    private static void awaitFinal(HeadlessJob job) throws InterruptedException {
+        for (int i = 0; i < 100 && !job.status().isFinal(); i++) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.core.support.params.ToolData;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.core.service.TaskExecutionService;
+import org.sejda.model.notification.event.PercentageOfWorkDoneChangedEvent;
+import org.sejda.model.notification.event.TaskExecutionCompletedEvent;
+import org.sejda.model.output.DirectoryTaskOutput;
+import org.sejda.model.output.FileTaskOutput;
+import org.sejda.model.parameter.base.AbstractParameters;
+import org.sejda.model.task.NotifiableTaskMetadata;
+import org.sejda.model.task.Task;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class HeadlessTaskRunnerTest {
+
+    private TaskExecutionService executionService;
+    private HeadlessTaskRunner victim;
+    private final AbstractParameters params = mock(AbstractParameters.class);
+
+    @BeforeEach
+    public void setUp() {
+        executionService = mock(TaskExecutionService.class);
+        victim = new HeadlessTaskRunner(executionService, List.of(new TestTool()));
+    }
+
+    @Test
+    public void toolIds() {
+        assertEquals(1, victim.toolIds().size());
+        assertTrue(victim.toolIds().contains("test"));
+    }
+
+    @Test
+    public void tool() {
+        assertTrue(victim.tool("test").isPresent());
+        assertTrue(victim.tool("chuck").isEmpty());
+    }
+
+    @Test
+    public void outputFolder(@TempDir Path folder) {
+        var file = mock(AbstractParameters.class);
+        when(file.getOutput()).thenReturn(new FileTaskOutput(folder.resolve("out.pdf").toFile()));
+        assertEquals(folder.toFile().getAbsoluteFile(), victim.outputFolder(file).get());
+        var directory = mock(AbstractParameters.class);
+        when(directory.getOutput()).thenReturn(new DirectoryTaskOutput(folder.toFile()));
+        assertEquals(folder.toFile(), victim.outputFolder(directory).get());
+    }
+
+    @Test
+    public void unknownTool() {
+        List<String> errors = new ArrayList<>();
+        assertTrue(victim.parameters("chuck", Map.of(), errors::add).isEmpty());
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void invalidData() {
+        List<String> errors = new ArrayList<>();
+        assertTrue(victim.parameters("test", Map.of(), errors::add).isEmpty());
+        assertEquals(List.of("Invalid"), errors);
+    }
+
+    @Test
+    public void failingBuild() {
+        List<String> errors = new ArrayList<>();
+        assertTrue(victim.parameters("test", Map.of("valid", "true", "failBuild", "true"), errors::add).isEmpty());
+        assertEquals(List.of("Build failed"), errors);
+    }
+
+    @Test
+    public void invalidInputsSize() {
+        var runner = new HeadlessTaskRunner(executionService, List.of(new TestTool() {
+            @Override
+            public Builder<? extends AbstractParameters> builder(ToolData data, Consumer<String> onError) {
+                data.inputs("", onError);
+                return () -> params;
+            }
+        }));
+        List<String> errors = new ArrayList<>();
+        assertTrue(runner.parameters("test", Map.of("input.size", "abc"), errors::add).isEmpty());
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void parameters() {
+        List<String> errors = new ArrayList<>();
+        assertEquals(params, victim.parameters("test", Map.of("valid", "true"), errors::add).get());
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void run(@TempDir Path folder) throws Exception {
+        File output = Files.createTempFile(folder, null, ".pdf").toFile();
+        doAnswer(a -> {
+            NotifiableTaskMetadata taskMetadata = new NotifiableTaskMetadata(mock(Task.class));
+            taskMetadata.addTaskOutput(output);
+            ThreadLocalNotificationContext.getContext()
+                    .notifyListeners(new TaskExecutionCompletedEvent(10, taskMetadata));
+            return null;
+        }).when(executionService).execute(any());
+        var result = victim.run(params);
+        verify(executionService).execute(params);
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of(output), result.outputs());
+    }
+
+    @Test
+    public void progress() {
+        doAnswer(a -> {
+            NotifiableTaskMetadata taskMetadata = new NotifiableTaskMetadata(mock(Task.class));
+            ThreadLocalNotificationContext.getContext()
+                    .notifyListeners(new PercentageOfWorkDoneChangedEvent(new BigDecimal(50), taskMetadata));
+            ThreadLocalNotificationContext.getContext()
+                    .notifyListeners(new TaskExecutionCompletedEvent(10, taskMetadata));
+            return null;
+        }).when(executionService).execute(any());
+        List<BigDecimal> progress = new ArrayList<>();
+        assertTrue(victim.run(params, progress::add).isSuccessful());
+        assertEquals(List.of(new BigDecimal(50)), progress);
+    }
+
+    private class TestTool implements HeadlessTool {
+
+        @Override
+        public String id() {
+            return "test";
+        }
+
+        @Override
+        public Builder<? extends AbstractParameters> builder(ToolData data, Consumer<String> onError) {
+            if (!data.getBoolean("valid")) {
+                onError.accept("Invalid");
+            }
+            if (data.getBoolean("failBuild")) {
+                return () -> {
+                    throw new IllegalArgumentException("Build failed");
+                };
+            }
+            return () -> params;
+        }
+
+        @Override
+        public Map<String, String> withInput(Map<String, String> data, File file) {
+            return ToolData.withInput(data, "", file);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class HotFolderWatcherTest {
+
+    @TempDir
+    private Path folder;
+    private HeadlessJobQueue queue;
+    private HotFolderWatcher victim;
+
+    @BeforeEach
+    public void setUp() {
+        queue = mock(HeadlessJobQueue.class);
+        when(queue.submit(any(), any(), any(), any())).thenReturn(Optional.of(mock(HeadlessJob.class)));
+        victim = new HotFolderWatcher(queue, "rotate", f -> Map.of("input", f.getAbsolutePath()), folder,
+                Duration.ZERO);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        victim.close();
+    }
+
+    @Test
+    public void invalidFolder() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HotFolderWatcher(queue, "rotate", f -> Map.of(), folder.resolve("chuck"), Duration.ZERO));
+    }
+
+    @Test
+    public void submittedWhenStable() throws IOException {
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        victim.check();
+        verify(queue, never()).submit(any(), any(), any(), any());
+        victim.check();
+        verify(queue).submit(eq("rotate"), eq(Map.of("input", file.toFile().getAbsolutePath())), any(), any());
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        verify(queue, times(1)).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void notSubmittedWhileGrowing() throws IOException {
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        victim.check();
+        Files.writeString(file, "more content");
+        victim.check();
+        verify(queue, never()).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void emptyFileNotSubmitted() throws IOException {
+        var file = Files.createFile(folder.resolve("chuck.pdf"));
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        verify(queue, never()).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void notPdf() throws IOException {
+        var file = Files.writeString(folder.resolve("chuck.txt"), "content");
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        verify(queue, never()).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void retriedWhenRejected() throws IOException {
+        when(queue.submit(any(), any(), any(), any())).thenThrow(new RejectedExecutionException())
+                .thenReturn(Optional.of(mock(HeadlessJob.class)));
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        victim.check();
+        verify(queue, times(2)).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void deletedFileDiscarded() throws IOException {
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        Files.delete(file);
+        victim.check();
+        victim.check();
+        verify(queue, never()).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void movedToProcessedWhenCompleted() throws IOException {
+        var job = mock(HeadlessJob.class);
+        when(job.status()).thenReturn(HeadlessJobStatus.COMPLETED);
+        when(queue.submit(any(), any(), any(), any())).thenAnswer(a -> {
+            a.<Consumer<HeadlessJob>>getArgument(3).accept(job);
+            return Optional.of(job);
+        });
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        assertFalse(Files.exists(file));
+        assertTrue(Files.exists(folder.resolve(HotFolderWatcher.PROCESSED).resolve("chuck.pdf")));
+    }
+
+    @Test
+    public void movedToFailedWhenFailed() throws IOException {
+        var job = mock(HeadlessJob.class);
+        when(job.status()).thenReturn(HeadlessJobStatus.FAILED);
+        when(job.result()).thenReturn(Optional.empty());
+        when(queue.submit(any(), any(), any(), any())).thenAnswer(a -> {
+            a.<Consumer<HeadlessJob>>getArgument(3).accept(job);
+            return Optional.of(job);
+        });
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        assertFalse(Files.exists(file));
+        assertTrue(Files.exists(folder.resolve(HotFolderWatcher.FAILED).resolve("chuck.pdf")));
+        assertFalse(Files.exists(folder.resolve(HotFolderWatcher.PROCESSED)));
+    }
+
+    @Test
+    public void movedToFailedWhenInvalid() throws IOException {
+        when(queue.submit(any(), any(), any(), any())).thenReturn(Optional.empty());
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        assertFalse(Files.exists(file));
+        assertTrue(Files.exists(folder.resolve(HotFolderWatcher.FAILED).resolve("chuck.pdf")));
+    }
+
+    @Test
+    public void resubmittedWhenNotMoved() throws IOException {
+        // a regular file prevents the creation of the failed folder
+        Files.writeString(folder.resolve(HotFolderWatcher.FAILED), "");
+        var job = mock(HeadlessJob.class);
+        when(job.status()).thenReturn(HeadlessJobStatus.FAILED);
+        when(job.result()).thenReturn(Optional.empty());
+        when(queue.submit(any(), any(), any(), any())).thenAnswer(a -> {
+            a.<Consumer<HeadlessJob>>getArgument(3).accept(job);
+            return Optional.of(job);
+        });
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        assertTrue(Files.exists(file));
+        Files.writeString(file, "fixed content");
+        victim.changed(file);
+        victim.check();
+        victim.check();
+        verify(queue, times(2)).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void processedNotReplaced() throws IOException {
+        var processed = Files.createDirectories(folder.resolve(HotFolderWatcher.PROCESSED));
+        Files.writeString(processed.resolve("chuck.pdf"), "previous");
+        var file = Files.writeString(folder.resolve("chuck.pdf"), "content");
+        victim.moveTo(file, HotFolderWatcher.PROCESSED);
+        assertEquals("previous", Files.readString(processed.resolve("chuck.pdf")));
+        try (var files = Files.list(processed)) {
+            assertEquals(2, files.count());
+        }
+    }
+}
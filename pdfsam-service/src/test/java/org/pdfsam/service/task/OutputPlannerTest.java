@@ -0,0 +1,145 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.model.pdf.PdfDescriptorLoadingStatus;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.sejda.model.input.PdfFileSource;
+import org.sejda.model.output.FileTaskOutput;
+import org.sejda.model.parameter.AddBackPagesParameters;
+import org.sejda.model.parameter.ExtractPagesParameters;
+import org.sejda.model.parameter.MergeParameters;
+import org.sejda.model.parameter.SplitByEveryXPagesParameters;
+import org.sejda.model.pdf.page.PageRange;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class OutputPlannerTest {
+
+    private final OutputPlanner victim = new OutputPlanner();
+    private final List<String> errors = new ArrayList<>();
+    private File file;
+    private PdfDocumentDescriptor descriptor;
+
+    @BeforeEach
+    public void setUp(@TempDir Path folder) throws IOException {
+        file = Files.write(folder.resolve("chuck.pdf"), new byte[1000]).toFile();
+        descriptor = loaded(file, 5);
+    }
+
+    @Test
+    public void split() {
+        var params = new SplitByEveryXPagesParameters(2);
+        params.addSource(PdfFileSource.newInstanceNoPassword(file));
+        params.setOutputPrefix("[FILENUMBER]_[BASENAME]");
+        var plan = victim.plan("split", params, List.of(descriptor), errors::add).orElseThrow();
+        assertTrue(errors.isEmpty());
+        assertEquals(3, plan.outputs().size());
+        assertEquals("1_chuck.pdf", plan.outputs().get(0).name());
+        assertEquals(List.of(new PageRange(1, 2)), plan.outputs().get(0).pages());
+        assertEquals(List.of(new PageRange(3, 4)), plan.outputs().get(1).pages());
+        assertEquals(List.of(new PageRange(5, 5)), plan.outputs().get(2).pages());
+        assertEquals(400, plan.outputs().get(0).estimatedSize());
+        assertEquals(1000, plan.estimatedSize());
+    }
+
+    @Test
+    public void extract() {
+        var params = new ExtractPagesParameters();
+        params.addSource(PdfFileSource.newInstanceNoPassword(file));
+        params.addPageRange(new PageRange(1, 2));
+        params.addPageRange(new PageRange(4, 5));
+        var plan = victim.plan("extract", params, List.of(descriptor), errors::add).orElseThrow();
+        assertEquals(1, plan.outputs().size());
+        assertEquals(List.of(new PageRange(1, 2), new PageRange(4, 5)), plan.outputs().get(0).pages());
+        assertEquals(4, plan.outputs().get(0).totalPages());
+    }
+
+    @Test
+    public void extractSeparateFiles() {
+        var params = new ExtractPagesParameters();
+        params.addSource(PdfFileSource.newInstanceNoPassword(file));
+        params.addPageRange(new PageRange(1, 2));
+        params.addPageRange(new PageRange(4, 5));
+        params.setSeparateFileForEachRange(true);
+        var plan = victim.plan("extract", params, List.of(descriptor), errors::add).orElseThrow();
+        assertEquals(2, plan.outputs().size());
+    }
+
+    @Test
+    public void backPages(@TempDir Path folder) throws IOException {
+        var back = Files.write(folder.resolve("back.pdf"), new byte[100]).toFile();
+        var params = new AddBackPagesParameters();
+        params.addSource(PdfFileSource.newInstanceNoPassword(file));
+        params.setBackPagesSource(PdfFileSource.newInstanceNoPassword(back));
+        params.setStep(2);
+        params.setOutput(new FileTaskOutput(folder.resolve("out.pdf").toFile()));
+        var plan = victim.plan("backpages", params, List.of(descriptor, loaded(back, 1)), errors::add)
+                .orElseThrow();
+        assertEquals(1, plan.outputs().size());
+        assertEquals("out.pdf", plan.outputs().get(0).name());
+        assertEquals(7, plan.outputs().get(0).totalPages());
+        assertEquals(1100, plan.outputs().get(0).estimatedSize());
+    }
+
+    @Test
+    public void notLoaded() {
+        var params = new SplitByEveryXPagesParameters(2);
+        params.addSource(PdfFileSource.newInstanceNoPassword(file));
+        assertTrue(victim.plan("split", params, List.of(), errors::add).isEmpty());
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void unsupported() {
+        assertTrue(victim.plan("merge", new MergeParameters(), List.of(descriptor), errors::add).isEmpty());
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void ranges() {
+        assertEquals(List.of(new PageRange(1, 3), new PageRange(5, 5), new PageRange(7, 8)),
+                OutputPlanner.ranges(new TreeSet<>(List.of(1, 2, 3, 5, 7, 8))));
+        assertTrue(OutputPlanner.ranges(new TreeSet<>()).isEmpty());
+    }
+
+    private static PdfDocumentDescriptor loaded(File file, int pages) {
+        var descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(file);
+        descriptor.pages(pages);
+        descriptor.moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
+        descriptor.moveStatusTo(PdfDescriptorLoadingStatus.LOADING);
+        descriptor.moveStatusTo(PdfDescriptorLoadingStatus.LOADED);
+        return descriptor;
+    }
+}
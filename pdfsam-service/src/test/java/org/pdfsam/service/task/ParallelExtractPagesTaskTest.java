@@ -0,0 +1,103 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.task.ParallelExtractPagesParameters;
+import org.sejda.model.optimization.OptimizationPolicy;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.pdf.page.PageRange;
+import org.sejda.model.task.Task;
+import org.sejda.tests.tasks.BaseTaskTest;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.sejda.tests.TestUtils.mediumInput;
+import static org.sejda.tests.TestUtils.shortInput;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class ParallelExtractPagesTaskTest extends BaseTaskTest<ParallelExtractPagesParameters> {
+
+    private ParallelExtractPagesParameters parameters;
+
+    @Override
+    public Task<ParallelExtractPagesParameters> getTask() {
+        return new ParallelExtractPagesTask();
+    }
+
+    private void setUpParameters(int sources, int workers) {
+        parameters = new ParallelExtractPagesParameters();
+        parameters.setWorkers(workers);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        parameters.setOutputPrefix("[FILENUMBER]_[BASENAME]");
+        for (int i = 0; i < sources; i++) {
+            parameters.addSource(shortInput());
+        }
+    }
+
+    @Test
+    public void firstPageOfManySources() throws IOException {
+        setUpParameters(6, 3);
+        parameters.addPageRange(new PageRange(1, 1));
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(6).assertOutputContainsFilenames("1_short-test-file.pdf",
+                "6_short-test-file.pdf").forEachPdfOutput(d -> assertEquals(1, d.getNumberOfPages()));
+    }
+
+    @Test
+    public void separateForEachRange() throws IOException {
+        setUpParameters(2, 2);
+        parameters.addPageRange(new PageRange(1, 1));
+        parameters.addPageRange(new PageRange(3, 4));
+        parameters.setSeparateFileForEachRange(true);
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(4).assertOutputContainsFilenames("1_short-test-file.pdf",
+                "4_short-test-file.pdf");
+    }
+
+    @Test
+    public void optimized() throws IOException {
+        setUpParameters(0, 2);
+        parameters.addSource(mediumInput());
+        parameters.addPageRange(new PageRange(2, 3));
+        parameters.setOptimizationPolicy(OptimizationPolicy.YES);
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(1).assertPages(2);
+    }
+
+    @Test
+    public void invertedSelection() {
+        setUpParameters(0, 1);
+        parameters.addPageRange(new PageRange(2, 3));
+        parameters.setInvertSelection(true);
+        parameters.setSeparateFileForEachRange(true);
+        assertEquals(List.of(List.of(new PageRange(1, 1)), List.of(new PageRange(4, 4))),
+                ParallelExtractPagesTask.pagesSets(parameters, 4));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.task.ParallelSplitByPageParameters;
+import org.sejda.model.optimization.OptimizationPolicy;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.parameter.SplitByEveryXPagesParameters;
+import org.sejda.model.parameter.SplitByPagesParameters;
+import org.sejda.model.pdf.PdfVersion;
+import org.sejda.model.task.Task;
+import org.sejda.tests.tasks.BaseTaskTest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.sejda.tests.TestUtils.mediumInput;
+import static org.sejda.tests.TestUtils.shortInput;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class ParallelSplitByPageTaskTest extends BaseTaskTest<ParallelSplitByPageParameters> {
+
+    @Override
+    public Task<ParallelSplitByPageParameters> getTask() {
+        return new ParallelSplitByPageTask();
+    }
+
+    private ParallelSplitByPageParameters parameters(SplitByPagesParameters split, int workers) {
+        split.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        split.setVersion(PdfVersion.VERSION_1_6);
+        split.setOutputPrefix("[CURRENTPAGE]_[BASENAME]");
+        return new ParallelSplitByPageParameters(split, workers);
+    }
+
+    @Test
+    public void splitAfterPages() throws IOException {
+        SplitByPagesParameters split = new SplitByPagesParameters();
+        split.addSource(shortInput());
+        split.addPage(1);
+        split.addPage(3);
+        ParallelSplitByPageParameters parameters = parameters(split, 3);
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(3).assertOutputContainsFilenames("1_short-test-file.pdf",
+                "2_short-test-file.pdf", "4_short-test-file.pdf");
+    }
+
+    @Test
+    public void optimized() throws IOException {
+        SplitByPagesParameters split = new SplitByPagesParameters();
+        split.addSource(shortInput());
+        split.addPage(2);
+        split.setOptimizationPolicy(OptimizationPolicy.YES);
+        split.discardOutline(true);
+        ParallelSplitByPageParameters parameters = parameters(split, 2);
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(2);
+    }
+
+    @Test
+    public void moreWorkersThanChunks() throws IOException {
+        SplitByPagesParameters split = new SplitByPagesParameters();
+        split.addSource(shortInput());
+        split.addPage(2);
+        ParallelSplitByPageParameters parameters = parameters(split, 10);
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(2).assertVersion(PdfVersion.VERSION_1_6);
+    }
+
+    @Test
+    public void singleWorker() throws IOException {
+        SplitByEveryXPagesParameters split = new SplitByEveryXPagesParameters(1);
+        split.addSource(mediumInput());
+        split.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        split.setOutputPrefix("[CURRENTPAGE]_[BASENAME]");
+        ParallelSplitByPageParameters parameters = new ParallelSplitByPageParameters(split, 1);
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.forEachPdfOutput(d -> assertEquals(1, d.getNumberOfPages()));
+    }
+
+    @Test
+    public void ranges() {
+        assertEquals(List.of(new ParallelSplitByPageTask.PageRange(1, 2), new ParallelSplitByPageTask.PageRange(3, 4)),
+                ParallelSplitByPageTask.ranges(Set.of(2), 4));
+        assertEquals(List.of(new ParallelSplitByPageTask.PageRange(1, 4)),
+                ParallelSplitByPageTask.ranges(Set.of(4, 7), 4));
+        assertEquals(List.of(new ParallelSplitByPageTask.PageRange(1, 2), new ParallelSplitByPageTask.PageRange(3, 5),
+                        new ParallelSplitByPageTask.PageRange(6, 8)),
+                ParallelSplitByPageTask.ranges(List.of(5, 2, 10, 2), 8));
+    }
+}
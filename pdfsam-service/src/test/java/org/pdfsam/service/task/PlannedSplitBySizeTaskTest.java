@@ -0,0 +1,81 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.task.PlannedSplitBySizeParameters;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.pdf.PdfVersion;
+import org.sejda.model.task.Task;
+import org.sejda.tests.tasks.BaseTaskTest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.sejda.tests.TestUtils.shortInput;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class PlannedSplitBySizeTaskTest extends BaseTaskTest<PlannedSplitBySizeParameters> {
+
+    @Override
+    public Task<PlannedSplitBySizeParameters> getTask() {
+        return new PlannedSplitBySizeTask();
+    }
+
+    private PlannedSplitBySizeParameters parameters(long size, List<Integer> cuts) throws IOException {
+        PlannedSplitBySizeParameters parameters = new PlannedSplitBySizeParameters(size, cuts);
+        parameters.addSource(shortInput());
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        parameters.setVersion(PdfVersion.VERSION_1_6);
+        parameters.setOutputPrefix("[CURRENTPAGE]_[BASENAME]");
+        return parameters;
+    }
+
+    @Test
+    public void plannedCutsFitting() throws IOException {
+        PlannedSplitBySizeParameters parameters = parameters(Long.MAX_VALUE, List.of(2));
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(2).assertOutputContainsFilenames("1_short-test-file.pdf",
+                "3_short-test-file.pdf");
+    }
+
+    @Test
+    public void partsExceedingAreSplitFurther() throws IOException {
+        PlannedSplitBySizeParameters parameters = parameters(1, List.of());
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(4).forEachPdfOutput(d -> assertEquals(1, d.getNumberOfPages()));
+    }
+
+    @Test
+    public void plannedEnd() {
+        var cuts = new TreeSet<>(List.of(2, 5, 10));
+        assertEquals(2, PlannedSplitBySizeTask.plannedEnd(cuts, 1, 8));
+        assertEquals(5, PlannedSplitBySizeTask.plannedEnd(cuts, 3, 8));
+        assertEquals(8, PlannedSplitBySizeTask.plannedEnd(cuts, 6, 8));
+        assertEquals(8, PlannedSplitBySizeTask.plannedEnd(new TreeSet<>(), 1, 8));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.cos.COSStream;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class ResourcesDeduplicatorTest {
+
+    private static final COSName IMAGE = COSName.getPDFName("Im1");
+
+    @Test
+    public void identicalStreamsAreShared() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(page(image("content", 10)));
+            document.addPage(page(image("content", 10)));
+            document.addPage(page(image("content", 10)));
+            assertEquals(2, new ResourcesDeduplicator().deduplicate(document));
+            assertSame(xObject(document, 0), xObject(document, 1));
+            assertSame(xObject(document, 0), xObject(document, 2));
+        }
+    }
+
+    @Test
+    public void differentContentIsKept() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(page(image("content", 10)));
+            document.addPage(page(image("other", 10)));
+            assertEquals(0, new ResourcesDeduplicator().deduplicate(document));
+            assertNotSame(xObject(document, 0), xObject(document, 1));
+        }
+    }
+
+    @Test
+    public void differentDictionaryIsKept() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(page(image("content", 10)));
+            document.addPage(page(image("content", 20)));
+            assertEquals(0, new ResourcesDeduplicator().deduplicate(document));
+            assertNotSame(xObject(document, 0), xObject(document, 1));
+        }
+    }
+
+    @Test
+    public void nestedStreams() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            COSStream first = image("content", 10);
+            first.setItem(COSName.SMASK, image("mask", 10));
+            COSStream second = image("content", 10);
+            second.setItem(COSName.SMASK, image("mask", 10));
+            document.addPage(page(first));
+            document.addPage(page(second));
+            assertEquals(2, new ResourcesDeduplicator().deduplicate(document));
+            assertSame(xObject(document, 0), xObject(document, 1));
+        }
+    }
+
+    private static PDPage page(COSStream image) {
+        COSDictionary xObjects = new COSDictionary();
+        xObjects.setItem(IMAGE, image);
+        COSDictionary resources = new COSDictionary();
+        resources.setItem(COSName.XOBJECT, xObjects);
+        PDPage page = new PDPage();
+        page.getCOSObject().setItem(COSName.RESOURCES, resources);
+        return page;
+    }
+
+    private static COSStream image(String content, int width) throws IOException {
+        COSStream stream = new COSStream();
+        stream.setItem(COSName.SUBTYPE, COSName.IMAGE);
+        stream.setInt(COSName.WIDTH, width);
+        try (OutputStream out = stream.createUnfilteredStream()) {
+            out.write(content.getBytes(US_ASCII));
+        }
+        return stream;
+    }
+
+    private static COSStream xObject(PDDocument document, int page) {
+        COSDictionary resources = document.getPage(page).getCOSObject()
+                .getDictionaryObject(COSName.RESOURCES, COSDictionary.class);
+        return resources.getDictionaryObject(COSName.XOBJECT, COSDictionary.class)
+                .getDictionaryObject(IMAGE, COSStream.class);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.service.task;
+
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.task.StreamingMergeParameters;
+import org.sejda.model.input.PdfMergeInput;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.pdf.PdfVersion;
+import org.sejda.model.pdf.page.PageRange;
+import org.sejda.model.task.Task;
+import org.sejda.tests.tasks.BaseTaskTest;
+
+import java.io.IOException;
+
+import static org.sejda.tests.TestUtils.mediumInput;
+import static org.sejda.tests.TestUtils.shortInput;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class StreamingMergeTaskTest extends BaseTaskTest<StreamingMergeParameters> {
+
+    private StreamingMergeParameters parameters;
+
+    @Override
+    public Task<StreamingMergeParameters> getTask() {
+        return new StreamingMergeTask();
+    }
+
+    private void setUpParameters(int inputs, int chunkSize) {
+        parameters = new StreamingMergeParameters();
+        parameters.setChunkSize(chunkSize);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        for (int i = 0; i < inputs; i++) {
+            parameters.addInput(new PdfMergeInput(shortInput()));
+        }
+    }
+
+    @Test
+    public void singleChunk() throws IOException {
+        setUpParameters(3, 5);
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertPages(12);
+    }
+
+    @Test
+    public void multipleLevels() throws IOException {
+        setUpParameters(9, 2);
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertPages(36);
+    }
+
+    @Test
+    public void pageSelection() throws IOException {
+        setUpParameters(2, 2);
+        PdfMergeInput input = new PdfMergeInput(mediumInput());
+        input.addPageRange(new PageRange(2, 4));
+        parameters.addInput(input);
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertPages(11);
+    }
+
+    @Test
+    public void blankPageIfOdd() throws IOException {
+        setUpParameters(0, 2);
+        PdfMergeInput input = new PdfMergeInput(mediumInput());
+        input.addPageRange(new PageRange(2, 4));
+        parameters.addInput(input);
+        parameters.addInput(new PdfMergeInput(shortInput()));
+        parameters.setBlankPageIfOdd(true);
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertPages(8);
+    }
+
+    @Test
+    public void deduplicateResources() throws IOException {
+        setUpParameters(5, 2);
+        parameters.setDeduplicateResources(true);
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertPages(20);
+    }
+
+    @Test
+    public void versionIsApplied() throws IOException {
+        setUpParameters(3, 2);
+        parameters.setVersion(PdfVersion.VERSION_1_6);
+        parameters.setCompress(true);
+        testContext.pdfOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertCreator().assertVersion(PdfVersion.VERSION_1_6).assertPages(12);
+    }
+}
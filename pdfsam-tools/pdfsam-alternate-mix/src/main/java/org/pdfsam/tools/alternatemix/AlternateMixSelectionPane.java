@@ -29,6 +29,7 @@ import org.pdfsam.ui.components.selection.multiple.PageRangesColumn;
 import org.pdfsam.ui.components.selection.multiple.ReverseColumn;
 import org.pdfsam.ui.components.selection.multiple.SelectedPagesColumn;
 import org.pdfsam.ui.components.selection.multiple.SelectionTableRowData;
+import org.pdfsam.ui.components.selection.multiple.SelectionTableValidation;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.input.PdfMixInput;
 import org.slf4j.Logger;
@@ -59,6 +60,12 @@ public class AlternateMixSelectionPane extends MultipleSelectionPane
 
     @Override
     public void apply(AlternateMixParametersBuilder builder, Consumer<String> onError) {
+        var validation = SelectionTableValidation.validate(table().getItems(), true);
+        if (!validation.isValid()) {
+            onError.accept(validation.describe());
+            return;
+        }
+        LOG.debug("Selection validated, {} pages will be mixed", validation.totalPages());
         try {
             var inputs = table().getItems().stream().filter(s -> !Objects.equals("0", trim(s.pageSelection.get())))
                     .toList();
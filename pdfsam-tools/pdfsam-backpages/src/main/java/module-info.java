@@ -1,4 +1,6 @@
+import org.pdfsam.core.support.params.HeadlessTool;
 import org.pdfsam.model.tool.Tool;
+import org.pdfsam.tools.backpages.AddBackpagesHeadlessTool;
 import org.pdfsam.tools.backpages.AddBackpagesTool;
 
 /*
@@ -36,4 +38,5 @@ module org.pdfsam.tools.backpages {
     requires org.kordamp.ikonli.unicons;
 
     provides Tool with AddBackpagesTool;
+    provides HeadlessTool with AddBackpagesHeadlessTool;
 }
\ No newline at end of file
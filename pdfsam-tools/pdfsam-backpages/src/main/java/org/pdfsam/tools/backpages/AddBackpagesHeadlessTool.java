@@ -0,0 +1,131 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.backpages;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.pdfsam.core.support.params.ConversionUtils;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.core.support.params.ToolData;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.output.FileOrDirectoryTaskOutput;
+import org.sejda.model.parameter.AddBackPagesParameters;
+import org.sejda.model.pdf.page.PageRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.apache.commons.lang3.StringUtils.endsWithIgnoreCase;
+import static org.pdfsam.i18n.I18nContext.i18n;
+import static org.pdfsam.tools.backpages.AddBackpagesTool.TOOL_ID;
+
+/**
+ * Headless version of the add back pages tool, building the parameters from the data saved by the
+ * {@link AddBackpagesToolPanel}. When the data contains a table of documents, or the destination is a directory, the
+ * back pages are added to all the documents in a batch, parsing the back pages document only once.
+ *
+ * @author Andrea Vacondio
+ */
+public class AddBackpagesHeadlessTool implements HeadlessTool {
+    private static final Logger LOG = LoggerFactory.getLogger(AddBackpagesHeadlessTool.class);
+
+    @Override
+    public String id() {
+        return TOOL_ID;
+    }
+
+    @Override
+    public Builder<? extends AddBackPagesParameters> builder(ToolData data, Consumer<String> onError) {
+        List<ToolData.Input> inputs = data.inputs("", onError);
+        if (inputs.isEmpty()) {
+            inputs = data.input("").stream().toList();
+        }
+        var destination = data.browsableField("");
+        if (inputs.size() == 1 && destination.filter(p -> endsWithIgnoreCase(p.toString(), ".pdf")).isPresent()) {
+            return single(inputs.get(0), data, onError);
+        }
+        return batch(inputs, data, onError);
+    }
+
+    private AddBackpagesParametersBuilder single(ToolData.Input input, ToolData data, Consumer<String> onError) {
+        var builder = new AddBackpagesParametersBuilder();
+        try {
+            builder.source(input.toPdfFileSource());
+            data.input("backpagesSource").ifPresentOrElse(i -> builder.backPagesSource(i.toPdfFileSource()),
+                    () -> onError.accept(i18n().tr("A .pdf extension is required for the repeating file")));
+            ranges(data).ifPresent(builder::ranges);
+        } catch (ConversionException e) {
+            LOG.error(e.getMessage());
+            onError.accept(e.getMessage());
+        }
+        step(data, onError, builder::step);
+        data.browsableField("").ifPresent(p -> builder.output(FileOrDirectoryTaskOutput.file(p.toFile())));
+        data.applyPdfDestination(builder, onError);
+        return builder;
+    }
+
+    private BatchAddBackpagesParametersBuilder batch(List<ToolData.Input> inputs, ToolData data,
+            Consumer<String> onError) {
+        var builder = new BatchAddBackpagesParametersBuilder();
+        try {
+            inputs.forEach(i -> builder.addSource(i.toPdfFileSource()));
+            if (!builder.hasInput()) {
+                onError.accept(i18n().tr("No PDF document has been selected"));
+            }
+            data.input("backpagesSource").ifPresentOrElse(i -> builder.backPagesSource(i.toPdfFileSource()),
+                    () -> onError.accept(i18n().tr("A .pdf extension is required for the repeating file")));
+            ranges(data).ifPresent(builder::ranges);
+        } catch (ConversionException e) {
+            LOG.error(e.getMessage());
+            onError.accept(e.getMessage());
+        }
+        step(data, onError, builder::step);
+        data.get("workers").filter(w -> w.matches("[1-9]\\d*")).map(Integer::valueOf).ifPresent(builder::workers);
+        data.browsableField("").filter(Files::isDirectory).ifPresentOrElse(
+                p -> builder.output(FileOrDirectoryTaskOutput.directory(p.toFile())),
+                () -> onError.accept(i18n().tr("An existing output directory is required")));
+        builder.prefix(data.prefix(""));
+        data.applyPdfDestination(builder, onError);
+        return builder;
+    }
+
+    private static Optional<Set<PageRange>> ranges(ToolData data) {
+        return data.get("range.field").map(ConversionUtils::toPageRangeSet);
+    }
+
+    private static void step(ToolData data, Consumer<String> onError, Consumer<Integer> step) {
+        var pace = data.get("pace.field").orElse("1").trim();
+        if (pace.matches("[1-9]\\d*")) {
+            step.accept(Integer.parseInt(pace));
+        } else {
+            onError.accept(i18n().tr("The number of pages must be a positive number"));
+        }
+    }
+
+    @Override
+    public Map<String, String> withInput(Map<String, String> data, File file) {
+        return ToolData.withInput(data, "", file);
+    }
+}
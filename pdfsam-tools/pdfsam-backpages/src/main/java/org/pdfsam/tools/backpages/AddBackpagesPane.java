@@ -25,6 +25,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import org.pdfsam.core.support.params.ConversionUtils;
 import org.pdfsam.core.support.params.TaskParametersBuildStep;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.pdfsam.model.ui.ResettableView;
 import org.pdfsam.model.ui.workspace.RestorableView;
 import org.pdfsam.ui.components.commons.ValidableTextField;
@@ -161,6 +162,13 @@ public class AddBackpagesPane extends VBox
 
     }
 
+    /**
+     * @return the descriptor of the document containing the pages to repeat
+     */
+    PdfDocumentDescriptor backpagesDescriptor() {
+        return backpagesSourceField.getPdfDocumentDescriptor();
+    }
+
     @Override
     public void resetView() {
         this.range.setText("");
@@ -24,6 +24,7 @@ import javafx.geometry.Pos;
 import javafx.scene.layout.VBox;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.eventstudio.annotation.EventStation;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.pdfsam.model.tool.ClearToolRequest;
 import org.pdfsam.ui.components.io.BrowsablePdfOutputField;
 import org.pdfsam.ui.components.io.PdfDestinationPane;
@@ -35,8 +36,11 @@ import org.pdfsam.ui.components.tool.Footer;
 import org.sejda.model.output.FileOrDirectoryTaskOutput;
 
 import java.io.File;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.pdfsam.i18n.I18nContext.i18n;
 import static org.pdfsam.tools.backpages.AddBackpagesTool.TOOL_ID;
@@ -79,6 +83,12 @@ public class AddBackpagesToolPanel extends BaseToolPanel {
         destinationPane.restoreStateFrom(data);
     }
 
+    @Override
+    protected List<PdfDocumentDescriptor> planDescriptors() {
+        return Stream.of(selectionPane.getPdfDocumentDescriptor(), addBackpagesOptions.backpagesDescriptor())
+                .filter(Objects::nonNull).toList();
+    }
+
     @Override
     protected AddBackpagesParametersBuilder getBuilder(Consumer<String> onError) {
         var builder = new AddBackpagesParametersBuilder();
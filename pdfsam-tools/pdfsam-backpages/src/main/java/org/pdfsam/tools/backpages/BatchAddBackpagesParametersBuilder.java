@@ -0,0 +1,76 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.backpages;
+
+import org.pdfsam.core.support.params.MultiplePdfSourceMultipleOutputParametersBuilder;
+import org.pdfsam.model.task.BatchAddBackPagesParameters;
+import org.sejda.model.input.PdfFileSource;
+import org.sejda.model.pdf.page.PageRange;
+
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Builder for {@link BatchAddBackPagesParameters}, adding the same back pages to many sources
+ *
+ * @author Andrea Vacondio
+ */
+class BatchAddBackpagesParametersBuilder
+        extends MultiplePdfSourceMultipleOutputParametersBuilder<BatchAddBackPagesParameters> {
+
+    private PdfFileSource backPagesSource;
+    private int step = 1;
+    private Set<PageRange> ranges;
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    public void backPagesSource(PdfFileSource backPagesSource) {
+        this.backPagesSource = backPagesSource;
+    }
+
+    public void step(int step) {
+        this.step = step;
+    }
+
+    public void ranges(Set<PageRange> ranges) {
+        this.ranges = ranges;
+    }
+
+    public void workers(int workers) {
+        this.workers = workers;
+    }
+
+    @Override
+    public BatchAddBackPagesParameters build() {
+        BatchAddBackPagesParameters params = new BatchAddBackPagesParameters();
+        params.setCompress(isCompress());
+        params.setExistingOutputPolicy(existingOutput());
+        params.setVersion(getVersion());
+        params.setOutput(getOutput());
+        params.setOutputPrefix(getPrefix());
+        params.setBackPagesSource(backPagesSource);
+        params.setStep(step);
+        params.setWorkers(workers);
+        getInputs().forEach(params::addSource);
+        if (nonNull(ranges)) {
+            params.addAllPageRanges(ranges);
+        }
+        return params;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.backpages;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.core.support.params.ToolData;
+import org.pdfsam.model.task.BatchAddBackPagesParameters;
+import org.sejda.model.output.FileOrDirectoryTaskOutput;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class AddBackpagesHeadlessToolTest {
+
+    private final AddBackpagesHeadlessTool victim = new AddBackpagesHeadlessTool();
+
+    @Test
+    public void single(@TempDir Path folder) throws IOException {
+        var file = Files.createTempFile(folder, null, ".pdf").toFile();
+        Map<String, String> data = new HashMap<>();
+        data.put("backpagesSourceinput", Files.createTempFile(folder, null, ".pdf").toString());
+        data.put("pace.field", "3");
+        data.put("range.field", "1-2");
+        data.put("browsableField", folder.resolve("out.pdf").toString());
+        List<String> errors = new ArrayList<>();
+        var params = victim.builder(new ToolData(victim.withInput(data, file)), errors::add).build();
+        assertTrue(errors.isEmpty());
+        assertFalse(params instanceof BatchAddBackPagesParameters);
+        assertEquals(3, params.getStep());
+        assertEquals(1, params.getPageSelection().size());
+        assertEquals(1, params.getSourceList().size());
+    }
+
+    @Test
+    public void batch(@TempDir Path folder) throws IOException {
+        Map<String, String> data = new HashMap<>();
+        data.put("input.size", "3");
+        for (int i = 0; i < 3; i++) {
+            data.put("input." + i, Files.createTempFile(folder, null, ".pdf").toString());
+        }
+        data.put("backpagesSourceinput", Files.createTempFile(folder, null, ".pdf").toString());
+        data.put("browsableField", folder.toString());
+        data.put("prefix", "terms_");
+        data.put("workers", "2");
+        List<String> errors = new ArrayList<>();
+        var params = victim.builder(new ToolData(data), errors::add).build();
+        assertTrue(errors.isEmpty());
+        var batch = assertInstanceOf(BatchAddBackPagesParameters.class, params);
+        assertEquals(3, batch.getSourceList().size());
+        assertEquals(2, batch.getWorkers());
+        assertEquals(1, batch.getStep());
+        assertEquals("terms_", batch.getOutputPrefix());
+        assertEquals(folder.toFile().getAbsoluteFile(),
+                ((FileOrDirectoryTaskOutput) batch.getOutput()).getDestination().getAbsoluteFile());
+    }
+
+    @Test
+    public void invalid() {
+        List<String> errors = new ArrayList<>();
+        victim.builder(new ToolData(Map.of("pace.field", "chuck")), errors::add);
+        assertEquals(4, errors.size());
+    }
+}
@@ -51,6 +51,7 @@ class ExtractOptionsPane extends GridPane
 
     private final ValidableTextField field = new ValidableTextField();
     private final CheckBox separateFile;
+    private final CheckBox parallel;
 
     ExtractOptionsPane() {
         this.separateFile = new CheckBox(i18n().tr("A separate file for each set of pages"));
@@ -58,6 +59,12 @@ class ExtractOptionsPane extends GridPane
                 helpIcon(i18n().tr("Each continuous series of pages will generate a separate PDF file")));
         this.separateFile.getStyleClass().addAll(Style.WITH_HELP.css());
         this.separateFile.setId("separateFile");
+        this.parallel = new CheckBox(i18n().tr("Process files in parallel"));
+        this.parallel.setGraphic(helpIcon(i18n().tr(
+                "Extracts pages from multiple files at the same time, faster when extracting from many files. "
+                        + "Used only when bookmarks are discarded, forms and links are not kept")));
+        this.parallel.getStyleClass().addAll(Style.WITH_HELP.css());
+        this.parallel.setId("parallelCheck");
 
         this.field.setOnEnterValidation(true);
         this.field.setEnableInvalidStyle(true);
@@ -88,6 +95,9 @@ class ExtractOptionsPane extends GridPane
         GridPane.setValignment(separateFile, VPos.BOTTOM);
         GridPane.setHalignment(separateFile, HPos.LEFT);
         add(separateFile, 0, 1, 3, 1);
+        GridPane.setValignment(parallel, VPos.BOTTOM);
+        GridPane.setHalignment(parallel, HPos.LEFT);
+        add(parallel, 0, 2, 3, 1);
     }
 
     @Override
@@ -97,6 +107,7 @@ class ExtractOptionsPane extends GridPane
             try {
                 builder.pagesSelection(toPagesSelectionSet(this.field.getText()));
                 builder.separateForEachRange(separateFile.isSelected());
+                builder.parallel(parallel.isSelected());
             } catch (ConversionException e) {
                 onError.accept(e.getMessage());
             }
@@ -109,17 +120,20 @@ class ExtractOptionsPane extends GridPane
     public void saveStateTo(Map<String, String> data) {
         data.put("pages", defaultString(field.getText()));
         data.put("separateFile", Boolean.toString(separateFile.isSelected()));
+        data.put("parallel", Boolean.toString(parallel.isSelected()));
     }
 
     @Override
     public void restoreStateFrom(Map<String, String> data) {
         field.setText(Optional.ofNullable(data.get("pages")).orElse(EMPTY));
         separateFile.setSelected(Boolean.parseBoolean(data.get("separateFile")));
+        parallel.setSelected(Boolean.parseBoolean(data.get("parallel")));
     }
 
     @Override
     public void resetView() {
         this.field.clear();
         separateFile.setSelected(false);
+        parallel.setSelected(false);
     }
 }
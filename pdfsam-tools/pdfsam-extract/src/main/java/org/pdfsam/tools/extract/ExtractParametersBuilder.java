@@ -19,6 +19,7 @@
 package org.pdfsam.tools.extract;
 
 import org.pdfsam.core.support.params.MultiplePdfSourceMultipleOutputParametersBuilder;
+import org.pdfsam.model.task.ParallelExtractPagesParameters;
 import org.sejda.model.optimization.OptimizationPolicy;
 import org.sejda.model.parameter.ExtractPagesParameters;
 import org.sejda.model.pdf.page.PagesSelection;
@@ -39,6 +40,7 @@ class ExtractParametersBuilder extends MultiplePdfSourceMultipleOutputParameters
     private Set<PagesSelection> pagesSelection;
     private boolean invertSelection = false;
     private boolean separateForEachRange = false;
+    private boolean parallel = false;
 
     public void optimizationPolicy(OptimizationPolicy optimizationPolicy) {
         this.optimizationPolicy = optimizationPolicy;
@@ -63,9 +65,19 @@ class ExtractParametersBuilder extends MultiplePdfSourceMultipleOutputParameters
         this.separateForEachRange = separateForEachRange;
     }
 
+    /**
+     * @param parallel true to process the sources concurrently. The parallel task doesn't copy bookmarks, forms and
+     *                 links, so it's used only when bookmarks are discarded
+     */
+    public void parallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     @Override
     public ExtractPagesParameters build() {
-        ExtractPagesParameters params = new ExtractPagesParameters();
+        ExtractPagesParameters params = parallel && isDiscardBookmarks() ?
+                new ParallelExtractPagesParameters() :
+                new ExtractPagesParameters();
         params.setCompress(isCompress());
         params.setExistingOutputPolicy(existingOutput());
         params.setVersion(getVersion());
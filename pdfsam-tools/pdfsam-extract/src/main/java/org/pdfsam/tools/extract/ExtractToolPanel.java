@@ -26,15 +26,18 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.eventstudio.annotation.EventStation;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.pdfsam.model.tool.ClearToolRequest;
 import org.pdfsam.ui.components.io.BrowsableOutputDirectoryField;
 import org.pdfsam.ui.components.io.PdfDestinationPane;
 import org.pdfsam.ui.components.prefix.PrefixPane;
+import org.pdfsam.ui.components.selection.multiple.SelectionTableRowData;
 import org.pdfsam.ui.components.support.Views;
 import org.pdfsam.ui.components.tool.BaseToolPanel;
 import org.pdfsam.ui.components.tool.Footer;
 import org.sejda.model.prefix.Prefix;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -64,6 +67,11 @@ public class ExtractToolPanel extends BaseToolPanel {
         initModuleSettingsPanel(settingPanel());
     }
 
+    @Override
+    protected List<PdfDocumentDescriptor> planDescriptors() {
+        return selectionPane.table().getItems().stream().map(SelectionTableRowData::descriptor).toList();
+    }
+
     @Override
     protected ExtractParametersBuilder getBuilder(Consumer<String> onError) {
         ExtractParametersBuilder builder = new ExtractParametersBuilder();
@@ -96,6 +96,20 @@ public class ExtractOptionsPaneTest {
         victim.saveStateTo(data);
         assertEquals("30-100", data.get("pages"));
         assertEquals(Boolean.TRUE.toString(), data.get("separateFile"));
+        assertEquals(Boolean.FALSE.toString(), data.get("parallel"));
+    }
+
+    @Test
+    public void parallel() {
+        robot.clickOn("#extractRanges").type(KeyCode.DIGIT5).push(KeyCode.ENTER);
+        robot.clickOn("#parallelCheck");
+        victim.apply(builder, onError);
+        verify(builder).parallel(true);
+        Map<String, String> data = new HashMap<>();
+        victim.saveStateTo(data);
+        assertEquals(Boolean.TRUE.toString(), data.get("parallel"));
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.resetView());
+        assertFalse(robot.lookup("#parallelCheck").queryAs(CheckBox.class).isSelected());
     }
 
     @Test
@@ -21,6 +21,7 @@ package org.pdfsam.tools.extract;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.pdfsam.core.support.params.ConversionUtils;
+import org.pdfsam.model.task.ParallelExtractPagesParameters;
 import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.optimization.OptimizationPolicy;
 import org.sejda.model.output.ExistingOutputPolicy;
@@ -35,6 +36,8 @@ import java.nio.file.Path;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -74,5 +77,37 @@ public class ExtractParametersBuilderTest {
         assertEquals("prefix", params.getOutputPrefix());
         assertEquals(2, params.getSourceList().size());
         assertEquals(source, params.getSourceList().get(0));
+        assertFalse(params instanceof ParallelExtractPagesParameters);
+    }
+
+    @Test
+    public void buildParallel(@TempDir Path folder) throws IOException {
+        var victim = new ExtractParametersBuilder();
+        victim.output(mock(FileOrDirectoryTaskOutput.class));
+        victim.separateForEachRange(true);
+        victim.optimizationPolicy(OptimizationPolicy.YES);
+        victim.parallel(true);
+        victim.discardBookmarks(true);
+        victim.addSource(PdfFileSource.newInstanceNoPassword(Files.createTempFile(folder, null, ".pdf").toFile()));
+        victim.pagesSelection(ConversionUtils.toPagesSelectionSet("1"));
+        ExtractPagesParameters params = victim.build();
+        assertInstanceOf(ParallelExtractPagesParameters.class, params);
+        assertTrue(params.isSeparateFileForEachRange());
+        assertTrue(params.discardOutline());
+        assertEquals(OptimizationPolicy.YES, params.getOptimizationPolicy());
+        assertEquals(1, params.getSourceList().size());
+    }
+
+    @Test
+    public void parallelKeepingBookmarks(@TempDir Path folder) throws IOException {
+        var victim = new ExtractParametersBuilder();
+        victim.output(mock(FileOrDirectoryTaskOutput.class));
+        victim.parallel(true);
+        victim.discardBookmarks(false);
+        victim.addSource(PdfFileSource.newInstanceNoPassword(Files.createTempFile(folder, null, ".pdf").toFile()));
+        victim.pagesSelection(ConversionUtils.toPagesSelectionSet("1"));
+        ExtractPagesParameters params = victim.build();
+        assertFalse(params instanceof ParallelExtractPagesParameters);
+        assertFalse(params.discardOutline());
     }
 }
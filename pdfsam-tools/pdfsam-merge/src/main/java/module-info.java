@@ -1,4 +1,6 @@
+import org.pdfsam.core.support.params.HeadlessTool;
 import org.pdfsam.model.tool.Tool;
+import org.pdfsam.tools.merge.MergeHeadlessTool;
 import org.pdfsam.tools.merge.MergeTool;
 
 /*
@@ -36,4 +38,5 @@ module org.pdfsam.tools.merge {
     requires org.kordamp.ikonli.unicons;
 
     provides Tool with MergeTool;
+    provides HeadlessTool with MergeHeadlessTool;
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.merge;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.core.support.params.ToolData;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.input.PdfMergeInput;
+import org.sejda.model.outline.OutlinePolicy;
+import org.sejda.model.output.FileTaskOutput;
+import org.sejda.model.parameter.MergeParameters;
+import org.sejda.model.pdf.form.AcroFormPolicy;
+import org.sejda.model.scale.PageNormalizationPolicy;
+import org.sejda.model.toc.ToCPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static org.apache.commons.lang3.StringUtils.endsWithIgnoreCase;
+import static org.apache.commons.lang3.StringUtils.trim;
+import static org.pdfsam.i18n.I18nContext.i18n;
+import static org.pdfsam.tools.merge.MergeTool.TOOL_ID;
+
+/**
+ * Headless version of the merge tool, building the parameters from the data saved by the {@link MergeToolPanel}
+ *
+ * @author Andrea Vacondio
+ */
+public class MergeHeadlessTool implements HeadlessTool {
+    private static final Logger LOG = LoggerFactory.getLogger(MergeHeadlessTool.class);
+
+    @Override
+    public String id() {
+        return TOOL_ID;
+    }
+
+    @Override
+    public Builder<MergeParameters> builder(ToolData data, Consumer<String> onError) {
+        MergeParametersBuilder builder = new MergeParametersBuilder();
+        try {
+            data.inputs("", onError).stream().filter(i -> !Objects.equals("0", trim(i.pageSelection())))
+                    .map(i -> new PdfMergeInput(i.toPdfFileSource(), i.toPageRangeSet())).forEach(builder::addInput);
+            if (!builder.hasInput()) {
+                onError.accept(i18n().tr("No PDF document has been selected"));
+            }
+        } catch (ConversionException e) {
+            LOG.error(e.getMessage());
+            onError.accept(e.getMessage());
+        }
+        data.getEnum("outline", OutlinePolicy.class, onError).ifPresent(builder::outlinePolicy);
+        data.getEnum("acroForms", AcroFormPolicy.class, onError).ifPresent(builder::acroFormsPolicy);
+        data.getEnum("toc", ToCPolicy.class, onError).ifPresent(builder::tocPolicy);
+        data.getEnum("pageNormalization", PageNormalizationPolicy.class, onError)
+                .ifPresent(builder::pageNormalizationPolicy);
+        builder.blankPageIfOdd(data.getBoolean("blankIfOdd"));
+        builder.footer(data.getBoolean("footer"));
+        builder.streaming(data.getBoolean("streaming"));
+        builder.deduplicateResources(data.getBoolean("deduplicate"));
+        data.browsableField("").filter(p -> endsWithIgnoreCase(p.toString(), ".pdf"))
+                .ifPresentOrElse(p -> builder.output(new FileTaskOutput(p.toFile())),
+                        () -> onError.accept(i18n().tr("A .pdf destination file extension is required")));
+        data.applyPdfDestination(builder, onError);
+        return builder;
+    }
+
+    @Override
+    public Map<String, String> withInput(Map<String, String> data, File file) {
+        return ToolData.withInputs(data, "", file);
+    }
+}
@@ -51,6 +51,8 @@ class MergeOptionsPane extends VBox
     private final ComboBox<ComboItem<AcroFormPolicy>> acroForms = new ComboBox<>();
     private final CheckBox blankIfOdd;
     private final CheckBox footer;
+    private final CheckBox streaming;
+    private final CheckBox deduplicate;
     private final ComboBox<ComboItem<PageNormalizationPolicy>> pageNormalization = new ComboBox<>();
     private final ComboBox<ComboItem<OutlinePolicy>> outline = new ComboBox<>();
     private final ComboBox<ComboItem<ToCPolicy>> toc = new ComboBox<>();
@@ -68,6 +70,20 @@ class MergeOptionsPane extends VBox
         footer.getStyleClass().addAll(Style.WITH_HELP.css());
         footer.setId("footerCheck");
 
+        streaming = new CheckBox(i18n().tr("Low memory mode"));
+        streaming.setGraphic(helpIcon(i18n().tr("Keeps only a few documents open at the same time, useful to merge "
+                + "a large number of documents. Bookmarks, forms, table of contents, footer and normalization "
+                + "are ignored")));
+        streaming.getStyleClass().addAll(Style.WITH_HELP.css());
+        streaming.setId("streamingCheck");
+
+        deduplicate = new CheckBox(i18n().tr("Deduplicate shared resources"));
+        deduplicate.setGraphic(helpIcon(i18n().tr("Identical fonts, images and color profiles found in different "
+                + "documents are written only once. Available in low memory mode")));
+        deduplicate.getStyleClass().addAll(Style.WITH_HELP.css());
+        deduplicate.setId("deduplicateCheck");
+        deduplicate.disableProperty().bind(streaming.selectedProperty().not());
+
         GridPane options = new GridPane();
 
         pageNormalization.getItems().add(new ComboItem<>(PageNormalizationPolicy.NONE, i18n().tr("None")));
@@ -117,15 +133,24 @@ class MergeOptionsPane extends VBox
                 3);
         options.getStyleClass().addAll(Style.GRID.css());
 
+        // ignored in low memory mode
+        footer.disableProperty().bind(streaming.selectedProperty());
+        pageNormalization.disableProperty().bind(streaming.selectedProperty());
+        acroForms.disableProperty().bind(streaming.selectedProperty());
+        outline.disableProperty().bind(streaming.selectedProperty());
+        toc.disableProperty().bind(streaming.selectedProperty());
+
         getStyleClass().addAll(Style.CONTAINER.css());
         resetView();
-        getChildren().addAll(blankIfOdd, footer, options);
+        getChildren().addAll(blankIfOdd, footer, streaming, deduplicate, options);
     }
 
     @Override
     public void resetView() {
         blankIfOdd.setSelected(false);
         footer.setSelected(false);
+        streaming.setSelected(false);
+        deduplicate.setSelected(false);
         pageNormalization.getSelectionModel().selectFirst();
         acroForms.getSelectionModel().selectFirst();
         outline.getSelectionModel().selectFirst();
@@ -139,6 +164,8 @@ class MergeOptionsPane extends VBox
         builder.tocPolicy(toc.getSelectionModel().getSelectedItem().key());
         builder.blankPageIfOdd(blankIfOdd.isSelected());
         builder.footer(footer.isSelected());
+        builder.streaming(streaming.isSelected());
+        builder.deduplicateResources(deduplicate.isSelected());
         builder.pageNormalizationPolicy(pageNormalization.getSelectionModel().getSelectedItem().key());
     }
 
@@ -154,6 +181,8 @@ class MergeOptionsPane extends VBox
                 .orElse(EMPTY));
         data.put("blankIfOdd", Boolean.toString(blankIfOdd.isSelected()));
         data.put("footer", Boolean.toString(footer.isSelected()));
+        data.put("streaming", Boolean.toString(streaming.isSelected()));
+        data.put("deduplicate", Boolean.toString(deduplicate.isSelected()));
         data.put("pageNormalization", Optional.ofNullable(pageNormalization.getSelectionModel().getSelectedItem())
                 .map(i -> i.key().toString()).orElse(EMPTY));
     }
@@ -185,5 +214,7 @@ class MergeOptionsPane extends VBox
 
         blankIfOdd.setSelected(Boolean.parseBoolean(data.get("blankIfOdd")));
         footer.setSelected(Boolean.parseBoolean(data.get("footer")));
+        streaming.setSelected(Boolean.parseBoolean(data.get("streaming")));
+        deduplicate.setSelected(Boolean.parseBoolean(data.get("deduplicate")));
     }
 }
@@ -20,6 +20,7 @@ package org.pdfsam.tools.merge;
 
 import org.pdfsam.core.support.params.AbstractPdfOutputParametersBuilder;
 import org.pdfsam.core.support.params.SingleOutputTaskParametersBuilder;
+import org.pdfsam.model.task.StreamingMergeParameters;
 import org.sejda.commons.collection.NullSafeSet;
 import org.sejda.model.input.PdfMergeInput;
 import org.sejda.model.outline.OutlinePolicy;
@@ -46,6 +47,8 @@ class MergeParametersBuilder extends AbstractPdfOutputParametersBuilder<MergePar
     private PageNormalizationPolicy pageNormalizationPolicy = PageNormalizationPolicy.NONE;
     private AcroFormPolicy formsPolicy = AcroFormPolicy.MERGE_RENAMING_EXISTING_FIELDS;
     private ToCPolicy tocPolicy = ToCPolicy.NONE;
+    private boolean streaming;
+    private boolean deduplicateResources;
     private FileTaskOutput output;
 
     void addInput(PdfMergeInput input) {
@@ -80,6 +83,14 @@ class MergeParametersBuilder extends AbstractPdfOutputParametersBuilder<MergePar
         this.tocPolicy = tocPolicy;
     }
 
+    void streaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    void deduplicateResources(boolean deduplicateResources) {
+        this.deduplicateResources = deduplicateResources;
+    }
+
     @Override
     public void output(FileTaskOutput output) {
         this.output = output;
@@ -88,6 +99,11 @@ class MergeParametersBuilder extends AbstractPdfOutputParametersBuilder<MergePar
     @Override
     public MergeParameters build() {
         MergeParameters params = new MergeParameters();
+        if (streaming) {
+            StreamingMergeParameters streamingParams = new StreamingMergeParameters();
+            streamingParams.setDeduplicateResources(deduplicateResources);
+            params = streamingParams;
+        }
         params.setCompress(isCompress());
         params.setExistingOutputPolicy(existingOutput());
         params.setVersion(getVersion());
@@ -26,6 +26,7 @@ import org.pdfsam.ui.components.selection.multiple.LongColumn;
 import org.pdfsam.ui.components.selection.multiple.MultipleSelectionPane;
 import org.pdfsam.ui.components.selection.multiple.PageRangesColumn;
 import org.pdfsam.ui.components.selection.multiple.SelectedPagesColumn;
+import org.pdfsam.ui.components.selection.multiple.SelectionTableValidation;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.input.PdfMergeInput;
 import org.slf4j.Logger;
@@ -56,6 +57,12 @@ public class MergeSelectionPane extends MultipleSelectionPane
 
     @Override
     public void apply(MergeParametersBuilder builder, Consumer<String> onError) {
+        var validation = SelectionTableValidation.validate(table().getItems(), false);
+        if (!validation.isValid()) {
+            onError.accept(validation.describe());
+            return;
+        }
+        LOG.debug("Selection validated, {} pages will be merged", validation.totalPages());
         try {
             table().getItems().stream().filter(s -> !Objects.equals("0", trim(s.pageSelection.get())))
                     .map(i -> new PdfMergeInput(i.descriptor().toPdfFileSource(), i.toPageRangeSet()))
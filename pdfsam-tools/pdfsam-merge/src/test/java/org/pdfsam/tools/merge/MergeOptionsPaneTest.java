@@ -37,6 +37,7 @@ import org.testfx.framework.junit5.Start;
 import org.testfx.util.WaitForAsyncUtils;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -81,6 +82,8 @@ public class MergeOptionsPaneTest {
         verify(builder).outlinePolicy(eq(OutlinePolicy.RETAIN));
         verify(builder).blankPageIfOdd(true);
         verify(builder).footer(false);
+        verify(builder).streaming(false);
+        verify(builder).deduplicateResources(false);
         verify(builder).pageNormalizationPolicy(PageNormalizationPolicy.NONE);
         verify(builder).acroFormsPolicy(AcroFormPolicy.MERGE_RENAMING_EXISTING_FIELDS);
         verify(builder).tocPolicy(ToCPolicy.NONE);
@@ -95,6 +98,8 @@ public class MergeOptionsPaneTest {
         assertEquals(OutlinePolicy.RETAIN.toString(), data.get("outline"));
         assertEquals(Boolean.TRUE.toString(), data.get("blankIfOdd"));
         assertEquals(Boolean.FALSE.toString(), data.get("footer"));
+        assertEquals(Boolean.FALSE.toString(), data.get("streaming"));
+        assertEquals(Boolean.FALSE.toString(), data.get("deduplicate"));
         assertEquals(PageNormalizationPolicy.NONE.toString(), data.get("pageNormalization"));
         assertEquals(AcroFormPolicy.MERGE_RENAMING_EXISTING_FIELDS.toString(), data.get("acroForms"));
         assertEquals(ToCPolicy.NONE.toString(), data.get("toc"));
@@ -107,12 +112,16 @@ public class MergeOptionsPaneTest {
         ComboBox<ComboItem<ToCPolicy>> toc = robot.lookup("#tocCombo").queryComboBox();
         CheckBox blankIfOdd = robot.lookup("#blankIfOddCheck").queryAs(CheckBox.class);
         CheckBox footer = robot.lookup("#footerCheck").queryAs(CheckBox.class);
+        CheckBox streaming = robot.lookup("#streamingCheck").queryAs(CheckBox.class);
+        CheckBox deduplicate = robot.lookup("#deduplicateCheck").queryAs(CheckBox.class);
         ComboBox<ComboItem<PageNormalizationPolicy>> normalize = robot.lookup("#normalizeCheck").queryComboBox();
         Map<String, String> data = new HashMap<>();
         data.put("outline", OutlinePolicy.ONE_ENTRY_EACH_DOC.toString());
         data.put("acroForms", AcroFormPolicy.MERGE_RENAMING_EXISTING_FIELDS.toString());
         data.put("blankIfOdd", Boolean.FALSE.toString());
         data.put("footer", Boolean.TRUE.toString());
+        data.put("streaming", Boolean.TRUE.toString());
+        data.put("deduplicate", Boolean.TRUE.toString());
         data.put("pageNormalization", PageNormalizationPolicy.SAME_WIDTH_ORIENTATION_BASED.toString());
         data.put("toc", ToCPolicy.DOC_TITLES.toString());
         WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.restoreStateFrom(data));
@@ -123,6 +132,35 @@ public class MergeOptionsPaneTest {
                 normalize.getSelectionModel().getSelectedItem().key());
         assertFalse(blankIfOdd.isSelected());
         assertTrue(footer.isSelected());
+        assertTrue(streaming.isSelected());
+        assertTrue(deduplicate.isSelected());
+    }
+
+    @Test
+    public void deduplicateRequiresStreaming() {
+        CheckBox deduplicate = robot.lookup("#deduplicateCheck").queryAs(CheckBox.class);
+        assertTrue(deduplicate.isDisabled());
+        robot.clickOn("#streamingCheck");
+        assertFalse(deduplicate.isDisabled());
+        robot.clickOn("#deduplicateCheck");
+        victim.apply(builder, onError);
+        verify(builder).streaming(true);
+        verify(builder).deduplicateResources(true);
+    }
+
+    @Test
+    public void streamingDisablesIgnoredOptions() {
+        CheckBox footer = robot.lookup("#footerCheck").queryAs(CheckBox.class);
+        CheckBox blankIfOdd = robot.lookup("#blankIfOddCheck").queryAs(CheckBox.class);
+        var ignored = List.of(footer, robot.lookup("#normalizeCheck").queryComboBox(),
+                robot.lookup("#acroFormsCombo").queryComboBox(), robot.lookup("#outlineCombo").queryComboBox(),
+                robot.lookup("#tocCombo").queryComboBox());
+        ignored.forEach(n -> assertFalse(n.isDisabled()));
+        robot.clickOn("#streamingCheck");
+        ignored.forEach(n -> assertTrue(n.isDisabled()));
+        assertFalse(blankIfOdd.isDisabled());
+        robot.clickOn("#streamingCheck");
+        ignored.forEach(n -> assertFalse(n.isDisabled()));
     }
 
     @Test
@@ -142,12 +180,16 @@ public class MergeOptionsPaneTest {
         ComboBox<ComboItem<ToCPolicy>> toc = robot.lookup("#tocCombo").queryComboBox();
         CheckBox blankIfOdd = robot.lookup("#blankIfOddCheck").queryAs(CheckBox.class);
         CheckBox footer = robot.lookup("#footerCheck").queryAs(CheckBox.class);
+        CheckBox streaming = robot.lookup("#streamingCheck").queryAs(CheckBox.class);
+        CheckBox deduplicate = robot.lookup("#deduplicateCheck").queryAs(CheckBox.class);
         ComboBox<ComboItem<PageNormalizationPolicy>> normalize = robot.lookup("#normalizeCheck").queryComboBox();
         Map<String, String> data = new HashMap<>();
         data.put("outline", OutlinePolicy.ONE_ENTRY_EACH_DOC.toString());
         data.put("acroForms", AcroFormPolicy.FLATTEN.toString());
         data.put("blankIfOdd", Boolean.TRUE.toString());
         data.put("footer", Boolean.TRUE.toString());
+        data.put("streaming", Boolean.TRUE.toString());
+        data.put("deduplicate", Boolean.TRUE.toString());
         data.put("pageNormalization", PageNormalizationPolicy.SAME_WIDTH_ORIENTATION_BASED.toString());
         data.put("toc", ToCPolicy.DOC_TITLES.toString());
         WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.restoreStateFrom(data));
@@ -156,6 +198,8 @@ public class MergeOptionsPaneTest {
         assertEquals(ToCPolicy.DOC_TITLES, toc.getSelectionModel().getSelectedItem().key());
         assertTrue(blankIfOdd.isSelected());
         assertTrue(footer.isSelected());
+        assertTrue(streaming.isSelected());
+        assertTrue(deduplicate.isSelected());
         assertEquals(PageNormalizationPolicy.SAME_WIDTH_ORIENTATION_BASED,
                 normalize.getSelectionModel().getSelectedItem().key());
         WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.resetView());
@@ -164,6 +208,8 @@ public class MergeOptionsPaneTest {
         assertEquals(ToCPolicy.NONE, toc.getSelectionModel().getSelectedItem().key());
         assertFalse(blankIfOdd.isSelected());
         assertFalse(footer.isSelected());
+        assertFalse(streaming.isSelected());
+        assertFalse(deduplicate.isSelected());
         assertEquals(PageNormalizationPolicy.NONE, normalize.getSelectionModel().getSelectedItem().key());
     }
 }
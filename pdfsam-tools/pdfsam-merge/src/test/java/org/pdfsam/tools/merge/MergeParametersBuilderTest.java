@@ -20,6 +20,7 @@ package org.pdfsam.tools.merge;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.model.task.StreamingMergeParameters;
 import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.input.PdfMergeInput;
 import org.sejda.model.outline.OutlinePolicy;
@@ -36,6 +37,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -74,5 +77,27 @@ public class MergeParametersBuilderTest {
         assertEquals(PageNormalizationPolicy.SAME_WIDTH_ORIENTATION_BASED, params.getPageNormalizationPolicy());
         assertEquals(output, params.getOutput());
         assertEquals(input, params.getInputList().get(0));
+        assertFalse(params instanceof StreamingMergeParameters);
+    }
+
+    @Test
+    public void buildStreaming(@TempDir Path folder) throws IOException {
+        MergeParametersBuilder victim = new MergeParametersBuilder();
+        FileTaskOutput output = mock(FileTaskOutput.class);
+        victim.output(output);
+        victim.blankPageIfOdd(true);
+        victim.streaming(true);
+        victim.deduplicateResources(true);
+        var source = PdfFileSource.newInstanceNoPassword(Files.createTempFile(folder, null, ".pdf").toFile());
+        PdfMergeInput input = new PdfMergeInput(source);
+        victim.addInput(input);
+        MergeParameters params = victim.build();
+        assertInstanceOf(StreamingMergeParameters.class, params);
+        assertEquals(StreamingMergeParameters.DEFAULT_CHUNK_SIZE,
+                ((StreamingMergeParameters) params).getChunkSize());
+        assertTrue(((StreamingMergeParameters) params).isDeduplicateResources());
+        assertTrue(params.isBlankPageIfOdd());
+        assertEquals(output, params.getOutput());
+        assertEquals(input, params.getInputList().get(0));
     }
 }
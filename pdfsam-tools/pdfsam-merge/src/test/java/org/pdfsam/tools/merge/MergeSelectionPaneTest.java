@@ -118,6 +118,17 @@ public class MergeSelectionPaneTest {
         verify(onError).accept(eq("message"));
     }
 
+    @Test
+    public void invalidSelectionIsReportedBeforeBuilding() throws Exception {
+        populate();
+        populate();
+        victim.table().getItems().get(0).pageSelection.set("chuck");
+        victim.table().getItems().get(1).pageSelection.set("5-3");
+        victim.apply(builder, onError);
+        verify(builder, never()).addInput(any());
+        verify(onError).accept(anyString());
+    }
+
     private void populate() throws Exception {
         File file = Files.createTempFile(folder, null, "temp.pdf").toFile();
         var loadEvent = new PdfLoadRequest(TOOL);
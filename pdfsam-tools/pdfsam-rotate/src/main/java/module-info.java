@@ -1,4 +1,6 @@
+import org.pdfsam.core.support.params.HeadlessTool;
 import org.pdfsam.model.tool.Tool;
+import org.pdfsam.tools.rotate.RotateHeadlessTool;
 import org.pdfsam.tools.rotate.RotateTool;
 
 /*
@@ -36,4 +38,5 @@ module org.pdfsam.tools.rotate {
     requires org.kordamp.ikonli.unicons;
 
     provides Tool with RotateTool;
+    provides HeadlessTool with RotateHeadlessTool;
 }
\ No newline at end of file
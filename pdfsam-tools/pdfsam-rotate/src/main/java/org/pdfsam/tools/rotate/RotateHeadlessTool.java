@@ -0,0 +1,81 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.rotate;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.core.support.params.ToolData;
+import org.pdfsam.model.task.BulkRotateParameters;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.pdf.page.PredefinedSetOfPages;
+import org.sejda.model.rotation.Rotation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static org.apache.commons.lang3.StringUtils.trim;
+import static org.pdfsam.i18n.I18nContext.i18n;
+import static org.sejda.model.output.FileOrDirectoryTaskOutput.directory;
+
+/**
+ * Headless version of the rotate tool, building the parameters from the data saved by the {@link RotateToolPanel}
+ *
+ * @author Andrea Vacondio
+ */
+public class RotateHeadlessTool implements HeadlessTool {
+    private static final Logger LOG = LoggerFactory.getLogger(RotateHeadlessTool.class);
+
+    @Override
+    public String id() {
+        return RotateTool.TOOL_ID;
+    }
+
+    @Override
+    public Builder<BulkRotateParameters> builder(ToolData data, Consumer<String> onError) {
+        RotateParametersBuilder builder = new RotateParametersBuilder();
+        builder.rotation(data.getEnum("rotation", Rotation.class, onError).orElse(Rotation.DEGREES_90));
+        builder.rotationType(data.getEnum("rotationType", PredefinedSetOfPages.class, onError)
+                .orElse(PredefinedSetOfPages.ALL_PAGES));
+        try {
+            data.inputs("", onError).stream().filter(i -> !Objects.equals("0", trim(i.pageSelection())))
+                    .forEach(i -> builder.addInput(i.toPdfFileSource(), i.toPageRangeSet()));
+            if (!builder.hasInput()) {
+                onError.accept(i18n().tr("No PDF document has been selected"));
+            }
+        } catch (ConversionException e) {
+            LOG.error(e.getMessage());
+            onError.accept(e.getMessage());
+        }
+        data.browsableField("").filter(Files::isDirectory).ifPresentOrElse(p -> builder.output(directory(p.toFile())),
+                () -> onError.accept(i18n().tr("An existing output directory is required")));
+        data.applyPdfDestination(builder, onError);
+        builder.prefix(data.prefix(""));
+        return builder;
+    }
+
+    @Override
+    public Map<String, String> withInput(Map<String, String> data, File file) {
+        return ToolData.withInputs(data, "", file);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.rotate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.core.support.params.ToolData;
+import org.pdfsam.model.task.PdfRotationInput;
+import org.sejda.model.output.FileOrDirectoryTaskOutput;
+import org.sejda.model.rotation.Rotation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class RotateHeadlessToolTest {
+
+    private final RotateHeadlessTool victim = new RotateHeadlessTool();
+
+    @Test
+    public void build(@TempDir Path folder) throws IOException {
+        var file = Files.createTempFile(folder, null, ".pdf").toFile();
+        Map<String, String> data = new HashMap<>();
+        data.put("rotation", "DEGREES_180");
+        data.put("rotationType", "ODD_PAGES");
+        data.put("browsableField", folder.toString());
+        data.put("prefix", "chuck_");
+        List<String> errors = new ArrayList<>();
+        var params = victim.builder(new ToolData(victim.withInput(data, file)), errors::add).build();
+        assertTrue(errors.isEmpty());
+        assertEquals(1, params.getInputSet().size());
+        PdfRotationInput input = params.getInputSet().iterator().next();
+        assertEquals(Rotation.DEGREES_180, input.rotation);
+        assertEquals(3, input.getPages(5).size());
+        assertEquals("chuck_", params.getOutputPrefix());
+        assertEquals(folder.toFile().getAbsoluteFile(),
+                ((FileOrDirectoryTaskOutput) params.getOutput()).getDestination().getAbsoluteFile());
+    }
+
+    @Test
+    public void invalid() {
+        List<String> errors = new ArrayList<>();
+        victim.builder(new ToolData(Map.of()), errors::add);
+        assertEquals(2, errors.size());
+    }
+
+    @Test
+    public void invalidRotation(@TempDir Path folder) throws IOException {
+        var file = Files.createTempFile(folder, null, ".pdf").toFile();
+        Map<String, String> data = new HashMap<>();
+        data.put("rotation", "DEGREES_45");
+        data.put("browsableField", folder.toString());
+        List<String> errors = new ArrayList<>();
+        victim.builder(new ToolData(victim.withInput(data, file)), errors::add);
+        assertEquals(1, errors.size());
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.pdfsam.tools.split;
 
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.layout.VBox;
@@ -48,6 +49,7 @@ class SplitOptionsPane extends VBox implements SplitParametersBuilderCreator, Re
     private final SplitAfterPredefinedSetOfPagesRadioButton splitAfterPredefined;
     private final SplitAfterRadioButton splitAfter;
     private final SplitByEveryRadioButton splitByEvery;
+    private final CheckBox parallel = new CheckBox(i18n().tr("Write files in parallel"));
 
     SplitOptionsPane() {
         super(Style.DEFAULT_SPACING);
@@ -72,15 +74,27 @@ class SplitOptionsPane extends VBox implements SplitParametersBuilderCreator, Re
         grid.addRow(splitByEvery, splitByEveryField,
                 helpIcon(i18n().tr("Splits the PDF every \"n\" pages creating documents of \"n\" pages each")));
         splitAfterPredefined.setSelected(true);
+        parallel.setGraphic(helpIcon(i18n().tr(
+                "Generates multiple files at the same time, faster on large documents but it uses more memory. "
+                        + "Used only when bookmarks are discarded")));
+        parallel.getStyleClass().addAll(Style.WITH_HELP.css());
+        parallel.setId("parallelCheck");
 
         getStyleClass().addAll(Style.CONTAINER.css());
-        getChildren().addAll(grid);
+        getChildren().addAll(grid, parallel);
     }
 
     void setMaxPages(Integer value) {
         splitByEvery.setMaxPages(value);
     }
 
+    /**
+     * @return true if the generated documents should be written concurrently
+     */
+    boolean isParallel() {
+        return parallel.isSelected();
+    }
+
     @Override
     public SinglePdfSourceMultipleOutputParametersBuilder<? extends AbstractSplitByPageParameters> getBuilder(
             Consumer<String> onError) {
@@ -92,6 +106,7 @@ class SplitOptionsPane extends VBox implements SplitParametersBuilderCreator, Re
         splitAfterPredefined.saveStateTo(data);
         splitAfter.saveStateTo(data);
         splitByEvery.saveStateTo(data);
+        data.put("parallel", Boolean.toString(parallel.isSelected()));
     }
 
     @Override
@@ -99,6 +114,7 @@ class SplitOptionsPane extends VBox implements SplitParametersBuilderCreator, Re
         splitAfterPredefined.restoreStateFrom(data);
         splitAfter.restoreStateFrom(data);
         splitByEvery.restoreStateFrom(data);
+        parallel.setSelected(Boolean.parseBoolean(data.get("parallel")));
     }
 
     @Override
@@ -107,5 +123,6 @@ class SplitOptionsPane extends VBox implements SplitParametersBuilderCreator, Re
         splitAfter.resetView();
         splitByEvery.resetView();
         splitAfterPredefined.setSelected(true);
+        parallel.setSelected(false);
     }
 }
@@ -24,9 +24,12 @@ import javafx.geometry.Pos;
 import javafx.scene.control.TitledPane;
 import javafx.scene.layout.VBox;
 import org.apache.commons.lang3.builder.Builder;
+import org.pdfsam.core.ConfigurableSystemProperty;
 import org.pdfsam.core.support.params.SinglePdfSourceMultipleOutputParametersBuilder;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.eventstudio.annotation.EventStation;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.model.task.ParallelSplitByPageParameters;
 import org.pdfsam.model.tool.ClearToolRequest;
 import org.pdfsam.ui.components.io.BrowsableOutputDirectoryField;
 import org.pdfsam.ui.components.io.PdfDestinationPane;
@@ -38,10 +41,13 @@ import org.pdfsam.ui.components.tool.Footer;
 import org.sejda.model.parameter.AbstractSplitByPageParameters;
 import org.sejda.model.prefix.Prefix;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static org.pdfsam.core.ConfigurableSystemProperty.PDFSAM_PARALLEL_SPLIT_WORKERS;
 import static org.pdfsam.i18n.I18nContext.i18n;
 import static org.pdfsam.tools.split.SplitTool.TOOL_ID;
 
@@ -50,6 +56,8 @@ import static org.pdfsam.tools.split.SplitTool.TOOL_ID;
  */
 public class SplitToolPanel extends BaseToolPanel {
 
+    static final int MAX_DEFAULT_PARALLEL_WORKERS = 4;
+
     private final TaskParametersBuilderSingleSelectionPane selectionPane;
     private final BrowsableOutputDirectoryField destinationDirectoryField;
     private final PdfDestinationPane destinationPane;
@@ -88,6 +96,11 @@ public class SplitToolPanel extends BaseToolPanel {
         prefix.restoreStateFrom(data);
     }
 
+    @Override
+    protected List<PdfDocumentDescriptor> planDescriptors() {
+        return Stream.ofNullable(selectionPane.getPdfDocumentDescriptor()).toList();
+    }
+
     @Override
     protected Builder<? extends AbstractSplitByPageParameters> getBuilder(Consumer<String> onError) {
         Optional<SinglePdfSourceMultipleOutputParametersBuilder<? extends AbstractSplitByPageParameters>> builder = Optional.ofNullable(
@@ -98,9 +111,36 @@ public class SplitToolPanel extends BaseToolPanel {
             destinationPane.apply(b, onError);
             prefix.apply(b, onError);
         });
+        if (splitOptions.isParallel()) {
+            return builder.<Builder<? extends AbstractSplitByPageParameters>>map(
+                    b -> () -> parallelIfDiscardingBookmarks(b.build())).orElse(null);
+        }
         return builder.orElse(null);
     }
 
+    /**
+     * The parallel task doesn't copy bookmarks, so it's used only when bookmarks are discarded
+     *
+     * @return parameters to write the generated documents concurrently if bookmarks are discarded, the given
+     * parameters otherwise
+     */
+    static AbstractSplitByPageParameters parallelIfDiscardingBookmarks(AbstractSplitByPageParameters params) {
+        if (params.discardOutline()) {
+            return new ParallelSplitByPageParameters(params, parallelWorkers());
+        }
+        return params;
+    }
+
+    /**
+     * @return the number of documents written concurrently, every worker holds its own instance of the source document
+     * so it's capped to {@value #MAX_DEFAULT_PARALLEL_WORKERS} unless explicitly configured with the
+     * {@link ConfigurableSystemProperty#PDFSAM_PARALLEL_SPLIT_WORKERS} system property
+     */
+    static int parallelWorkers() {
+        int defaultWorkers = Math.min(MAX_DEFAULT_PARALLEL_WORKERS, Runtime.getRuntime().availableProcessors());
+        return Math.max(1, Integer.getInteger(PDFSAM_PARALLEL_SPLIT_WORKERS, defaultWorkers));
+    }
+
     private VBox settingPanel() {
         VBox pane = new VBox();
         pane.setAlignment(Pos.TOP_CENTER);
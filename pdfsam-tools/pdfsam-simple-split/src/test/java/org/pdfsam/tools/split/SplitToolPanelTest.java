@@ -0,0 +1,64 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.split;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.task.ParallelSplitByPageParameters;
+import org.sejda.model.parameter.SplitByPagesParameters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.pdfsam.core.ConfigurableSystemProperty.PDFSAM_PARALLEL_SPLIT_WORKERS;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class SplitToolPanelTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(PDFSAM_PARALLEL_SPLIT_WORKERS);
+    }
+
+    @Test
+    public void parallelWorkersCapped() {
+        int workers = SplitToolPanel.parallelWorkers();
+        assertTrue(workers >= 1 && workers <= SplitToolPanel.MAX_DEFAULT_PARALLEL_WORKERS);
+    }
+
+    @Test
+    public void parallelOnlyDiscardingBookmarks() {
+        var params = new SplitByPagesParameters();
+        params.addPage(2);
+        assertSame(params, SplitToolPanel.parallelIfDiscardingBookmarks(params));
+        params.discardOutline(true);
+        assertInstanceOf(ParallelSplitByPageParameters.class, SplitToolPanel.parallelIfDiscardingBookmarks(params));
+    }
+
+    @Test
+    public void parallelWorkersConfigured() {
+        System.setProperty(PDFSAM_PARALLEL_SPLIT_WORKERS, "12");
+        assertEquals(12, SplitToolPanel.parallelWorkers());
+        System.setProperty(PDFSAM_PARALLEL_SPLIT_WORKERS, "-3");
+        assertEquals(1, SplitToolPanel.parallelWorkers());
+    }
+}
@@ -63,7 +63,10 @@ public class SplitByBookmarksToolPanel extends BaseToolPanel {
         this.destinationPane = destinationPane;
         this.selectionPane = new TaskParametersBuilderSingleSelectionPane(id());
         this.selectionPane.setPromptText(i18n().tr("Select or drag and drop the PDF you want to split"));
-        this.selectionPane.addOnLoaded(d -> splitOptions.setValidBookmarkLevels(d.getValidBookmarksLevels()));
+        this.selectionPane.addOnLoaded(d -> {
+            splitOptions.setValidBookmarkLevels(d.getValidBookmarksLevels());
+            splitOptions.setOutlineIndex(d.getOutlineIndex().orElse(null));
+        });
         this.prefix = prefix;
         initModuleSettingsPanel(settingPanel());
     }
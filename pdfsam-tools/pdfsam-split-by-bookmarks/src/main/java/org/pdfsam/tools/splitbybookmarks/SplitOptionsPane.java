@@ -26,18 +26,22 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import org.pdfsam.core.support.params.TaskParametersBuildStep;
+import org.pdfsam.model.pdf.OutlineIndex;
 import org.pdfsam.model.ui.ResettableView;
 import org.pdfsam.model.ui.workspace.RestorableView;
 import org.pdfsam.ui.components.support.Style;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.function.Consumer;
+import java.util.regex.PatternSyntaxException;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.math.NumberUtils.isDigits;
 import static org.pdfsam.i18n.I18nContext.i18n;
 import static org.pdfsam.ui.components.support.Views.helpIcon;
 
@@ -51,6 +55,8 @@ class SplitOptionsPane extends GridPane
 
     private final BookmarksLevelComboBox levelCombo = new BookmarksLevelComboBox();
     private final TextField regexpField = new TextField();
+    private final Label preview = new Label();
+    private OutlineIndex outlineIndex;
 
     SplitOptionsPane() {
         getStyleClass().addAll(Style.CONTAINER.css());
@@ -81,6 +87,32 @@ class SplitOptionsPane extends GridPane
         GridPane.setValignment(helpIcon, VPos.CENTER);
         GridPane.setHalignment(helpIcon, HPos.LEFT);
         add(helpIcon, 2, 1);
+        preview.setId("bookmarksPreview");
+        add(preview, 1, 2, 2, 1);
+        levelCombo.valueProperty().addListener(o -> updatePreview());
+        regexpField.textProperty().addListener(o -> updatePreview());
+    }
+
+    /**
+     * @param outlineIndex index of the outline of the selected document, used to preview the number of generated files
+     */
+    void setOutlineIndex(OutlineIndex outlineIndex) {
+        this.outlineIndex = outlineIndex;
+        updatePreview();
+    }
+
+    private void updatePreview() {
+        String level = levelCombo.getValue();
+        if (Objects.isNull(outlineIndex) || !isDigits(level)) {
+            preview.setText(EMPTY);
+            return;
+        }
+        try {
+            preview.setText(i18n().tr("{0} files will be generated",
+                    Integer.toString(outlineIndex.files(Integer.parseInt(level), regexpField.getText()))));
+        } catch (PatternSyntaxException | NumberFormatException e) {
+            preview.setText(EMPTY);
+        }
     }
 
     void setValidBookmarkLevels(SortedSet<Integer> levels) {
@@ -98,6 +130,7 @@ class SplitOptionsPane extends GridPane
     public void resetView() {
         regexpField.clear();
         levelCombo.resetView();
+        setOutlineIndex(null);
     }
 
     @Override
@@ -19,6 +19,7 @@
 package org.pdfsam.tools.splitbybookmarks;
 
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.pdfsam.model.pdf.OutlineIndex;
 import org.pdfsam.test.ClearEventStudioExtension;
 import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationExtension;
@@ -34,6 +36,7 @@ import org.testfx.util.WaitForAsyncUtils;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -122,6 +125,25 @@ public class SplitOptionsPaneTest {
         assertEquals("2,3,4,5,6,7,10", data.get("levelCombo.levels"));
     }
 
+    @Test
+    public void preview() {
+        BookmarksLevelComboBox combo = robot.lookup("#bookmarksLevel").queryAs(BookmarksLevelComboBox.class);
+        Label preview = robot.lookup("#bookmarksPreview").queryAs(Label.class);
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> {
+            victim.setValidBookmarkLevels(new TreeSet<>(List.of(1, 2)));
+            victim.setOutlineIndex(new OutlineIndex(
+                    List.of(new OutlineIndex.Entry(1, "Chapter 1", 2), new OutlineIndex.Entry(2, "Section", 3),
+                            new OutlineIndex.Entry(1, "Appendix", 5))));
+        });
+        assertEquals("", preview.getText());
+        robot.clickOn(combo).type(KeyCode.DIGIT1).push(KeyCode.ENTER);
+        assertEquals("3 files will be generated", preview.getText());
+        robot.clickOn("#bookmarksRegexp").write("Chapter.*");
+        assertEquals("2 files will be generated", preview.getText());
+        robot.clickOn("#bookmarksRegexp").write("[");
+        assertEquals("", preview.getText());
+    }
+
     @Test
     public void saveStateEmptyRegexp() {
         Map<String, String> data = new HashMap<>();
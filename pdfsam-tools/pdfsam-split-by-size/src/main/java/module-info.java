@@ -1,4 +1,6 @@
+import org.pdfsam.core.support.params.HeadlessTool;
 import org.pdfsam.model.tool.Tool;
+import org.pdfsam.tools.splitbysize.SplitBySizeHeadlessTool;
 import org.pdfsam.tools.splitbysize.SplitBySizeTool;
 
 /*
@@ -33,4 +35,5 @@ import org.pdfsam.tools.splitbysize.SplitBySizeTool;
     requires org.kordamp.ikonli.unicons;
 
     provides Tool with SplitBySizeTool;
+    provides HeadlessTool with SplitBySizeHeadlessTool;
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.tools.splitbysize;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.pdfsam.core.support.params.HeadlessTool;
+import org.pdfsam.core.support.params.ToolData;
+import org.pdfsam.core.support.validation.Validators;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.parameter.SplitBySizeParameters;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.pdfsam.i18n.I18nContext.i18n;
+import static org.pdfsam.tools.splitbysize.SplitBySizeTool.TOOL_ID;
+import static org.sejda.model.output.FileOrDirectoryTaskOutput.directory;
+
+/**
+ * Headless version of the split by size tool, building the parameters from the data saved by the
+ * {@link SplitBySizeToolPanel}
+ *
+ * @author Andrea Vacondio
+ */
+public class SplitBySizeHeadlessTool implements HeadlessTool {
+
+    @Override
+    public String id() {
+        return TOOL_ID;
+    }
+
+    @Override
+    public Builder<SplitBySizeParameters> builder(ToolData data, Consumer<String> onError) {
+        SplitBySizeParametersBuilder builder = new SplitBySizeParametersBuilder();
+        var size = data.get("size").filter(s -> Validators.positiveInteger().isValid(s));
+        if (size.isPresent()) {
+            var unit = Arrays.stream(SizeUnit.values()).filter(u -> data.getBoolean(u.toString())).findFirst()
+                    .orElse(SizeUnit.MEGABYTE);
+            builder.size(unit.toBytes(Integer.parseInt(size.get())));
+        } else {
+            onError.accept(i18n().tr("Invalid split size"));
+        }
+        try {
+            data.input("").map(ToolData.Input::toPdfFileSource).ifPresentOrElse(builder::source,
+                    () -> onError.accept(i18n().tr("The selected PDF document is invalid")));
+        } catch (ConversionException e) {
+            onError.accept(e.getMessage());
+        }
+        data.browsableField(TOOL_ID + "field").filter(Files::isDirectory)
+                .ifPresentOrElse(p -> builder.output(directory(p.toFile())),
+                        () -> onError.accept(i18n().tr("An existing output directory is required")));
+        data.applyPdfDestination(builder, onError);
+        builder.prefix(data.prefix(""));
+        return builder;
+    }
+
+    @Override
+    public Map<String, String> withInput(Map<String, String> data, File file) {
+        return ToolData.withInput(data, "", file);
+    }
+}
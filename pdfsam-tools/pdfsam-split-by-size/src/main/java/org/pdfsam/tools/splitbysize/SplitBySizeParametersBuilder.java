@@ -19,8 +19,13 @@
 package org.pdfsam.tools.splitbysize;
 
 import org.pdfsam.core.support.params.SplitParametersBuilder;
+import org.pdfsam.model.pdf.PageSizeIndex;
+import org.pdfsam.model.task.PlannedSplitBySizeParameters;
 import org.sejda.model.parameter.SplitBySizeParameters;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Builder for {@link SplitBySizeParameters}
  * 
@@ -29,6 +34,8 @@ import org.sejda.model.parameter.SplitBySizeParameters;
  */
 class SplitBySizeParametersBuilder extends SplitParametersBuilder<SplitBySizeParameters> {
 
+    static final double PLANNED_SIZE_RATIO = 0.9;
+
     private long size;
 
     void size(long size) {
@@ -48,4 +55,33 @@ class SplitBySizeParametersBuilder extends SplitParametersBuilder<SplitBySizePar
         params.discardOutline(isDiscardBookmarks());
         return params;
     }
+
+    /**
+     * Plans the cuts up front using the given index, so the document can usually be split writing every part once. The
+     * plan targets {@value #PLANNED_SIZE_RATIO} of the requested size to leave room for estimation errors and it's
+     * only a hint, parts are still measured once written. The planned task doesn't copy bookmarks, so nothing is
+     * planned unless bookmarks are discarded.
+     *
+     * @return the parameters to split using the planned cuts or an empty optional if the document doesn't need to be
+     * split or the regular split by size should be used
+     */
+    Optional<PlannedSplitBySizeParameters> buildPlanned(PageSizeIndex index) {
+        if (!isDiscardBookmarks()) {
+            return Optional.empty();
+        }
+        List<Integer> cuts = index.splitAfter((long) (size * PLANNED_SIZE_RATIO));
+        if (cuts.isEmpty()) {
+            return Optional.empty();
+        }
+        PlannedSplitBySizeParameters params = new PlannedSplitBySizeParameters(size, cuts);
+        params.setCompress(isCompress());
+        params.setExistingOutputPolicy(existingOutput());
+        params.setVersion(getVersion());
+        params.setOutput(getOutput());
+        params.setOutputPrefix(getPrefix());
+        params.addSource(getSource());
+        params.setOptimizationPolicy(getOptimizationPolicy());
+        params.discardOutline(isDiscardBookmarks());
+        return Optional.of(params);
+    }
 }
@@ -25,6 +25,7 @@ import org.kordamp.ikonli.javafx.FontIcon;
 import org.kordamp.ikonli.unicons.UniconsLine;
 import org.pdfsam.injector.Auto;
 import org.pdfsam.injector.Provides;
+import org.pdfsam.model.tool.RequiredPdfData;
 import org.pdfsam.model.tool.Tool;
 import org.pdfsam.model.tool.ToolCategory;
 import org.pdfsam.model.tool.ToolDescriptor;
@@ -74,6 +75,11 @@ public class SplitBySizeTool implements Tool {
         return app().instance(SplitBySizeToolPanel.class);
     }
 
+    @Override
+    public RequiredPdfData[] requires() {
+        return new RequiredPdfData[] { RequiredPdfData.DEFAULT, RequiredPdfData.PAGE_SIZES };
+    }
+
     @Override
     public Node graphic() {
         var icon = new FontIcon(UniconsLine.ARROWS_RESIZE_H);
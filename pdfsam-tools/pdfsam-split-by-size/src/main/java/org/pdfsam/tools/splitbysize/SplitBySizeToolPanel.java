@@ -26,6 +26,7 @@ import javafx.scene.layout.VBox;
 import org.apache.commons.lang3.builder.Builder;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.eventstudio.annotation.EventStation;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.pdfsam.model.tool.ClearToolRequest;
 import org.pdfsam.ui.components.io.BrowsableOutputDirectoryField;
 import org.pdfsam.ui.components.io.PdfDestinationPane;
@@ -34,12 +35,13 @@ import org.pdfsam.ui.components.selection.single.TaskParametersBuilderSingleSele
 import org.pdfsam.ui.components.support.Views;
 import org.pdfsam.ui.components.tool.BaseToolPanel;
 import org.pdfsam.ui.components.tool.Footer;
-import org.sejda.model.parameter.SplitBySizeParameters;
+import org.sejda.model.parameter.base.AbstractParameters;
 import org.sejda.model.prefix.Prefix;
 
 import java.util.Map;
 import java.util.function.Consumer;
 
+import static java.util.Optional.ofNullable;
 import static org.pdfsam.i18n.I18nContext.i18n;
 import static org.pdfsam.tools.splitbysize.SplitBySizeTool.TOOL_ID;
 
@@ -86,14 +88,17 @@ public class SplitBySizeToolPanel extends BaseToolPanel {
     }
 
     @Override
-    protected Builder<SplitBySizeParameters> getBuilder(Consumer<String> onError) {
+    protected Builder<? extends AbstractParameters> getBuilder(Consumer<String> onError) {
         SplitBySizeParametersBuilder builder = new SplitBySizeParametersBuilder();
         splitOptions.apply(builder, onError);
         selectionPane.apply(builder, onError);
         destinationDirectoryField.apply(builder, onError);
         destinationPane.apply(builder, onError);
         prefix.apply(builder, onError);
-        return builder;
+        // when the pages size index is available cuts are planned up front and used as a hint by the measured split
+        return () -> ofNullable(selectionPane.getPdfDocumentDescriptor())
+                .flatMap(PdfDocumentDescriptor::getPageSizeIndex).flatMap(builder::buildPlanned)
+                .map(AbstractParameters.class::cast).orElseGet(builder::build);
     }
 
     private VBox settingPanel() {
@@ -20,6 +20,8 @@ package org.pdfsam.tools.splitbysize;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.pdfsam.model.pdf.PageSizeIndex;
+import org.pdfsam.model.task.PlannedSplitBySizeParameters;
 import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.output.ExistingOutputPolicy;
 import org.sejda.model.output.FileOrDirectoryTaskOutput;
@@ -29,8 +31,10 @@ import org.sejda.model.pdf.PdfVersion;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -62,4 +66,59 @@ public class SplitBySizeParametersBuilderTest {
         assertEquals(output, params.getOutput());
         assertEquals(source, params.getSourceList().get(0));
     }
+
+    @Test
+    public void buildPlanned(@TempDir Path folder) throws IOException {
+        SplitBySizeParametersBuilder victim = new SplitBySizeParametersBuilder();
+        victim.compress(true);
+        FileOrDirectoryTaskOutput output = mock(FileOrDirectoryTaskOutput.class);
+        victim.output(output);
+        victim.existingOutput(ExistingOutputPolicy.OVERWRITE);
+        victim.size(250L);
+        victim.prefix("prefix");
+        victim.discardBookmarks(true);
+        PdfFileSource source = PdfFileSource.newInstanceNoPassword(Files.createTempFile(folder, null, ".pdf").toFile());
+        victim.source(source);
+        victim.version(PdfVersion.VERSION_1_7);
+        var index = new PageSizeIndex(10, new long[] { 100, 100, 100, 100 }, new int[4][0], new long[0]);
+        PlannedSplitBySizeParameters params = victim.buildPlanned(index).orElseThrow();
+        assertEquals(Set.of(2), params.getPlannedCuts());
+        assertEquals(250L, params.getSizeToSplitAt());
+        assertTrue(params.isCompress());
+        assertTrue(params.discardOutline());
+        assertEquals(ExistingOutputPolicy.OVERWRITE, params.getExistingOutputPolicy());
+        assertEquals(PdfVersion.VERSION_1_7, params.getVersion());
+        assertEquals("prefix", params.getOutputPrefix());
+        assertEquals(output, params.getOutput());
+        assertEquals(source, params.getSourceList().get(0));
+    }
+
+    @Test
+    public void buildPlannedWithMargin(@TempDir Path folder) throws IOException {
+        SplitBySizeParametersBuilder victim = new SplitBySizeParametersBuilder();
+        victim.size(210L);
+        victim.discardBookmarks(true);
+        victim.source(PdfFileSource.newInstanceNoPassword(Files.createTempFile(folder, null, ".pdf").toFile()));
+        var index = new PageSizeIndex(10, new long[] { 100, 100, 100, 100 }, new int[4][0], new long[0]);
+        assertEquals(Set.of(1, 2, 3), victim.buildPlanned(index).orElseThrow().getPlannedCuts());
+    }
+
+    @Test
+    public void buildPlannedKeepingBookmarks(@TempDir Path folder) throws IOException {
+        SplitBySizeParametersBuilder victim = new SplitBySizeParametersBuilder();
+        victim.size(250L);
+        victim.source(PdfFileSource.newInstanceNoPassword(Files.createTempFile(folder, null, ".pdf").toFile()));
+        var index = new PageSizeIndex(10, new long[] { 100, 100, 100, 100 }, new int[4][0], new long[0]);
+        assertFalse(victim.buildPlanned(index).isPresent());
+    }
+
+    @Test
+    public void buildPlannedNoCutNeeded(@TempDir Path folder) throws IOException {
+        SplitBySizeParametersBuilder victim = new SplitBySizeParametersBuilder();
+        victim.size(1000L);
+        victim.discardBookmarks(true);
+        victim.source(PdfFileSource.newInstanceNoPassword(Files.createTempFile(folder, null, ".pdf").toFile()));
+        var index = new PageSizeIndex(10, new long[] { 100, 100, 100, 100 }, new int[4][0], new long[0]);
+        assertFalse(victim.buildPlanned(index).isPresent());
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.defaultString;
+
+/**
+ * Request to highlight the rows of the selection table matching the given filter. Rows match when, for every word of
+ * the filter, their file path, loading status or number of pages has a word starting with it.
+ *
+ * @param filter the filter, an empty filter clears the highlighting
+ * @param next   true to select the next matching row after the focused one
+ * @author Andrea Vacondio
+ */
+public record FilterRowsRequest(String filter, boolean next) {
+
+    public FilterRowsRequest {
+        filter = defaultString(filter, EMPTY);
+    }
+}
@@ -43,7 +43,7 @@ public enum LongColumn implements SelectionTableColumn<Number> {
 
         @Override
         public ObservableValue<Number> getObservableValue(SelectionTableRowData data) {
-            return new SimpleLongProperty(data.descriptor().getFile().length());
+            return new SimpleLongProperty(data.descriptor().getFileAttributes().size());
         }
 
         @Override
@@ -69,7 +69,7 @@ public enum LongColumn implements SelectionTableColumn<Number> {
 
         @Override
         public ObservableValue<Number> getObservableValue(SelectionTableRowData data) {
-            return new SimpleLongProperty(data.descriptor().getFile().lastModified());
+            return new SimpleLongProperty(data.descriptor().getFileAttributes().lastModified());
         }
 
         @Override
@@ -0,0 +1,147 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import org.pdfsam.core.support.params.ConversionUtils;
+import org.sejda.commons.collection.NullSafeSet;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.pdf.page.PageRange;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * Immutable result of parsing a page selection text, the ranges or the conversion error. Rows parse their selection
+ * once when the text changes and the selected pages counter, the validation and the parameters building all use the
+ * parsed result. Being immutable, the same instance can be shared among rows with the same selection.
+ *
+ * @author Andrea Vacondio
+ */
+public final class ParsedPageSelection {
+
+    public static final ParsedPageSelection EMPTY = new ParsedPageSelection("", List.of(), null);
+
+    private final String text;
+    private final List<PageRange> ranges;
+    private final String error;
+    private List<PageRange> sorted;
+
+    private ParsedPageSelection(String text, List<PageRange> ranges, String error) {
+        this.text = text;
+        this.ranges = ranges;
+        this.error = error;
+    }
+
+    /**
+     * @param text the page selection as typed by the user
+     * @return the parsed selection, never throws, conversion errors are returned when the ranges are requested
+     */
+    public static ParsedPageSelection parse(String text) {
+        if (isEmpty(text)) {
+            return EMPTY;
+        }
+        if (isBlank(text)) {
+            return new ParsedPageSelection(text, List.of(), null);
+        }
+        try {
+            return new ParsedPageSelection(text, List.copyOf(ConversionUtils.toPageRangeSet(text)), null);
+        } catch (ConversionException e) {
+            return new ParsedPageSelection(text, List.of(), defaultString(e.getMessage()));
+        }
+    }
+
+    /**
+     * @return the text this selection was parsed from
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * @return true if the given text is the one this selection was parsed from
+     */
+    boolean isParsedFrom(String text) {
+        return this.text.equals(defaultString(text));
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * @return true if the selection is the "0" special value, meaning no page is selected
+     */
+    public boolean isNone() {
+        return "0".equals(text);
+    }
+
+    /**
+     * @return a new set with the parsed ranges, in the order they were typed, an empty set if the text is blank
+     * @throws ConversionException if the text is not a valid selection
+     */
+    public NullSafeSet<PageRange> toPageRangeSet() throws ConversionException {
+        requireValid();
+        var result = new NullSafeSet<PageRange>();
+        ranges.forEach(result::add);
+        return result;
+    }
+
+    /**
+     * @return the parsed ranges sorted by start page
+     * @throws ConversionException if the text is not a valid selection
+     */
+    public List<PageRange> sortedRanges() throws ConversionException {
+        requireValid();
+        if (sorted == null) {
+            sorted = ranges.stream().sorted(Comparator.comparingInt(PageRange::getStart)).toList();
+        }
+        return sorted;
+    }
+
+    /**
+     * @param pages number of pages of the document
+     * @return the number of selected pages as shown in the selection table, 0 if the text is not a valid selection
+     */
+    public int selectedPages(int pages) {
+        if (isBlank(text)) {
+            return pages;
+        }
+        if (isNone() || nonNull(error)) {
+            return 0;
+        }
+        int selected = 0;
+        for (PageRange range : ranges) {
+            if (range.getStart() <= pages) {
+                selected += Math.min(pages, range.getEnd()) - range.getStart() + 1;
+            }
+        }
+        return selected;
+    }
+
+    private void requireValid() throws ConversionException {
+        if (nonNull(error)) {
+            throw new ConversionException(error);
+        }
+    }
+}
@@ -18,50 +18,45 @@
  */
 package org.pdfsam.ui.components.selection.multiple;
 
+import org.pdfsam.ui.components.selection.multiple.move.IndexRanges;
 import org.pdfsam.ui.components.selection.multiple.move.MoveType;
 
 import java.util.Collection;
+import java.util.Objects;
 
 import static org.sejda.commons.util.RequireUtils.requireArg;
 import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
 import static org.sejda.commons.util.RequireUtils.requireState;
 
 /**
- * Event sent when the selection on the selection table changed
+ * Event sent when the selection on the selection table changed. The selection is held as {@link IndexRanges} so that
+ * large contiguous selections don't cost more than a single row one.
  * 
  * @author Andrea Vacondio
  * 
  */
 final class SelectionChangedEvent {
 
-    private int top = Integer.MAX_VALUE;
-    private int bottom = -1;
+    private final IndexRanges selection;
     private int totalRows = 0;
 
-    private SelectionChangedEvent(Collection<? extends Integer> selected) {
-        requireNotNullArg(selected, "Input selection cannot be null");
-        selected.forEach(i -> {
-            bottom = Math.max(i, bottom);
-            top = Math.min(i, top);
-        });
-    }
-
-    private SelectionChangedEvent() {
-        // nothing
+    private SelectionChangedEvent(IndexRanges selection) {
+        requireNotNullArg(selection, "Input selection cannot be null");
+        this.selection = selection;
     }
 
     /**
      * @return true the selection has been cleared
      */
     public boolean isClearSelection() {
-        return top == Integer.MAX_VALUE && bottom == -1;
+        return selection.isEmpty();
     }
 
     /**
      * @return true if its a single row selection event
      */
     public boolean isSingleSelection() {
-        return !isClearSelection() && top == bottom;
+        return selection.count() == 1;
     }
 
     /**
@@ -71,7 +66,14 @@ final class SelectionChangedEvent {
      */
     public int getSingleSelection() {
         requireState(isSingleSelection(), "Single selection expected");
-        return top;
+        return selection.first();
+    }
+
+    /**
+     * @return the selected rows
+     */
+    public IndexRanges selection() {
+        return selection;
     }
 
     public boolean canMove(MoveType type) {
@@ -79,9 +81,9 @@ final class SelectionChangedEvent {
             return false;
         }
         return switch (type) {
-            case BOTTOM -> bottom < totalRows - 1;
-            case DOWN -> bottom < totalRows - 1;
-            default -> top > 0;
+            case BOTTOM -> selection.last() < totalRows - 1;
+            case DOWN -> selection.last() < totalRows - 1;
+            default -> selection.first() > 0;
         };
     }
 
@@ -93,15 +95,24 @@ final class SelectionChangedEvent {
      * @return the event where the selection has been cleared
      */
     public static SelectionChangedEvent clearSelectionEvent() {
-        return new SelectionChangedEvent();
+        return new SelectionChangedEvent(IndexRanges.EMPTY);
     }
 
     /**
      * @param index
-     * @return the event where a single selection has been set
+     * @return the event where the given indices have been selected
      */
     public static SelectionChangedEvent select(Collection<? extends Integer> index) {
-        return new SelectionChangedEvent(index);
+        requireNotNullArg(index, "Input selection cannot be null");
+        return new SelectionChangedEvent(IndexRanges.of(index));
+    }
+
+    /**
+     * @param selection
+     * @return the event where the given ranges have been selected
+     */
+    public static SelectionChangedEvent selectRanges(IndexRanges selection) {
+        return new SelectionChangedEvent(selection);
     }
 
     /**
@@ -113,4 +124,25 @@ final class SelectionChangedEvent {
         this.totalRows = totalNumberOfRows;
         return this;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SelectionChangedEvent event)) {
+            return false;
+        }
+        return totalRows == event.totalRows && selection.equals(event.selection);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(selection, totalRows);
+    }
+
+    @Override
+    public String toString() {
+        return "SelectionChangedEvent{selection=" + selection + ", totalRows=" + totalRows + "}";
+    }
 }
@@ -21,11 +21,14 @@ package org.pdfsam.ui.components.selection.multiple;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener.Change;
-import javafx.collections.ObservableList;
 import javafx.css.PseudoClass;
 import javafx.geometry.Orientation;
 import javafx.geometry.Point2D;
@@ -64,6 +67,7 @@ import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.pdfsam.model.pdf.PdfLoadRequest;
 import org.pdfsam.model.tool.ClearToolRequest;
 import org.pdfsam.model.tool.ToolBound;
+import org.pdfsam.model.ui.ShowPagePreviewRequest;
 import org.pdfsam.model.ui.ShowPdfDescriptorRequest;
 import org.pdfsam.model.ui.ShowStageRequest;
 import org.pdfsam.model.ui.dnd.FilesDroppedEvent;
@@ -74,6 +78,7 @@ import org.pdfsam.ui.components.selection.SetPaceRequest;
 import org.pdfsam.ui.components.selection.SetPageRangesRequest;
 import org.pdfsam.ui.components.selection.ShowPasswordFieldPopupRequest;
 import org.pdfsam.ui.components.selection.multiple.move.MoveSelectedRequest;
+import org.pdfsam.ui.components.selection.multiple.move.IndexRanges;
 import org.pdfsam.ui.components.selection.multiple.move.MoveType;
 import org.pdfsam.ui.components.selection.multiple.move.SelectionAndFocus;
 import org.slf4j.Logger;
@@ -83,12 +88,12 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -97,6 +102,7 @@ import static java.util.Objects.nonNull;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.pdfsam.core.context.ApplicationContext.app;
 import static org.pdfsam.core.support.EncryptionUtils.encrypt;
 import static org.pdfsam.core.support.io.ObjectCollectionWriter.writeContent;
@@ -117,6 +123,8 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
             "drag-hovered-row-top");
     private static final PseudoClass DRAG_HOVERED_BOTTOM_ROW_PSEUDO_CLASS = PseudoClass.getPseudoClass(
             "drag-hovered-row-bottom");
+    private static final PseudoClass FILTER_MATCH_PSEUDO_CLASS = PseudoClass.getPseudoClass("filter-match");
+    private static final PseudoClass FILTER_MISS_PSEUDO_CLASS = PseudoClass.getPseudoClass("filter-miss");
     private static final DataFormat DND_TABLE_SELECTION_MIME_TYPE = new DataFormat(
             "application/x-java-table-selection-list");
 
@@ -124,7 +132,14 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
     private final Label placeHolder = new Label(i18n().tr("Drag and drop PDF files here"));
     private final PasswordFieldPopup passwordPopup;
     private final IntegerProperty hoverIndex = new SimpleIntegerProperty(-1);
+    private final SelectionTableIndex index = new SelectionTableIndex();
+    /**
+     * Rows matching the current filter, null if there's no filter
+     */
+    private final ObjectProperty<Set<SelectionTableRowData>> filterMatches = new SimpleObjectProperty<>();
+    private String filter = "";
     private Consumer<SelectionChangedEvent> selectionChangedConsumer;
+    private SelectionChangedEvent lastSelectionEvent;
 
     private final Timeline scrollTimeline = new Timeline();
     private double scrollDirection = 0;
@@ -137,21 +152,19 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         getColumns().add(new IndexColumn());
         Arrays.stream(columns).forEach(c -> getColumns().add(c.getTableColumn()));
         setColumnResizePolicy(CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        setSortPolicy(new SortKeysSortPolicy<>());
+        index.bind(getItems(), this::refreshFilterMatches);
         getStyleClass().add("selection-table");
         initDragAndDrop(canMove);
         getSelectionModel().getSelectedIndices().addListener((Change<? extends Integer> c) -> {
-
-            ObservableList<? extends Integer> selected = c.getList();
-            if (selected.isEmpty()) {
-                eventStudio().broadcast(SelectionChangedEvent.clearSelectionEvent(), toolBinding);
-                LOG.trace("Selection cleared for {}", toolBinding);
-            } else {
-                SelectionChangedEvent newSelectionEvent = SelectionChangedEvent.select(selected)
-                        .ofTotalRows(getItems().size());
+            // selected indices are sorted, contiguous selections are converted without iterating them
+            SelectionChangedEvent newSelectionEvent = SelectionChangedEvent.selectRanges(
+                    IndexRanges.ofSorted(c.getList())).ofTotalRows(getItems().size());
+            if (!newSelectionEvent.equals(lastSelectionEvent)) {
+                lastSelectionEvent = newSelectionEvent;
                 eventStudio().broadcast(newSelectionEvent, toolBinding);
                 LOG.trace("{} for {}", newSelectionEvent, toolBinding);
             }
-
         });
         placeHolder.getStyleClass().add("drag-drop-placeholder");
         placeHolder.setDisable(true);
@@ -305,6 +318,12 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
             eventStudio().broadcast(new ShowPdfDescriptorRequest(getSelectionModel().getSelectedItem().descriptor()));
         }));
 
+        MenuItem previewItem = createMenuItem(i18n().tr("Preview pages"), UniconsLine.IMAGE);
+        previewItem.setOnAction(e -> Platform.runLater(() -> {
+            eventStudio().broadcast(ShowStageRequest.INSTANCE, "PagePreviewStage");
+            eventStudio().broadcast(new ShowPagePreviewRequest(getSelectionModel().getSelectedItem().descriptor()));
+        }));
+
         MenuItem openFileItem = createMenuItem(i18n().tr("Open"), UniconsLine.FILE_ALT);
         openFileItem.setOnAction(e -> eventStudio().broadcast(
                 new NativeOpenFileRequest(getSelectionModel().getSelectedItem().descriptor().getFile())));
@@ -319,11 +338,13 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         openFolderItem.setAccelerator(
                 new KeyCodeCombination(KeyCode.O, KeyCombination.SHORTCUT_DOWN, KeyCombination.ALT_DOWN));
 
-        contextMenu.getItems().addAll(new SeparatorMenuItem(), copyItem, infoItem, openFileItem, openFolderItem);
+        contextMenu.getItems().addAll(new SeparatorMenuItem(), copyItem, infoItem, previewItem, openFileItem,
+                openFolderItem);
 
         selectionChangedConsumer = selectionChangedConsumer.andThen(e -> {
             copyItem.setDisable(e.isClearSelection());
             infoItem.setDisable(!e.isSingleSelection());
+            previewItem.setDisable(!e.isSingleSelection());
             openFileItem.setDisable(!e.isSingleSelection());
             openFolderItem.setDisable(!e.isSingleSelection());
         });
@@ -354,7 +375,7 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         setOnDragDropped(e -> dragConsume(e, this.onDragDropped()));
         if (canMove) {
             setRowFactory(tv -> {
-                TableRow<SelectionTableRowData> row = new TableRow<>();
+                TableRow<SelectionTableRowData> row = new FilterableTableRow();
                 row.setOnDragDetected(e -> {
                     ArrayList<Integer> selection = new ArrayList<>(getSelectionModel().getSelectedIndices());
                     if (!row.isEmpty() && !selection.isEmpty()) {
@@ -449,6 +470,33 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
 
                 return row;
             });
+        } else {
+            setRowFactory(tv -> new FilterableTableRow());
+        }
+    }
+
+    /**
+     * Table row highlighting whether its item matches the current filter
+     */
+    private class FilterableTableRow extends TableRow<SelectionTableRowData> {
+        private final InvalidationListener onFilterChange = o -> updateFilterPseudoClasses();
+
+        FilterableTableRow() {
+            filterMatches.addListener(new WeakInvalidationListener(onFilterChange));
+        }
+
+        @Override
+        protected void updateItem(SelectionTableRowData item, boolean empty) {
+            super.updateItem(item, empty);
+            updateFilterPseudoClasses();
+        }
+
+        private void updateFilterPseudoClasses() {
+            Set<SelectionTableRowData> matches = filterMatches.get();
+            boolean filtering = nonNull(matches) && !isEmpty() && nonNull(getItem());
+            boolean match = filtering && matches.contains(getItem());
+            pseudoClassStateChanged(FILTER_MATCH_PSEUDO_CLASS, match);
+            pseudoClassStateChanged(FILTER_MISS_PSEUDO_CLASS, filtering && !match);
         }
     }
 
@@ -549,26 +597,43 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         getItems().clear();
     }
 
+    /**
+     * Removes the selected rows with a single change of the items. Once removed, the row that followed the first
+     * removed row, or the last row if there is none, is selected and focused so the user can keep removing rows.
+     */
     @EventListener
     public void onRemoveSelected(RemoveSelectedEvent event) {
-        SortedSet<Integer> indices = new TreeSet<>(Collections.reverseOrder());
-        indices.addAll(getSelectionModel().getSelectedIndices());
-        LOG.trace("Removing {} items", indices.size());
-        indices.forEach(i -> getItems().remove(i.intValue()).invalidate());
+        Set<SelectionTableRowData> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRemove.addAll(getSelectionModel().getSelectedItems());
+        if (!toRemove.isEmpty()) {
+            LOG.trace("Removing {} items", toRemove.size());
+            int first = getSelectionModel().getSelectedIndices().stream().min(Integer::compareTo).orElse(0);
+            getSelectionModel().clearSelection();
+            // single change event instead of one per removed row
+            getItems().removeAll(toRemove);
+            toRemove.forEach(SelectionTableRowData::invalidate);
+            if (!getItems().isEmpty()) {
+                int next = Math.min(first, getItems().size() - 1);
+                getSelectionModel().select(next);
+                getFocusModel().focus(next);
+            }
+        }
         requestFocus();
     }
 
     @EventListener
     public void onMoveSelected(final MoveSelectedRequest event) {
         getSortOrder().clear();
-        ObservableList<Integer> selectedIndices = getSelectionModel().getSelectedIndices();
-        Integer[] selected = selectedIndices.toArray(new Integer[0]);
+        IndexRanges selected = IndexRanges.ofSorted(getSelectionModel().getSelectedIndices());
         int focus = getFocusModel().getFocusedIndex();
         getSelectionModel().clearSelection();
         SelectionAndFocus newSelection = event.type().move(selected, getItems(), focus);
         if (!SelectionAndFocus.NULL.equals(newSelection)) {
             LOG.trace("Changing selection to {}", newSelection);
-            getSelectionModel().selectIndices(newSelection.row(), newSelection.getRows());
+            IndexRanges ranges = newSelection.ranges();
+            for (int i = 0; i < ranges.size(); i++) {
+                getSelectionModel().selectRange(ranges.start(i), ranges.end(i) + 1);
+            }
             getFocusModel().focus(newSelection.getFocus());
             scrollTo(Math.max(newSelection.row() - 1, 0));
         }
@@ -576,7 +641,36 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
 
     @EventListener
     public void onSetPageRanges(SetPageRangesRequest event) {
-        getItems().forEach(i -> i.pageSelection.set(event.range()));
+        var selection = ParsedPageSelection.parse(event.range());
+        getItems().forEach(i -> i.pageSelection(selection));
+    }
+
+    @EventListener
+    public void onFilterRows(FilterRowsRequest event) {
+        filter = event.filter();
+        refreshFilterMatches();
+        Set<SelectionTableRowData> matches = filterMatches.get();
+        if (nonNull(matches) && !matches.isEmpty()) {
+            int start = event.next() ? getFocusModel().getFocusedIndex() + 1 : 0;
+            for (int i = 0; i < getItems().size(); i++) {
+                int current = (start + i) % getItems().size();
+                if (matches.contains(getItems().get(current))) {
+                    if (event.next()) {
+                        getSelectionModel().clearAndSelect(current);
+                    }
+                    scrollTo(current);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void refreshFilterMatches() {
+        if (isBlank(filter)) {
+            filterMatches.set(null);
+        } else {
+            filterMatches.set(index.search(filter));
+        }
     }
 
     @EventListener
@@ -0,0 +1,193 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.pdfsam.model.pdf.PdfDescriptorLoadingStatus;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Index of the rows of a selection table, kept up to date as rows are added and removed and as their documents are
+ * loaded. Every row is indexed by the words of its file path, its loading status and its number of pages, so that
+ * finding the rows matching a text doesn't need to scan the rows.
+ *
+ * @author Andrea Vacondio
+ */
+class SelectionTableIndex {
+
+    private final Map<SelectionTableRowData, Indexed> rows = new IdentityHashMap<>();
+    private final NavigableMap<String, Set<SelectionTableRowData>> words = new TreeMap<>();
+    private Runnable onChange = () -> {
+        // nothing
+    };
+
+    private record Indexed(Set<String> words, ChangeListener<PdfDescriptorLoadingStatus> listener) {
+    }
+
+    /**
+     * Indexes the rows of the given list and keeps the index in sync with it
+     *
+     * @param onChange called after the index is updated
+     */
+    void bind(ObservableList<SelectionTableRowData> items, Runnable onChange) {
+        this.onChange = onChange;
+        items.forEach(this::add);
+        items.addListener((ListChangeListener<SelectionTableRowData>) c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    // rows moved by replacing the list content are both removed and added, we keep them indexed
+                    Set<SelectionTableRowData> added = Collections.newSetFromMap(new IdentityHashMap<>());
+                    added.addAll(c.getAddedSubList());
+                    c.getRemoved().stream().filter(r -> !added.contains(r)).forEach(this::remove);
+                }
+                if (c.wasAdded()) {
+                    c.getAddedSubList().forEach(this::add);
+                }
+            }
+            this.onChange.run();
+        });
+    }
+
+    void add(SelectionTableRowData row) {
+        if (!rows.containsKey(row)) {
+            ChangeListener<PdfDescriptorLoadingStatus> listener = (o, oldVal, newVal) -> {
+                reindex(row);
+                onChange.run();
+            };
+            row.descriptor().loadingStatus().addListener(listener);
+            Set<String> rowWords = words(row);
+            rows.put(row, new Indexed(rowWords, listener));
+            index(row, rowWords);
+        }
+    }
+
+    void remove(SelectionTableRowData row) {
+        Indexed indexed = rows.remove(row);
+        if (nonNull(indexed)) {
+            row.descriptor().loadingStatus().removeListener(indexed.listener());
+            unindex(row, indexed.words());
+        }
+    }
+
+    /**
+     * Indexes again the given row, its status or number of pages changed
+     */
+    void reindex(SelectionTableRowData row) {
+        Indexed indexed = rows.get(row);
+        if (nonNull(indexed)) {
+            unindex(row, indexed.words());
+            Set<String> rowWords = words(row);
+            rows.put(row, new Indexed(rowWords, indexed.listener()));
+            index(row, rowWords);
+        }
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * @return the rows having, for every word of the query, a word starting with it. An empty set if the query has no
+     * words.
+     */
+    Set<SelectionTableRowData> search(String query) {
+        Set<String> terms = tokens(query);
+        if (terms.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Set<SelectionTableRowData>> matches = terms.stream().map(this::startingWith)
+                .sorted(Comparator.comparingInt(Set::size)).toList();
+        Set<SelectionTableRowData> result = matches.get(0);
+        for (Set<SelectionTableRowData> match : matches.subList(1, matches.size())) {
+            result.retainAll(match);
+        }
+        return result;
+    }
+
+    private Set<SelectionTableRowData> startingWith(String term) {
+        Set<SelectionTableRowData> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        words.subMap(term, true, term + Character.MAX_VALUE, false).values().forEach(result::addAll);
+        return result;
+    }
+
+    private void index(SelectionTableRowData row, Set<String> rowWords) {
+        for (String word : rowWords) {
+            words.computeIfAbsent(word, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(row);
+        }
+    }
+
+    private void unindex(SelectionTableRowData row, Set<String> rowWords) {
+        for (String word : rowWords) {
+            Set<SelectionTableRowData> indexed = words.get(word);
+            if (nonNull(indexed)) {
+                indexed.remove(row);
+                if (indexed.isEmpty()) {
+                    words.remove(word);
+                }
+            }
+        }
+    }
+
+    private static Set<String> words(SelectionTableRowData row) {
+        Set<String> rowWords = tokens(row.descriptor().getFile().getAbsolutePath());
+        rowWords.addAll(tokens(row.descriptor().loadingStatus().getValue().name()));
+        int pages = row.descriptor().pages().getValue();
+        if (pages > 0) {
+            rowWords.add(Integer.toString(pages));
+        }
+        return rowWords;
+    }
+
+    /**
+     * @return the distinct lower case words of the given text, in order of appearance
+     */
+    static Set<String> tokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (isNull(text) || text.isBlank()) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -22,15 +22,12 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import org.apache.commons.lang3.StringUtils;
-import org.pdfsam.core.support.params.ConversionUtils;
 import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.pdf.page.PageRange;
 
 import java.util.Set;
 
-import static org.apache.commons.lang3.StringUtils.isBlank;
-
 /**
  * Model for a row of the selection table
  *
@@ -44,6 +41,7 @@ public final class SelectionTableRowData {
     public final SimpleStringProperty pace = new SimpleStringProperty("1");
     public final SimpleBooleanProperty reverse = new SimpleBooleanProperty(false);
     public final SimpleIntegerProperty selectedPages = new SimpleIntegerProperty(0);
+    private ParsedPageSelection parsedSelection = ParsedPageSelection.EMPTY;
 
     public SelectionTableRowData(PdfDocumentDescriptor descriptor) {
         this.descriptor = descriptor;
@@ -54,7 +52,7 @@ public final class SelectionTableRowData {
     public SelectionTableRowData duplicate() {
         descriptor.retain();
         var dupe = new SelectionTableRowData(descriptor);
-        dupe.pageSelection.set(pageSelection.get());
+        dupe.pageSelection(parsedSelection());
         dupe.reverse.set(reverse.get());
         dupe.pace.set(pace.get());
         dupe.selectedPages.set(selectedPages.get());
@@ -62,26 +60,25 @@ public final class SelectionTableRowData {
     }
 
     private int calculateSelectedPages() {
-        if (isBlank(pageSelection.get())) {
-            return descriptor.pages().getValue();
-        }
+        return parsedSelection().selectedPages(descriptor.pages().getValue());
+    }
 
-        if ("0".equals(pageSelection.get())) {
-            return 0;
+    /**
+     * @return the parsed page selection, parsing the text only if it changed since the last call
+     */
+    public ParsedPageSelection parsedSelection() {
+        if (!parsedSelection.isParsedFrom(pageSelection.get())) {
+            parsedSelection = ParsedPageSelection.parse(pageSelection.get());
         }
+        return parsedSelection;
+    }
 
-        try {
-            return this.toPageRangeSet().stream()
-                    .map(range -> {
-                        int nPages = descriptor.pages().getValue();
-                        if (range.getStart() > nPages) return 0;
-                        return (Math.min(nPages, range.getEnd()) - range.getStart()) + 1;
-                    })
-                    .reduce(0, Integer::sum);
-        } catch (ConversionException e) {
-            //fallback to 0
-        }
-        return 0;
+    /**
+     * Sets the page selection to an already parsed one, so that the same selection set on many rows is parsed once
+     */
+    public void pageSelection(ParsedPageSelection selection) {
+        parsedSelection = selection;
+        pageSelection.set(selection.text());
     }
 
     public PdfDocumentDescriptor descriptor() {
@@ -99,7 +96,7 @@ public final class SelectionTableRowData {
      * @return the {@link PageRange} selection set if any, an empty set otherwise.
      */
     public Set<PageRange> toPageRangeSet() throws ConversionException {
-        return ConversionUtils.toPageRangeSet(pageSelection.get());
+        return parsedSelection().toPageRangeSet();
     }
 
 }
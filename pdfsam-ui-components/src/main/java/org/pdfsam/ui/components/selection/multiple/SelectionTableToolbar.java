@@ -21,8 +21,14 @@ package org.pdfsam.ui.components.selection.multiple;
 import javafx.event.ActionEvent;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SplitMenuButton;
+import javafx.scene.control.TextField;
 import javafx.scene.control.ToolBar;
 import javafx.scene.control.Tooltip;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
 import javafx.stage.FileChooser;
 import org.apache.commons.lang3.StringUtils;
 import org.pdfsam.core.io.Choosers;
@@ -63,6 +69,9 @@ class SelectionTableToolbar extends ToolBar implements ToolBound {
         if (canMove) {
             getItems().addAll(new MoveUpButton(toolBinding), new MoveDownButton(toolBinding));
         }
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        getItems().addAll(spacer, new FilterField(toolBinding));
         getStyleClass().add("selection-tool-bar");
     }
 
@@ -184,6 +193,38 @@ class SelectionTableToolbar extends ToolBar implements ToolBound {
         }
     }
 
+    /**
+     * Field to highlight the rows matching the typed text, enter selects the next matching row
+     *
+     * @author Andrea Vacondio
+     */
+    static class FilterField extends TextField implements ToolBound {
+
+        private String ownerModule = StringUtils.EMPTY;
+
+        public FilterField(String ownerModule) {
+            this.ownerModule = defaultString(ownerModule);
+            getStyleClass().add("selection-filter-field");
+            setPromptText(i18n().tr("Find"));
+            setTooltip(new Tooltip(i18n().tr(
+                    "Highlights the documents whose path, status or pages have words starting with the given text")));
+            textProperty().addListener((o, oldVal, newVal) -> eventStudio().broadcast(
+                    new FilterRowsRequest(newVal, false), toolBinding()));
+            setOnAction(e -> eventStudio().broadcast(new FilterRowsRequest(getText(), true), toolBinding()));
+            addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+                if (e.getCode() == KeyCode.ESCAPE) {
+                    clear();
+                }
+            });
+        }
+
+        @Override
+        @EventStation
+        public String toolBinding() {
+            return ownerModule;
+        }
+    }
+
     /**
      * Base button for move selected rows actions
      *
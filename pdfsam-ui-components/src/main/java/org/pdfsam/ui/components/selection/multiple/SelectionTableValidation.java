@@ -0,0 +1,136 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import org.pdfsam.model.pdf.PdfDescriptorLoadingStatus;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.pdf.page.PageRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
+import static org.apache.commons.lang3.StringUtils.trim;
+import static org.pdfsam.i18n.I18nContext.i18n;
+
+/**
+ * Result of the pre-flight validation of the rows of a selection table, with all the problems found and the total
+ * number of pages the selection will produce.
+ *
+ * @param problems   description of every invalid row setting
+ * @param totalPages total number of selected pages, considering only the valid rows
+ * @author Andrea Vacondio
+ */
+public record SelectionTableValidation(List<String> problems, int totalPages) {
+
+    private static final int MAX_REPORTED_PROBLEMS = 10;
+
+    public SelectionTableValidation {
+        problems = List.copyOf(problems);
+    }
+
+    public boolean isValid() {
+        return problems.isEmpty();
+    }
+
+    /**
+     * @return a description of the problems found, limited to the first few ones
+     */
+    public String describe() {
+        var description = new StringBuilder(String.join(System.lineSeparator(),
+                problems.subList(0, Math.min(MAX_REPORTED_PROBLEMS, problems.size()))));
+        if (problems.size() > MAX_REPORTED_PROBLEMS) {
+            description.append(System.lineSeparator())
+                    .append(i18n().tr("and {0} more", Integer.toString(problems.size() - MAX_REPORTED_PROBLEMS)));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Validates page selection, and optionally pace, of the given rows against the pages of the loaded documents. Page
+     * selections are parsed once and cached by the rows, so the validation of each row is cheap.
+     *
+     * @param rows      the selection table rows
+     * @param checkPace true if the pace of each row should be validated
+     */
+    public static SelectionTableValidation validate(List<SelectionTableRowData> rows, boolean checkPace) {
+        List<RowResult> results = IntStream.range(0, rows.size()).mapToObj(i -> new Row(i + 1, rows.get(i)))
+                .map(r -> r.validate(checkPace)).toList();
+        return new SelectionTableValidation(
+                results.stream().map(RowResult::problems).flatMap(List::stream).toList(),
+                results.stream().mapToInt(RowResult::pages).sum());
+    }
+
+    private record RowResult(List<String> problems, int pages) {
+    }
+
+    private record Row(int index, String name, PdfDescriptorLoadingStatus status, int pages, String selection,
+                       ParsedPageSelection parsed, String pace) {
+
+        Row(int index, SelectionTableRowData data) {
+            this(index, data.descriptor().getFileName(), data.descriptor().loadingStatus().getValue(),
+                    data.descriptor().pages().getValue(), trim(data.pageSelection.get()), data.parsedSelection(),
+                    data.pace.get());
+        }
+
+        RowResult validate(boolean checkPace) {
+            if (Objects.equals("0", selection)) {
+                return new RowResult(List.of(), 0);
+            }
+            List<String> problems = new ArrayList<>();
+            if (status == PdfDescriptorLoadingStatus.ENCRYPTED || status == PdfDescriptorLoadingStatus.WITH_ERRORS) {
+                problems.add(problem(i18n().tr("the document could not be loaded")));
+            }
+            if (checkPace && !defaultIfBlank(pace, "1").trim().matches("[1-9]\\d*")) {
+                problems.add(problem(i18n().tr("select a positive integer number as pace")));
+            }
+            int selected = 0;
+            try {
+                List<PageRange> ranges = parsed.sortedRanges();
+                if (ranges.isEmpty()) {
+                    selected = pages;
+                } else {
+                    int covered = 0;
+                    for (PageRange range : ranges) {
+                        if (pages > 0 && range.getStart() > pages) {
+                            problems.add(problem(i18n().tr("page {0} is beyond the {1} pages of the document",
+                                    Integer.toString(range.getStart()), Integer.toString(pages))));
+                        } else {
+                            int end = Math.min(range.getEnd(), pages);
+                            int start = Math.max(range.getStart(), covered + 1);
+                            if (end >= start) {
+                                selected += end - start + 1;
+                                covered = end;
+                            }
+                        }
+                    }
+                }
+            } catch (ConversionException e) {
+                problems.add(problem(e.getMessage()));
+            }
+            return new RowResult(problems, problems.isEmpty() ? selected : 0);
+        }
+
+        private String problem(String message) {
+            return i18n().tr("Row {0} ({1}): {2}", Integer.toString(index), name, message);
+        }
+    }
+}
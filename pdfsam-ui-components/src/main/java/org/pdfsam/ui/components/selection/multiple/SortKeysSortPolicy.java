@@ -0,0 +1,93 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.util.Callback;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Sort policy for a {@link TableView} that extracts the cell data of the sort columns once per row and sorts the rows
+ * comparing the extracted keys. The default sort policy extracts the cell data, calling the cell value factories, on
+ * every comparison. The sort is stable and the rows are permutated, so the selection is preserved.
+ *
+ * @param <S> type of the table rows
+ * @author Andrea Vacondio
+ */
+class SortKeysSortPolicy<S> implements Callback<TableView<S>, Boolean> {
+
+    @Override
+    public Boolean call(TableView<S> table) {
+        List<TableColumn<S, ?>> sortOrder = List.copyOf(table.getSortOrder());
+        ObservableList<S> items = table.getItems();
+        if (sortOrder.isEmpty() || isNull(items) || items.size() < 2) {
+            return true;
+        }
+        Map<S, Integer> rows = new IdentityHashMap<>(items.size());
+        Object[][] keys = new Object[sortOrder.size()][items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            S item = items.get(i);
+            // the same row instance has the same keys wherever it is
+            rows.putIfAbsent(item, i);
+            for (int column = 0; column < keys.length; column++) {
+                keys[column][i] = sortOrder.get(column).getCellData(item);
+            }
+        }
+        Comparator<Object>[] comparators = comparators(sortOrder);
+        try {
+            FXCollections.sort(items, (a, b) -> compare(keys, comparators, rows.get(a), rows.get(b)));
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> Comparator<Object>[] comparators(List<TableColumn<S, ?>> sortOrder) {
+        Comparator<Object>[] comparators = new Comparator[sortOrder.size()];
+        for (int i = 0; i < comparators.length; i++) {
+            TableColumn<S, ?> column = sortOrder.get(i);
+            Comparator<Object> comparator = (Comparator<Object>) column.getComparator();
+            if (column.getSortType() == TableColumn.SortType.DESCENDING) {
+                comparator = comparator.reversed();
+            }
+            comparators[i] = comparator;
+        }
+        return comparators;
+    }
+
+    private static int compare(Object[][] keys, Comparator<Object>[] comparators, int a, int b) {
+        for (int column = 0; column < comparators.length; column++) {
+            int result = comparators[column].compare(keys[column][a], keys[column][b]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple.move;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.sejda.commons.util.RequireUtils.requireArg;
+import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+
+/**
+ * Immutable set of indices represented as sorted, disjoint and non adjacent intervals. A contiguous selection, like a
+ * select all, is a single interval no matter how many rows it covers.
+ *
+ * @author Andrea Vacondio
+ */
+public final class IndexRanges {
+
+    public static final IndexRanges EMPTY = new IndexRanges(new int[0], new int[0], 0);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int count;
+
+    private IndexRanges(int[] starts, int[] ends, int count) {
+        this.starts = starts;
+        this.ends = ends;
+        this.count = count;
+    }
+
+    /**
+     * @param start first index, inclusive
+     * @param end   last index, inclusive
+     * @return the ranges made of the single given interval
+     */
+    public static IndexRanges range(int start, int end) {
+        requireArg(start >= 0 && start <= end, "Invalid range");
+        return new IndexRanges(new int[] { start }, new int[] { end }, end - start + 1);
+    }
+
+    /**
+     * Creates the ranges for the given ascending list of distinct indices, like the selected indices of a table. When
+     * the indices are contiguous this only looks at the first and last element.
+     */
+    public static IndexRanges ofSorted(List<? extends Integer> indices) {
+        requireNotNullArg(indices, "Indices cannot be null");
+        if (indices.isEmpty()) {
+            return EMPTY;
+        }
+        int first = indices.getFirst();
+        int last = indices.getLast();
+        if (last - first + 1 == indices.size()) {
+            return range(first, last);
+        }
+        Builder builder = new Builder();
+        for (Integer current : indices) {
+            if (!builder.append(current)) {
+                return of(indices);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the ranges for the given indices, in any order and possibly repeated
+     */
+    public static IndexRanges of(Collection<? extends Integer> indices) {
+        requireNotNullArg(indices, "Indices cannot be null");
+        int[] sorted = indices.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        Builder builder = new Builder();
+        for (int current : sorted) {
+            builder.append(current);
+        }
+        return builder.build();
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return number of indices
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return number of intervals
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    public boolean isContiguous() {
+        return starts.length == 1;
+    }
+
+    /**
+     * @return the start, inclusive, of the interval at the given position
+     */
+    public int start(int range) {
+        return starts[range];
+    }
+
+    /**
+     * @return the end, inclusive, of the interval at the given position
+     */
+    public int end(int range) {
+        return ends[range];
+    }
+
+    /**
+     * @return the lowest index or -1 if empty
+     */
+    public int first() {
+        return isEmpty() ? -1 : starts[0];
+    }
+
+    /**
+     * @return the highest index or -1 if empty
+     */
+    public int last() {
+        return isEmpty() ? -1 : ends[ends.length - 1];
+    }
+
+    public boolean contains(int index) {
+        return rangeOf(index) >= 0;
+    }
+
+    /**
+     * @return the position of the given index among the indices of these ranges, or -1 if it's not contained
+     */
+    public int rank(int index) {
+        int range = rangeOf(index);
+        if (range < 0) {
+            return -1;
+        }
+        int rank = 0;
+        for (int i = 0; i < range; i++) {
+            rank += ends[i] - starts[i] + 1;
+        }
+        return rank + index - starts[range];
+    }
+
+    private int rangeOf(int index) {
+        int position = Arrays.binarySearch(starts, index);
+        if (position < 0) {
+            position = -position - 2;
+        }
+        if (position >= 0 && index <= ends[position]) {
+            return position;
+        }
+        return -1;
+    }
+
+    /**
+     * @return these ranges moved by the given offset
+     */
+    public IndexRanges shift(int offset) {
+        if (isEmpty() || offset == 0) {
+            return this;
+        }
+        requireArg(starts[0] + offset >= 0, "Cannot shift to negative indices");
+        return new IndexRanges(Arrays.stream(starts).map(i -> i + offset).toArray(),
+                Arrays.stream(ends).map(i -> i + offset).toArray(), count);
+    }
+
+    /**
+     * @return all the indices, ascending
+     */
+    public int[] toArray() {
+        int[] result = new int[count];
+        int position = 0;
+        for (int i = 0; i < starts.length; i++) {
+            for (int index = starts[i]; index <= ends[i]; index++) {
+                result[position++] = index;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof IndexRanges ranges)) {
+            return false;
+        }
+        return Arrays.equals(starts, ranges.starts) && Arrays.equals(ends, ranges.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < starts.length; i++) {
+            joiner.add(starts[i] == ends[i] ? Integer.toString(starts[i]) : starts[i] + "-" + ends[i]);
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Builds ranges from ascending indices
+     */
+    private static class Builder {
+        private int[] starts = new int[4];
+        private int[] ends = new int[4];
+        private int size;
+        private int count;
+
+        /**
+         * @return false if the index is not greater than the last appended one
+         */
+        boolean append(int index) {
+            if (size > 0 && index <= ends[size - 1]) {
+                return false;
+            }
+            count++;
+            if (size > 0 && index == ends[size - 1] + 1) {
+                ends[size - 1] = index;
+                return true;
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = index;
+            ends[size] = index;
+            size++;
+            return true;
+        }
+
+        IndexRanges build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new IndexRanges(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size), count);
+        }
+    }
+}
@@ -19,111 +19,103 @@
 package org.pdfsam.ui.components.selection.multiple.move;
 
 import javafx.collections.ObservableList;
-import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
-
-import static org.sejda.commons.util.RequireUtils.requireNotNullArg;
+import java.util.List;
 
 /**
- * Types of moves for the selected items in the selection table
+ * Types of moves for the selected items in the selection table. The selected rows are given as {@link IndexRanges} so
+ * the cost depends on the number of intervals rather than on the number of rows, the new order is computed on a copy
+ * and applied to the items with a single {@link ObservableList#setAll(java.util.Collection)} so listeners are notified
+ * once.
  *
  * @author Andrea Vacondio
  */
 public enum MoveType {
     TOP {
         @Override
-        public <T> SelectionAndFocus move(Integer[] selected, ObservableList<T> items, int focused) {
-            if (isSubselection(selected, items)) {
-                MultipleSelectionAndFocus newSelection = new MultipleSelectionAndFocus(focused);
-                Arrays.parallelSort(selected, Collections.reverseOrder(Integer::compare));
-                if (isNotFirst(selected)) {
-                    LinkedList<IntKeyValueItem<T>> toMove = new LinkedList<>();
-                    Arrays.stream(selected)
-                            .forEach(i -> toMove.push(new IntKeyValueItem<>(i, items.remove(i.intValue()))));
-                    int addIdx = 0;
-                    for (IntKeyValueItem<T> current : toMove) {
-                        items.add(addIdx, current.value());
-                        newSelection.moveTo(current.key(), addIdx);
-                        addIdx++;
-                    }
-                    return newSelection;
+        public <T> SelectionAndFocus move(IndexRanges selected, ObservableList<T> items, int focused) {
+            if (isSubselection(selected, items) && selected.last() > 0) {
+                List<T> moved = new ArrayList<>(items.size());
+                for (int i = 0; i < selected.size(); i++) {
+                    moved.addAll(items.subList(selected.start(i), selected.end(i) + 1));
                 }
+                moved.addAll(notSelected(selected, items));
+                items.setAll(moved);
+                return new RangesSelectionAndFocus(IndexRanges.range(0, selected.count() - 1),
+                        selected.rank(focused), false);
             }
             return SelectionAndFocus.NULL;
         }
     },
     UP {
         @Override
-        public <T> SelectionAndFocus move(Integer[] selected, ObservableList<T> items, int focused) {
-            if (isSubselection(selected, items)) {
-                MultipleSelectionAndFocus newSelection = new MultipleSelectionAndFocus(focused);
-                Arrays.parallelSort(selected);
-                if (isNotFirst(selected)) {
-                    Arrays.stream(selected).forEach(i -> {
-                        Collections.swap(items, i, i - 1);
-                        newSelection.moveUp(i);
-                    });
-                    return newSelection;
+        public <T> SelectionAndFocus move(IndexRanges selected, ObservableList<T> items, int focused) {
+            if (isSubselection(selected, items) && selected.first() > 0) {
+                List<T> moved = new ArrayList<>(items);
+                for (int i = 0; i < selected.size(); i++) {
+                    // the row above the interval goes below it
+                    Collections.rotate(moved.subList(selected.start(i) - 1, selected.end(i) + 1), -1);
                 }
+                items.setAll(moved);
+                return new RangesSelectionAndFocus(selected.shift(-1), selected.contains(focused) ? focused - 1 : -1,
+                        false);
             }
             return SelectionAndFocus.NULL;
         }
     },
     DOWN {
         @Override
-        public <T> SelectionAndFocus move(Integer[] selected, ObservableList<T> items, int focused) {
-            if (isSubselection(selected, items)) {
-                MultipleSelectionAndFocus newSelection = new MultipleSelectionAndFocus(focused);
-                Arrays.parallelSort(selected, Collections.reverseOrder(Integer::compare));
-                if (isNotLast(selected, items)) {
-                    Arrays.stream(selected).forEach(i -> {
-                        Collections.swap(items, i, i + 1);
-                        newSelection.moveDown(i);
-                    });
-                    return newSelection;
+        public <T> SelectionAndFocus move(IndexRanges selected, ObservableList<T> items, int focused) {
+            if (isSubselection(selected, items) && selected.last() < items.size() - 1) {
+                List<T> moved = new ArrayList<>(items);
+                for (int i = 0; i < selected.size(); i++) {
+                    // the row below the interval goes above it
+                    Collections.rotate(moved.subList(selected.start(i), selected.end(i) + 2), 1);
                 }
+                items.setAll(moved);
+                return new RangesSelectionAndFocus(selected.shift(1), selected.contains(focused) ? focused + 1 : -1,
+                        true);
             }
             return SelectionAndFocus.NULL;
         }
     },
     BOTTOM {
         @Override
-        public <T> SelectionAndFocus move(Integer[] selected, ObservableList<T> items, int focused) {
-            if (isSubselection(selected, items)) {
-                MultipleSelectionAndFocus newSelection = new MultipleSelectionAndFocus(focused);
-                Arrays.parallelSort(selected, Collections.reverseOrder(Integer::compare));
-                if (isNotLast(selected, items)) {
-                    LinkedList<IntKeyValueItem<T>> toMove = new LinkedList<>();
-                    Arrays.stream(selected)
-                            .forEach(i -> toMove.push(new IntKeyValueItem<>(i, items.remove(i.intValue()))));
-                    toMove.forEach(i -> {
-                        items.add(i.value());
-                        newSelection.moveTo(i.key(), items.size() - 1);
-                    });
-                    return newSelection;
+        public <T> SelectionAndFocus move(IndexRanges selected, ObservableList<T> items, int focused) {
+            if (isSubselection(selected, items) && selected.last() < items.size() - 1) {
+                List<T> moved = notSelected(selected, items);
+                int top = moved.size();
+                for (int i = 0; i < selected.size(); i++) {
+                    moved.addAll(items.subList(selected.start(i), selected.end(i) + 1));
                 }
+                items.setAll(moved);
+                int rank = selected.rank(focused);
+                return new RangesSelectionAndFocus(IndexRanges.range(top, items.size() - 1),
+                        rank >= 0 ? top + rank : -1, false);
             }
             return SelectionAndFocus.NULL;
         }
     };
 
-    boolean isNotFirst(Integer[] selected) {
-        return selected[0] > 0;
-    }
-
-    boolean isNotLast(Integer[] selected, ObservableList<?> items) {
-        return selected[0] < items.size() - 1;
-    }
-
-    boolean isSubselection(Integer[] toMove, ObservableList<?> items) {
-        return !ArrayUtils.isEmpty(toMove) && toMove.length < items.size();
+    /**
+     * @return the items whose index is not in the selected ranges, in their order
+     */
+    static <T> List<T> notSelected(IndexRanges selected, List<T> items) {
+        List<T> result = new ArrayList<>(items.size() - selected.count());
+        int from = 0;
+        for (int i = 0; i < selected.size(); i++) {
+            result.addAll(items.subList(from, selected.start(i)));
+            from = selected.end(i) + 1;
+        }
+        result.addAll(items.subList(from, items.size()));
+        return result;
     }
 
-    boolean isSingleSelection(Integer[] toMove, ObservableList<?> items) {
-        return !ArrayUtils.isEmpty(toMove) && toMove.length == 1 && items.size() > 1;
+    boolean isSubselection(IndexRanges toMove, ObservableList<?> items) {
+        return !toMove.isEmpty() && toMove.count() < items.size();
     }
 
     /**
@@ -132,20 +124,16 @@ public enum MoveType {
      * @param focused the index of the focused item
      * @return a new SelectionAndFocus holding the new coordinates for focus and selection
      */
-    public abstract <T> SelectionAndFocus move(Integer[] indicesToMove, ObservableList<T> items, int focused);
+    public <T> SelectionAndFocus move(Integer[] indicesToMove, ObservableList<T> items, int focused) {
+        return move(IndexRanges.of(Arrays.asList(indicesToMove)), items, focused);
+    }
 
     /**
-     * Helper class to hold information about the original index of a row
+     * Moves the rows in the given ranges in the given collection if items
      *
-     * @param <V>
-     * @author Andrea Vacondio
+     * @param focused the index of the focused item
+     * @return a new SelectionAndFocus holding the new coordinates for focus and selection
      */
-    private record IntKeyValueItem<V>(Integer key, V value) {
-
-        public IntKeyValueItem {
-            requireNotNullArg(key, "Key cannot be null");
-        }
-
-    }
+    public abstract <T> SelectionAndFocus move(IndexRanges selected, ObservableList<T> items, int focused);
 
 }
@@ -0,0 +1,73 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple.move;
+
+import java.util.Arrays;
+
+/**
+ * Selection made of {@link IndexRanges} and a single focus
+ *
+ * @author Andrea Vacondio
+ */
+class RangesSelectionAndFocus implements SelectionAndFocus {
+
+    private final IndexRanges ranges;
+    private final int focus;
+    private final boolean anchorAtEnd;
+
+    /**
+     * @param ranges      the selected rows
+     * @param focus       the focused row or -1
+     * @param anchorAtEnd if the row returned by {@link #row()} should be the last selected instead of the first
+     */
+    RangesSelectionAndFocus(IndexRanges ranges, int focus, boolean anchorAtEnd) {
+        this.ranges = ranges;
+        this.focus = focus;
+        this.anchorAtEnd = anchorAtEnd;
+    }
+
+    @Override
+    public int getFocus() {
+        return focus;
+    }
+
+    @Override
+    public int row() {
+        return anchorAtEnd ? ranges.last() : ranges.first();
+    }
+
+    @Override
+    public int[] getRows() {
+        int[] all = ranges.toArray();
+        if (anchorAtEnd) {
+            return Arrays.copyOf(all, Math.max(all.length - 1, 0));
+        }
+        return Arrays.copyOfRange(all, Math.min(1, all.length), all.length);
+    }
+
+    @Override
+    public IndexRanges ranges() {
+        return ranges;
+    }
+
+    @Override
+    public String toString() {
+        return "ranges=" + ranges + ", focus=" + focus;
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.pdfsam.ui.components.selection.multiple.move;
 
+import java.util.Arrays;
+import java.util.stream.IntStream;
 
 /**
  * Holds information about selection and focus
@@ -58,4 +60,14 @@ public interface SelectionAndFocus {
      * @return the index of additional selected items in case of multi selection
      */
     int[] getRows();
+
+    /**
+     * @return all the selected rows as ranges
+     */
+    default IndexRanges ranges() {
+        if (row() < 0) {
+            return IndexRanges.EMPTY;
+        }
+        return IndexRanges.of(IntStream.concat(IntStream.of(row()), Arrays.stream(getRows())).boxed().toList());
+    }
 }
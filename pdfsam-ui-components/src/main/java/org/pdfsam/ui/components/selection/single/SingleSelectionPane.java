@@ -56,6 +56,7 @@ import org.pdfsam.model.tool.ClearToolRequest;
 import org.pdfsam.model.tool.ToolBound;
 import org.pdfsam.model.ui.ChangedSelectedPdfVersionEvent;
 import org.pdfsam.model.ui.ShowLogMessagesRequest;
+import org.pdfsam.model.ui.ShowPagePreviewRequest;
 import org.pdfsam.model.ui.ShowPdfDescriptorRequest;
 import org.pdfsam.model.ui.ShowStageRequest;
 import org.pdfsam.model.ui.workspace.RestorableView;
@@ -288,6 +289,12 @@ public class SingleSelectionPane extends VBox implements ToolBound, PdfDocumentD
             eventStudio().broadcast(new ShowPdfDescriptorRequest(descriptor));
         }));
 
+        MenuItem previewItem = createMenuItem(i18n().tr("Preview pages"), UniconsLine.IMAGE);
+        previewItem.setOnAction(e -> Platform.runLater(() -> {
+            eventStudio().broadcast(ShowStageRequest.INSTANCE, "PagePreviewStage");
+            eventStudio().broadcast(new ShowPagePreviewRequest(descriptor));
+        }));
+
         removeSelected = createMenuItem(i18n().tr("Remove"), UniconsLine.MINUS);
         removeSelected.setOnAction(
                 e -> eventStudio().broadcast(new ClearToolRequest(toolBinding(), false, false), toolBinding()));
@@ -306,7 +313,7 @@ public class SingleSelectionPane extends VBox implements ToolBound, PdfDocumentD
 
         field.getTextField().setContextMenu(
                 new ContextMenu(setDestinationItem, new SeparatorMenuItem(), removeSelected, new SeparatorMenuItem(),
-                        infoItem, openFileItem, openFolderItem));
+                        infoItem, previewItem, openFileItem, openFolderItem));
     }
 
     @EventListener
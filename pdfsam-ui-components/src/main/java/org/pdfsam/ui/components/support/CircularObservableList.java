@@ -20,30 +20,49 @@ package org.pdfsam.ui.components.support;
 
 import javafx.collections.ModifiableObservableListBase;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
 import static org.sejda.commons.util.RequireUtils.requireArg;
 
 /**
  * A {@link ModifiableObservableListBase} with size constraints. When at maxCapacity and an element is added, the eldest element is removed.
+ * Elements are stored in a ring array, growing up to maxCapacity, so indexed access and removal of the eldest elements
+ * are constant time. Elements evicted by an addition are notified as a single removal in the same change of the
+ * addition.
  * 
  * @author Andrea Vacondio
  *
  */
 public class CircularObservableList<E> extends ModifiableObservableListBase<E> {
-    private final LinkedList<E> wrapped;
+    private static final int INITIAL_LENGTH = 16;
+
+    private Object[] elements = new Object[0];
+    private int head;
+    private int size;
     private int maxCapacity;
 
     public CircularObservableList(int maxCapacity) {
-        this.wrapped = new LinkedList<>();
         setMaxCapacity(maxCapacity);
     }
 
     public void setMaxCapacity(int maxCapacity) {
         requireArg(maxCapacity > 0, "Max capacity must be a positive value");
         this.maxCapacity = maxCapacity;
-        houseKeep();
+        try {
+            beginChange();
+            if (houseKeep()) {
+                modCount++;
+            }
+        } finally {
+            endChange();
+        }
+        if (elements.length > maxCapacity) {
+            resize(maxCapacity);
+        }
     }
 
     public int getMaxCapacity() {
@@ -51,53 +70,146 @@ public class CircularObservableList<E> extends ModifiableObservableListBase<E> {
     }
 
     /**
-     * Makes the list fit its limits by removing last items in cases where the list might have exceeded its limits.
+     * Makes the list fit its limits by removing the eldest items in cases where the list might have exceeded its
+     * limits. Must be called during a change.
+     *
+     * @return true if some element has been removed
      */
-    private void houseKeep() {
-        while (size() > maxCapacity) {
-            remove(0);
+    private boolean houseKeep() {
+        if (size > maxCapacity) {
+            evict(size - maxCapacity);
+            return true;
         }
+        return false;
+    }
+
+    /**
+     * Removes the given number of eldest elements, notifying them as a single removal. Must be called during a change.
+     */
+    private void evict(int count) {
+        List<E> removed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            removed.add(elementAt(head));
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+        }
+        size -= count;
+        nextRemove(0, removed);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        addAll(index, Collections.singletonList(element));
     }
 
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
-        boolean retVal;
+        Objects.checkIndex(index, size + 1);
+        if (c.isEmpty()) {
+            return false;
+        }
         try {
             beginChange();
-            retVal = wrapped.addAll(index, c);
+            int overflow = size + c.size() - maxCapacity;
+            if (index == size && overflow > 0 && size > 0) {
+                // appending to a full list, make room first so the ring doesn't grow past maxCapacity
+                evict(Math.min(overflow, size));
+                index = size;
+            }
+            insert(index, c);
             nextAdd(index, index + c.size());
             houseKeep();
             modCount++;
         } finally {
             endChange();
         }
-        return retVal;
+        return true;
     }
 
     @Override
     public E get(int index) {
-        return wrapped.get(index);
+        Objects.checkIndex(index, size);
+        return elementAt(slot(index));
     }
 
     @Override
     public int size() {
-        return wrapped.size();
+        return size;
     }
 
     @Override
     protected void doAdd(int index, E element) {
-        wrapped.add(index, element);
-        houseKeep();
+        insert(index, Collections.singletonList(element));
     }
 
     @Override
     protected E doSet(int index, E element) {
-        return wrapped.set(index, element);
+        Objects.checkIndex(index, size);
+        int slot = slot(index);
+        E previous = elementAt(slot);
+        elements[slot] = element;
+        return previous;
     }
 
     @Override
     protected E doRemove(int index) {
-        return wrapped.remove(index);
+        Objects.checkIndex(index, size);
+        E removed = elementAt(slot(index));
+        if (index == 0) {
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+            elements[slot(size - 1)] = null;
+        }
+        size--;
+        return removed;
     }
 
+    /**
+     * Inserts the elements at the given index shifting the following ones, without notifying
+     */
+    private void insert(int index, Collection<? extends E> c) {
+        int count = c.size();
+        ensureLength(size + count);
+        for (int i = size - 1; i >= index; i--) {
+            elements[slot(i + count)] = elements[slot(i)];
+        }
+        int current = index;
+        for (E element : c) {
+            elements[slot(current++)] = element;
+        }
+        size += count;
+    }
+
+    private void ensureLength(int minLength) {
+        if (elements.length < minLength) {
+            resize(Math.max(minLength, Math.min(Math.max(elements.length * 2, INITIAL_LENGTH), maxCapacity)));
+        }
+    }
+
+    /**
+     * Moves the elements to a new array of the given length, copying the two segments of the ring in bulk
+     */
+    private void resize(int length) {
+        Object[] resized = new Object[length];
+        if (size > 0) {
+            int firstSegment = Math.min(size, elements.length - head);
+            System.arraycopy(elements, head, resized, 0, firstSegment);
+            System.arraycopy(elements, 0, resized, firstSegment, size - firstSegment);
+        }
+        elements = resized;
+        head = 0;
+    }
+
+    private int slot(int index) {
+        return (head + index) % elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) elements[slot];
+    }
 }
@@ -22,8 +22,12 @@ import javafx.application.Platform;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 import org.apache.commons.lang3.builder.Builder;
+import org.apache.commons.io.FileUtils;
 import org.pdfsam.eventstudio.annotation.EventListener;
 import org.pdfsam.eventstudio.annotation.EventStation;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.model.task.OutputPlan;
+import org.pdfsam.model.task.OutputPlanRequest;
 import org.pdfsam.model.tool.TaskExecutionRequest;
 import org.pdfsam.model.tool.Tool;
 import org.pdfsam.model.tool.ToolBound;
@@ -34,7 +38,10 @@ import org.pdfsam.ui.components.notification.NotificationType;
 import org.pdfsam.ui.components.support.Style;
 import org.sejda.model.parameter.base.AbstractParameters;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
@@ -62,19 +69,23 @@ public abstract class BaseToolPanel extends BorderPane implements ToolBound {
         panel.getStyleClass().addAll(Style.MODULE_CONTAINER.css());
         panel.getChildren().add(footer);
 
-        footer.runButton().setOnAction(event -> {
-            ErrorTracker errorTracker = new ErrorTracker();
-            Builder<? extends AbstractParameters> builder = getBuilder(errorTracker.andThen(
-                    s -> eventStudio().broadcast(
-                            new AddNotificationRequest(NotificationType.ERROR, s, i18n().tr("Invalid parameters")))));
-            if (!errorTracker.errorOnBuild) {
-                eventStudio().broadcast(new TaskExecutionRequest(toolBinding(), builder.build()));
-            }
-        });
+        footer.runButton().setOnAction(event -> buildParameters().ifPresent(
+                p -> eventStudio().broadcast(new TaskExecutionRequest(toolBinding(), p))));
         setCenter(panel);
         eventStudio().addAnnotatedListeners(this);
     }
 
+    private Optional<AbstractParameters> buildParameters() {
+        ErrorTracker errorTracker = new ErrorTracker();
+        Builder<? extends AbstractParameters> builder = getBuilder(errorTracker.andThen(
+                s -> eventStudio().broadcast(
+                        new AddNotificationRequest(NotificationType.ERROR, s, i18n().tr("Invalid parameters")))));
+        if (!errorTracker.errorOnBuild) {
+            return Optional.of(builder.build());
+        }
+        return Optional.empty();
+    }
+
     @Override
     public String toolBinding() {
         return toolId;
@@ -109,6 +120,27 @@ public abstract class BaseToolPanel extends BorderPane implements ToolBound {
         footer.runButton().fire();
     }
 
+    @EventListener
+    public void onDryRun(DryRunTriggerRequest request) {
+        buildParameters().ifPresent(p -> eventStudio().broadcast(
+                new OutputPlanRequest(toolBinding(), p, planDescriptors().stream().filter(Objects::nonNull).toList())));
+    }
+
+    @EventListener
+    public void onOutputPlan(OutputPlan plan) {
+        eventStudio().broadcast(new AddNotificationRequest(NotificationType.INFO,
+                i18n().tr("{0} files would be generated, about {1} in total", Integer.toString(plan.outputs().size()),
+                        FileUtils.byteCountToDisplaySize(plan.estimatedSize())), i18n().tr("Output preview")));
+    }
+
+    /**
+     * @return the loaded descriptors of the documents used by the tool, used to preview the generated documents. Tools
+     * supporting the output preview override this.
+     */
+    protected List<PdfDocumentDescriptor> planDescriptors() {
+        return List.of();
+    }
+
     /**
      * @param onError function to be called in case of error while building the task parameters
      * @return a {@link Builder} for the parameters to be used to perform a pdf manipulation
@@ -28,7 +28,10 @@ import org.pdfsam.eventstudio.annotation.EventStation;
 import org.pdfsam.model.io.NativeOpenFileRequest;
 import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 import org.pdfsam.model.pdf.PdfLoadRequest;
+import org.pdfsam.model.pdf.PdfOutputMetadata;
+import org.pdfsam.model.task.PdfOutputMetadataEvent;
 import org.pdfsam.model.tool.ClearToolRequest;
+import org.pdfsam.model.tool.RequiredPdfData;
 import org.pdfsam.model.tool.TaskExecutionRequest;
 import org.pdfsam.model.tool.Tool;
 import org.pdfsam.model.tool.ToolInputOutputType;
@@ -45,10 +48,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.pdfsam.core.context.ApplicationContext.app;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
@@ -65,6 +72,7 @@ public class OpenButton extends SplitMenuButton implements TaskOutputDispatcher
     private final String ownerModule;
     private File destination;
     private final List<File> latestOutput = new ArrayList<>();
+    private final Map<String, PdfOutputMetadata> latestOutputMetadata = new HashMap<>();
 
     public OpenButton(String ownerTool, ToolInputOutputType outputType) {
         this(ownerTool, outputType, app().runtimeState().tools().values());
@@ -88,6 +96,7 @@ public class OpenButton extends SplitMenuButton implements TaskOutputDispatcher
         eventStudio().add(TaskExecutionRequest.class, e -> {
             if (e.toolId().equals(ownerModule)) {
                 latestOutput.clear();
+                latestOutputMetadata.clear();
                 try {
                     if (!isNull(e.parameters().getOutput())) {
                         e.parameters().getOutput().accept(this);
@@ -123,6 +132,11 @@ public class OpenButton extends SplitMenuButton implements TaskOutputDispatcher
         latestOutput.addAll(event.getNotifiableTaskMetadata().taskOutput());
     }
 
+    @EventListener(priority = -10)
+    public void onOutputMetadata(PdfOutputMetadataEvent event) {
+        event.outputs().forEach(m -> latestOutputMetadata.put(m.name(), m));
+    }
+
     @Override
     public void dispatch(FileTaskOutput output) {
         destination = output.getDestination();
@@ -152,9 +166,21 @@ public class OpenButton extends SplitMenuButton implements TaskOutputDispatcher
                 eventStudio().broadcast(new ClearToolRequest(tool.id(), false, false), tool.id());
                 eventStudio().broadcast(new SetActiveContentItemRequest(tool.id()));
                 PdfLoadRequest loadEvent = new PdfLoadRequest(tool.id());
-                latestOutput.stream().map(PdfDocumentDescriptor::newDescriptorNoPassword).forEach(loadEvent::add);
+                latestOutput.stream().map(f -> descriptorFor(f, tool)).forEach(loadEvent::add);
                 eventStudio().broadcast(loadEvent, tool.id());
             });
         }
+
+        /**
+         * @return a descriptor for the given output, already populated with the metadata published by the task if the target tool
+         * doesn't require anything more than the default data
+         */
+        private PdfDocumentDescriptor descriptorFor(File output, Tool tool) {
+            var descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(output);
+            if (Arrays.stream(tool.requires()).allMatch(RequiredPdfData.DEFAULT::equals)) {
+                ofNullable(latestOutputMetadata.get(output.getName())).ifPresent(descriptor::seed);
+            }
+            return descriptor;
+        }
     }
 }
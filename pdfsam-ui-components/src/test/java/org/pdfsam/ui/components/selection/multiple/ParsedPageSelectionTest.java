@@ -0,0 +1,84 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import org.junit.jupiter.api.Test;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.pdf.page.PageRange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class ParsedPageSelectionTest {
+
+    @Test
+    public void empty() {
+        assertSame(ParsedPageSelection.EMPTY, ParsedPageSelection.parse(null));
+        assertSame(ParsedPageSelection.EMPTY, ParsedPageSelection.parse(""));
+        assertTrue(ParsedPageSelection.EMPTY.toPageRangeSet().isEmpty());
+        assertEquals(10, ParsedPageSelection.EMPTY.selectedPages(10));
+        assertEquals(10, ParsedPageSelection.parse("  ").selectedPages(10));
+    }
+
+    @Test
+    public void ranges() {
+        var victim = ParsedPageSelection.parse("10-12, 2-5");
+        assertTrue(victim.isValid());
+        assertThat(victim.toPageRangeSet()).containsExactly(new PageRange(10, 12), new PageRange(2, 5));
+        assertThat(victim.sortedRanges()).containsExactly(new PageRange(2, 5), new PageRange(10, 12));
+        assertEquals(6, victim.selectedPages(10));
+    }
+
+    @Test
+    public void freshSets() {
+        var victim = ParsedPageSelection.parse("2-5");
+        victim.toPageRangeSet().add(new PageRange(7, 8));
+        assertEquals(1, victim.toPageRangeSet().size());
+    }
+
+    @Test
+    public void none() {
+        var victim = ParsedPageSelection.parse("0");
+        assertTrue(victim.isNone());
+        assertEquals(0, victim.selectedPages(10));
+    }
+
+    @Test
+    public void invalid() {
+        var victim = ParsedPageSelection.parse("Chuck Norris");
+        assertFalse(victim.isValid());
+        assertEquals(0, victim.selectedPages(10));
+        assertThrows(ConversionException.class, victim::toPageRangeSet);
+        assertThrows(ConversionException.class, victim::sortedRanges);
+    }
+
+    @Test
+    public void isParsedFrom() {
+        assertTrue(ParsedPageSelection.EMPTY.isParsedFrom(null));
+        assertTrue(ParsedPageSelection.parse("2-5").isParsedFrom("2-5"));
+        assertFalse(ParsedPageSelection.parse("2-5").isParsedFrom("2-6"));
+    }
+}
@@ -19,6 +19,7 @@
 package org.pdfsam.ui.components.selection.multiple;
 
 import org.junit.jupiter.api.Test;
+import org.pdfsam.ui.components.selection.multiple.move.IndexRanges;
 import org.pdfsam.ui.components.selection.multiple.move.MoveType;
 
 import java.util.Arrays;
@@ -28,10 +29,12 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.pdfsam.ui.components.selection.multiple.SelectionChangedEvent.clearSelectionEvent;
 import static org.pdfsam.ui.components.selection.multiple.SelectionChangedEvent.select;
+import static org.pdfsam.ui.components.selection.multiple.SelectionChangedEvent.selectRanges;
 
 /**
  * @author Andrea Vacondio
@@ -118,4 +121,21 @@ public class SelectionChangedEventTest {
         assertTrue(select(asList(1, 3)).ofTotalRows(5).canMove(MoveType.TOP));
         assertTrue(select(List.of(3)).ofTotalRows(5).canMove(MoveType.TOP));
     }
+
+    @Test
+    public void ranges() {
+        SelectionChangedEvent victim = selectRanges(IndexRanges.range(0, 99999)).ofTotalRows(100000);
+        assertFalse(victim.isSingleSelection());
+        assertFalse(victim.canMove(MoveType.UP));
+        assertFalse(victim.canMove(MoveType.DOWN));
+        assertEquals(IndexRanges.range(0, 99999), victim.selection());
+        assertTrue(selectRanges(IndexRanges.range(3, 3)).ofTotalRows(5).isSingleSelection());
+    }
+
+    @Test
+    public void equality() {
+        assertEquals(select(asList(1, 2)).ofTotalRows(5), selectRanges(IndexRanges.range(1, 2)).ofTotalRows(5));
+        assertNotEquals(select(asList(1, 2)).ofTotalRows(5), select(asList(1, 2)).ofTotalRows(6));
+        assertEquals(clearSelectionEvent(), clearSelectionEvent());
+    }
 }
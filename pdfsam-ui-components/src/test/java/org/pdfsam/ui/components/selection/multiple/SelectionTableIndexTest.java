@@ -0,0 +1,137 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pdfsam.model.pdf.PdfDescriptorLoadingStatus;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class SelectionTableIndexTest {
+
+    private final SelectionTableIndex victim = new SelectionTableIndex();
+    private final AtomicInteger changes = new AtomicInteger();
+    private ObservableList<SelectionTableRowData> items;
+    private SelectionTableRowData invoice;
+    private SelectionTableRowData report;
+    private SelectionTableRowData other;
+
+    @BeforeEach
+    public void setUp() {
+        invoice = row("/docs/2024/invoices/invoice-123.pdf");
+        report = row("/docs/2024/reports/annual_report.pdf");
+        other = row("/home/other.pdf");
+        items = FXCollections.observableArrayList(invoice, report);
+        victim.bind(items, changes::incrementAndGet);
+    }
+
+    @Test
+    public void tokens() {
+        assertEquals(Set.of("docs", "2024", "my", "file", "pdf"),
+                SelectionTableIndex.tokens("/docs/2024/My-File.pdf"));
+        assertTrue(SelectionTableIndex.tokens(null).isEmpty());
+        assertTrue(SelectionTableIndex.tokens("  ").isEmpty());
+    }
+
+    @Test
+    public void emptyQuery() {
+        assertTrue(victim.search("").isEmpty());
+        assertTrue(victim.search(" / ").isEmpty());
+    }
+
+    @Test
+    public void searchByName() {
+        assertEquals(Set.of(invoice), victim.search("invoice"));
+        assertEquals(Set.of(report), victim.search("ANNUAL"));
+        assertEquals(Set.of(invoice, report), victim.search("pdf"));
+    }
+
+    @Test
+    public void searchByPrefix() {
+        assertEquals(Set.of(invoice), victim.search("inv"));
+        assertEquals(Set.of(report), victim.search("rep"));
+        assertTrue(victim.search("voice").isEmpty());
+    }
+
+    @Test
+    public void searchByPathFragment() {
+        assertEquals(Set.of(report), victim.search("2024/reports"));
+        assertTrue(victim.search("2023/reports").isEmpty());
+    }
+
+    @Test
+    public void searchByStatusAndPages() {
+        assertEquals(Set.of(invoice, report), victim.search("initial"));
+        invoice.descriptor().pages(12);
+        invoice.descriptor().moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
+        invoice.descriptor().moveStatusTo(PdfDescriptorLoadingStatus.LOADING);
+        invoice.descriptor().moveStatusTo(PdfDescriptorLoadingStatus.LOADED);
+        assertEquals(Set.of(invoice), victim.search("loaded"));
+        assertEquals(Set.of(invoice), victim.search("12"));
+        assertEquals(Set.of(report), victim.search("initial"));
+        assertEquals(3, changes.get());
+    }
+
+    @Test
+    public void listChanges() {
+        items.add(other);
+        assertEquals(3, victim.size());
+        assertEquals(Set.of(other), victim.search("home"));
+        items.remove(invoice);
+        assertEquals(2, victim.size());
+        assertTrue(victim.search("invoice").isEmpty());
+        assertEquals(2, changes.get());
+    }
+
+    @Test
+    public void replacingContentKeepsRows() {
+        items.setAll(List.of(report, invoice));
+        assertEquals(2, victim.size());
+        assertEquals(Set.of(invoice), victim.search("invoice"));
+        items.setAll(List.of(other));
+        assertEquals(1, victim.size());
+        assertTrue(victim.search("invoice").isEmpty());
+    }
+
+    @Test
+    public void removedRowsAreNotReindexed() {
+        items.remove(invoice);
+        int before = changes.get();
+        invoice.descriptor().moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
+        assertEquals(before, changes.get());
+        assertTrue(victim.search("requested").isEmpty());
+    }
+
+    private static SelectionTableRowData row(String path) {
+        return new SelectionTableRowData(PdfDocumentDescriptor.newDescriptorNoPassword(new File(path)));
+    }
+}
@@ -30,6 +30,8 @@ import java.io.File;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -115,4 +117,33 @@ public class SelectionTableRowDataTest {
         victim.pageSelection.set("Chuck Norris");
         assertEquals(0, victim.selectedPages.get());
     }
+
+    @Test
+    public void parsedOnceForTheSameText() {
+        var descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(mock(File.class));
+        var victim = new SelectionTableRowData(descriptor);
+        victim.pageSelection.set("2-5");
+        ParsedPageSelection parsed = victim.parsedSelection();
+        descriptor.pages(15);
+        assertSame(parsed, victim.parsedSelection());
+        victim.pageSelection.set("2-6");
+        assertNotSame(parsed, victim.parsedSelection());
+        assertEquals(5, victim.selectedPages.get());
+    }
+
+    @Test
+    public void sharedParsedSelection() {
+        var descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(mock(File.class));
+        descriptor.pages(15);
+        var victim = new SelectionTableRowData(descriptor);
+        var other = new SelectionTableRowData(descriptor);
+        var selection = ParsedPageSelection.parse("1-3,10");
+        victim.pageSelection(selection);
+        other.pageSelection(selection);
+        assertEquals("1-3,10", other.pageSelection.get());
+        assertSame(selection, victim.parsedSelection());
+        assertSame(selection, other.parsedSelection());
+        assertEquals(4, other.selectedPages.get());
+        assertSame(selection, other.duplicate().parsedSelection());
+    }
 }
@@ -21,10 +21,12 @@ package org.pdfsam.ui.components.selection.multiple;
 import javafx.application.Platform;
 import javafx.beans.value.WritableIntegerValue;
 import javafx.collections.FXCollections;
+import javafx.css.PseudoClass;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.TableRow;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.DataFormat;
 import javafx.scene.input.KeyCode;
@@ -50,6 +52,7 @@ import org.pdfsam.model.pdf.PdfLoadRequest;
 import org.pdfsam.model.tool.ClearToolRequest;
 import org.pdfsam.model.ui.SetDestinationRequest;
 import org.pdfsam.model.ui.ShowLogMessagesRequest;
+import org.pdfsam.model.ui.ShowPagePreviewRequest;
 import org.pdfsam.model.ui.ShowPdfDescriptorRequest;
 import org.pdfsam.test.ClearEventStudioExtension;
 import org.pdfsam.test.HitTestListener;
@@ -355,6 +358,29 @@ public class SelectionTableTest {
         assertEquals(1, victim.getSelectionModel().getSelectedIndices().size());
     }
 
+    @Test
+    public void removeSelectsFollowingRow() {
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.getSelectionModel().selectIndices(0, 2));
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> eventStudio().broadcast(new RemoveSelectedEvent(), MODULE));
+        assertEquals(2, victim.getItems().size());
+        assertEquals(1, victim.getSelectionModel().getSelectedIndices().size());
+        assertEquals(0, victim.getSelectionModel().getSelectedIndex());
+        assertEquals(0, victim.getFocusModel().getFocusedIndex());
+        assertEquals("®¯°±²³要选择需要转换的文.pdf",
+                victim.getSelectionModel().getSelectedItem().descriptor().getFileName());
+    }
+
+    @Test
+    public void removeLastSelectsNewLastRow() {
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.getSelectionModel().select(3));
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> eventStudio().broadcast(new RemoveSelectedEvent(), MODULE));
+        assertEquals(3, victim.getItems().size());
+        assertEquals(1, victim.getSelectionModel().getSelectedIndices().size());
+        assertEquals(2, victim.getSelectionModel().getSelectedIndex());
+        assertEquals(2, victim.getFocusModel().getFocusedIndex());
+        assertEquals("temp3.pdf", victim.getSelectionModel().getSelectedItem().descriptor().getFileName());
+    }
+
     @Test
     public void removeRelease() {
         Optional<SelectionTableRowData> item = victim.getItems().stream()
@@ -578,6 +604,16 @@ public class SelectionTableTest {
         verify(listener, timeout(2000)).onEvent(any());
     }
 
+    @Test
+    @Tag("NoHeadless")
+    public void previewByContextMenu() {
+        Listener<ShowPagePreviewRequest> listener = mock(Listener.class);
+        eventStudio().add(ShowPagePreviewRequest.class, listener);
+        robot.rightClickOn("temp3.pdf");
+        robot.clickOn(i18n().tr("Preview pages"));
+        verify(listener, timeout(2000)).onEvent(any());
+    }
+
     @Test
     public void iconsAreShown() {
         WaitForAsyncUtils.waitForAsyncFx(2000, () -> firstItem.moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED));
@@ -629,6 +665,46 @@ public class SelectionTableTest {
         assertEquals(item.get().pageSelection.get(), "5");
     }
 
+    @Test
+    public void filterHighlightsMatches() {
+        WaitForAsyncUtils.waitForAsyncFx(2000,
+                () -> eventStudio().broadcast(new FilterRowsRequest("temp3", false), MODULE));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(1, rowsWithPseudoClass("filter-match"));
+        assertEquals(3, rowsWithPseudoClass("filter-miss"));
+        WaitForAsyncUtils.waitForAsyncFx(2000,
+                () -> eventStudio().broadcast(new FilterRowsRequest("", false), MODULE));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(0, rowsWithPseudoClass("filter-match"));
+        assertEquals(0, rowsWithPseudoClass("filter-miss"));
+    }
+
+    @Test
+    public void filterSelectsNextMatch() {
+        WaitForAsyncUtils.waitForAsyncFx(2000,
+                () -> eventStudio().broadcast(new FilterRowsRequest("temp4", true), MODULE));
+        assertEquals(1, victim.getSelectionModel().getSelectedItems().size());
+        assertEquals("temp4.pdf", victim.getSelectionModel().getSelectedItem().descriptor().getFileName());
+        WaitForAsyncUtils.waitForAsyncFx(2000,
+                () -> eventStudio().broadcast(new FilterRowsRequest("temp3", true), MODULE));
+        assertEquals("temp3.pdf", victim.getSelectionModel().getSelectedItem().descriptor().getFileName());
+    }
+
+    @Test
+    public void filterUpdatesOnRemove() {
+        WaitForAsyncUtils.waitForAsyncFx(2000,
+                () -> eventStudio().broadcast(new FilterRowsRequest("temp3", false), MODULE));
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.getItems().remove(2));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(0, rowsWithPseudoClass("filter-match"));
+        assertEquals(3, rowsWithPseudoClass("filter-miss"));
+    }
+
+    private long rowsWithPseudoClass(String pseudoClass) {
+        return robot.lookup(".table-row-cell").queryAllAs(TableRow.class).stream()
+                .filter(r -> r.getPseudoClassStates().contains(PseudoClass.getPseudoClass(pseudoClass))).count();
+    }
+
     private PdfDocumentDescriptor populate() throws Exception {
         File file = Files.createFile(folder.resolve("temp.pdf")).toFile();
         File file2 = Files.createFile(folder.resolve("®¯°±²³要选择需要转换的文.pdf")).toFile();
@@ -21,6 +21,7 @@ package org.pdfsam.ui.components.selection.multiple;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.SplitMenuButton;
+import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -43,9 +44,11 @@ import org.testfx.framework.junit5.Start;
 import org.testfx.util.WaitForAsyncUtils;
 
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.pdfsam.eventstudio.StaticStudio.eventStudio;
 import static org.pdfsam.ui.components.selection.multiple.SelectionChangedEvent.select;
@@ -129,6 +132,20 @@ public class SelectionTableToolbarTest {
         assertTrue(listener.isHit());
     }
 
+    @Test
+    public void filter(FxRobot robot) {
+        Listener<FilterRowsRequest> listener = mock(Listener.class);
+        ArgumentCaptor<FilterRowsRequest> captor = ArgumentCaptor.forClass(FilterRowsRequest.class);
+        eventStudio().add(FilterRowsRequest.class, listener, MODULE);
+        robot.clickOn(".selection-filter-field").write("a").type(KeyCode.ENTER);
+        verify(listener, times(2)).onEvent(captor.capture());
+        assertEquals(new FilterRowsRequest("a", false), captor.getAllValues().get(0));
+        assertEquals(new FilterRowsRequest("a", true), captor.getAllValues().get(1));
+        robot.type(KeyCode.ESCAPE);
+        verify(listener, times(3)).onEvent(captor.capture());
+        assertEquals(new FilterRowsRequest("", false), captor.getValue());
+    }
+
     private void enableByFiringSelectionChange(Node victim) {
         assertTrue(victim.isDisabled());
         WaitForAsyncUtils.waitForAsyncFx(2000,
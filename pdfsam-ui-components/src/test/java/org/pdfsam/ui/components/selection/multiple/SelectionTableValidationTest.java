@@ -0,0 +1,105 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.pdfsam.model.pdf.PdfDescriptorLoadingStatus;
+import org.pdfsam.model.pdf.PdfDocumentDescriptor;
+import org.pdfsam.test.ClearEventStudioExtension;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+@ExtendWith(ClearEventStudioExtension.class)
+public class SelectionTableValidationTest {
+
+    @Test
+    public void valid() {
+        var rows = List.of(row(10, ""), row(10, "1-3,8-"), row(10, "0"), row(10, "2-5,4-6"));
+        var victim = SelectionTableValidation.validate(rows, false);
+        assertTrue(victim.isValid());
+        assertEquals(21, victim.totalPages());
+    }
+
+    @Test
+    public void allProblemsAreReported() {
+        var rows = List.of(row(10, "1-"), row(10, "chuck"), row(10, "5-3"), row(10, "12-15"), row(10, "2"));
+        var victim = SelectionTableValidation.validate(rows, false);
+        assertFalse(victim.isValid());
+        assertThat(victim.problems()).hasSize(3);
+        assertThat(victim.problems().get(0)).startsWith("Row 2");
+        assertThat(victim.problems().get(1)).startsWith("Row 3");
+        assertThat(victim.problems().get(2)).startsWith("Row 4");
+        assertEquals(11, victim.totalPages());
+    }
+
+    @Test
+    public void notLoadedDocumentsAreNotCheckedForBounds() {
+        var victim = SelectionTableValidation.validate(List.of(row(0, "12-15")), false);
+        assertTrue(victim.isValid());
+        assertEquals(0, victim.totalPages());
+    }
+
+    @Test
+    public void pace() {
+        var invalid = row(10, "");
+        invalid.pace.set("0");
+        var valid = row(10, "");
+        valid.pace.set("3");
+        assertTrue(SelectionTableValidation.validate(List.of(invalid, valid), false).isValid());
+        var victim = SelectionTableValidation.validate(List.of(invalid, valid), true);
+        assertThat(victim.problems()).hasSize(1);
+        assertEquals(10, victim.totalPages());
+    }
+
+    @Test
+    public void loadingErrors() {
+        var row = row(10, "");
+        row.descriptor().moveStatusTo(PdfDescriptorLoadingStatus.WITH_ERRORS);
+        assertThat(SelectionTableValidation.validate(List.of(row), false).problems()).hasSize(1);
+    }
+
+    @Test
+    public void describeIsLimited() {
+        List<SelectionTableRowData> rows = new ArrayList<>();
+        IntStream.range(0, 15).forEach(i -> rows.add(row(10, "chuck")));
+        var victim = SelectionTableValidation.validate(rows, false);
+        assertThat(victim.problems()).hasSize(15);
+        assertThat(victim.describe().lines()).hasSize(11);
+    }
+
+    private static SelectionTableRowData row(int pages, String selection) {
+        var descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(new File("chuck.pdf"));
+        descriptor.pages(pages);
+        var row = new SelectionTableRowData(descriptor);
+        row.pageSelection.set(selection);
+        return row;
+    }
+}
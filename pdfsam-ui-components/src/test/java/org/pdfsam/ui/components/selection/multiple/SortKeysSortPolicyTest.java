@@ -0,0 +1,118 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.pdfsam.test.JavaFxThreadInitializeExtension;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+@ExtendWith(JavaFxThreadInitializeExtension.class)
+public class SortKeysSortPolicyTest {
+
+    private final AtomicInteger extracted = new AtomicInteger();
+    private TableView<Row> table;
+    private TableColumn<Row, String> name;
+    private TableColumn<Row, Integer> size;
+    private final Row a = new Row("a", 3);
+    private final Row b = new Row("b", 1);
+    private final Row c = new Row("c", 3);
+    private final Row d = new Row("d", 2);
+
+    record Row(String name, int size) {
+    }
+
+    @BeforeEach
+    public void setUp() {
+        table = new TableView<>();
+        table.setSortPolicy(new SortKeysSortPolicy<>());
+        name = new TableColumn<>("name");
+        name.setCellValueFactory(p -> {
+            extracted.incrementAndGet();
+            return new ReadOnlyObjectWrapper<>(p.getValue().name());
+        });
+        size = new TableColumn<>("size");
+        size.setCellValueFactory(p -> {
+            extracted.incrementAndGet();
+            return new ReadOnlyObjectWrapper<>(p.getValue().size());
+        });
+        size.setComparator(Comparator.naturalOrder());
+        table.getColumns().setAll(List.of(name, size));
+        table.getItems().setAll(a, b, c, d);
+    }
+
+    @Test
+    public void noSortOrder() {
+        assertTrue(new SortKeysSortPolicy<Row>().call(table));
+        assertEquals(List.of(a, b, c, d), table.getItems());
+        assertEquals(0, extracted.get());
+    }
+
+    @Test
+    public void keysAreExtractedOncePerRow() {
+        size.setSortType(TableColumn.SortType.ASCENDING);
+        table.getSortOrder().setAll(List.of(size));
+        extracted.set(0);
+        assertTrue(new SortKeysSortPolicy<Row>().call(table));
+        assertEquals(List.of(b, d, a, c), table.getItems());
+        assertEquals(4, extracted.get());
+    }
+
+    @Test
+    public void stable() {
+        size.setSortType(TableColumn.SortType.DESCENDING);
+        table.getSortOrder().setAll(List.of(size));
+        assertTrue(new SortKeysSortPolicy<Row>().call(table));
+        assertEquals(List.of(a, c, d, b), table.getItems());
+    }
+
+    @Test
+    public void multipleColumns() {
+        size.setSortType(TableColumn.SortType.DESCENDING);
+        name.setSortType(TableColumn.SortType.DESCENDING);
+        table.getSortOrder().setAll(List.of(size, name));
+        extracted.set(0);
+        assertTrue(new SortKeysSortPolicy<Row>().call(table));
+        assertEquals(List.of(c, a, d, b), table.getItems());
+        assertEquals(8, extracted.get());
+    }
+
+    @Test
+    public void selectionIsPreserved() {
+        table.getSelectionModel().select(b);
+        size.setSortType(TableColumn.SortType.ASCENDING);
+        table.getSortOrder().setAll(List.of(size));
+        assertTrue(new SortKeysSortPolicy<Row>().call(table));
+        assertEquals(b, table.getSelectionModel().getSelectedItem());
+        assertEquals(0, table.getSelectionModel().getSelectedIndex());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of the PDF Split And Merge source code
+ * Created on 18/10/2026
+ * Copyright 2026 by Sober Lemur S.r.l. (info@soberlemur.com).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.components.selection.multiple.move;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andrea Vacondio
+ */
+public class IndexRangesTest {
+
+    @Test
+    public void nullArg() {
+        assertThrows(IllegalArgumentException.class, () -> IndexRanges.of(null));
+        assertThrows(IllegalArgumentException.class, () -> IndexRanges.ofSorted(null));
+    }
+
+    @Test
+    public void invalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> IndexRanges.range(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> IndexRanges.range(-1, 2));
+    }
+
+    @Test
+    public void empty() {
+        IndexRanges victim = IndexRanges.of(List.of());
+        assertTrue(victim.isEmpty());
+        assertEquals(IndexRanges.EMPTY, victim);
+        assertEquals(-1, victim.first());
+        assertEquals(-1, victim.last());
+        assertFalse(victim.contains(0));
+    }
+
+    @Test
+    public void unsortedWithDuplicates() {
+        IndexRanges victim = IndexRanges.of(asList(7, 1, 2, 3, 2, 9, 8));
+        assertEquals(2, victim.size());
+        assertEquals(6, victim.count());
+        assertEquals(1, victim.first());
+        assertEquals(9, victim.last());
+        assertEquals("[1-3,7-9]", victim.toString());
+        assertArrayEquals(new int[] { 1, 2, 3, 7, 8, 9 }, victim.toArray());
+    }
+
+    @Test
+    public void ofSorted() {
+        assertEquals(IndexRanges.of(asList(1, 2, 5)), IndexRanges.ofSorted(asList(1, 2, 5)));
+        assertEquals(IndexRanges.of(asList(1, 2, 5)), IndexRanges.ofSorted(asList(5, 1, 2)));
+    }
+
+    @Test
+    public void contiguousOnlyLooksAtTheEnds() {
+        List<Integer> huge = new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                if (index != 0 && index != size() - 1) {
+                    throw new AssertionError("Unexpected access to " + index);
+                }
+                return index + 10;
+            }
+
+            @Override
+            public int size() {
+                return 100_000;
+            }
+        };
+        IndexRanges victim = IndexRanges.ofSorted(huge);
+        assertTrue(victim.isContiguous());
+        assertEquals(100_000, victim.count());
+        assertEquals(10, victim.first());
+        assertEquals(100_009, victim.last());
+    }
+
+    @Test
+    public void containsAndRank() {
+        IndexRanges victim = IndexRanges.of(asList(1, 2, 3, 7, 8, 9));
+        assertTrue(victim.contains(2));
+        assertFalse(victim.contains(5));
+        assertFalse(victim.contains(0));
+        assertFalse(victim.contains(10));
+        assertEquals(0, victim.rank(1));
+        assertEquals(4, victim.rank(8));
+        assertEquals(-1, victim.rank(5));
+        assertEquals(-1, victim.rank(-1));
+    }
+
+    @Test
+    public void shift() {
+        IndexRanges victim = IndexRanges.of(asList(1, 2, 7));
+        assertEquals(IndexRanges.of(asList(0, 1, 6)), victim.shift(-1));
+        assertEquals(IndexRanges.of(asList(2, 3, 8)), victim.shift(1));
+        assertThrows(IllegalArgumentException.class, () -> victim.shift(-2));
+    }
+}
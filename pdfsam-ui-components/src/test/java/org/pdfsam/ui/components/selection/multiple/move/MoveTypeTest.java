@@ -19,12 +19,16 @@
 package org.pdfsam.ui.components.selection.multiple.move;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.pdfsam.model.pdf.PdfDocumentDescriptor;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -184,4 +188,42 @@ public class MoveTypeTest {
         MoveType.DOWN.move(indices, items, -1);
         assertThat(items).containsExactly(first, third, second, fourth);
     }
+
+    @Test
+    public void singleChangePerMove() {
+        AtomicInteger changes = new AtomicInteger();
+        items.addListener((ListChangeListener<PdfDocumentDescriptor>) c -> changes.incrementAndGet());
+        MoveType.TOP.move(new Integer[] { 1, 3 }, items, -1);
+        MoveType.UP.move(new Integer[] { 2, 3 }, items, -1);
+        MoveType.DOWN.move(new Integer[] { 0, 1 }, items, -1);
+        MoveType.BOTTOM.move(new Integer[] { 0, 2 }, items, -1);
+        assertEquals(4, changes.get());
+    }
+
+    @Test
+    public void moveManyToTop() {
+        ObservableList<Integer> many = FXCollections.observableArrayList();
+        IntStream.range(0, 10000).forEach(many::add);
+        Integer[] indices = IntStream.range(0, 10000).filter(i -> i % 2 == 1).boxed().toArray(Integer[]::new);
+        SelectionAndFocus selection = MoveType.TOP.move(indices, many, 9999);
+        assertEquals(1, many.get(0).intValue());
+        assertEquals(9999, many.get(4999).intValue());
+        assertEquals(0, many.get(5000).intValue());
+        assertEquals(9998, many.get(9999).intValue());
+        assertEquals(4999, selection.getFocus());
+        assertEquals(4999, selection.getRows().length);
+    }
+
+    @Test
+    public void moveRangesDown() {
+        ObservableList<Integer> many = FXCollections.observableArrayList();
+        IntStream.range(0, 100000).forEach(many::add);
+        SelectionAndFocus selection = MoveType.DOWN.move(IndexRanges.range(0, 99998), many, 10);
+        assertEquals(99999, many.get(0).intValue());
+        assertEquals(0, many.get(1).intValue());
+        assertEquals(99998, many.get(99999).intValue());
+        assertEquals(IndexRanges.range(1, 99999), selection.ranges());
+        assertEquals(11, selection.getFocus());
+        assertEquals(99999, selection.row());
+    }
 }
@@ -42,6 +42,7 @@ import org.pdfsam.model.pdf.PdfLoadRequest;
 import org.pdfsam.model.ui.ChangedSelectedPdfVersionEvent;
 import org.pdfsam.model.ui.SetDestinationRequest;
 import org.pdfsam.model.ui.ShowLogMessagesRequest;
+import org.pdfsam.model.ui.ShowPagePreviewRequest;
 import org.pdfsam.model.ui.ShowPdfDescriptorRequest;
 import org.pdfsam.test.ClearEventStudioExtension;
 import org.pdfsam.test.HitConsumer;
@@ -123,6 +124,17 @@ public class SingleSelectionPaneTest {
         assertTrue(listener.isHit());
     }
 
+    @Test
+    @Tag("NoHeadless")
+    public void previewMenuItem() throws Exception {
+        HitTestListener<ShowPagePreviewRequest> listener = new HitTestListener<>();
+        eventStudio().add(ShowPagePreviewRequest.class, listener);
+        typePathAndValidate();
+        robot.rightClickOn(".validable-container-field");
+        robot.clickOn(i18n().tr("Preview pages"));
+        assertTrue(listener.isHit());
+    }
+
     @Test
     @Tag("NoHeadless")
     public void setDestinationMenuItem() throws Exception {
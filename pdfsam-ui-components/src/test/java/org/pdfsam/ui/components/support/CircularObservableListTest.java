@@ -20,9 +20,15 @@ package org.pdfsam.ui.components.support;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -84,4 +90,71 @@ public class CircularObservableListTest {
         assertEquals(Integer.valueOf(2), victim.get(1));
         assertEquals(Integer.valueOf(3), victim.get(2));
     }
+
+    @Test
+    public void indexedAccessAfterWrapping() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(5);
+        IntStream.range(0, 23).forEach(victim::add);
+        assertEquals(5, victim.size());
+        assertIterableEquals(List.of(18, 19, 20, 21, 22), victim);
+        assertEquals(Integer.valueOf(18), victim.get(0));
+        assertEquals(Integer.valueOf(22), victim.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> victim.get(5));
+    }
+
+    @Test
+    public void evictionIsSingleChange() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(3);
+        victim.addAll(Arrays.asList(1, 2, 3));
+        List<String> changes = new ArrayList<>();
+        victim.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                changes.add(c.getRemoved() + "->" + c.getAddedSubList());
+            }
+        });
+        victim.addAll(Arrays.asList(4, 5));
+        assertEquals(List.of("[1, 2]->[]", "[]->[4, 5]"), changes);
+        assertIterableEquals(List.of(3, 4, 5), victim);
+    }
+
+    @Test
+    public void shrinkCapacity() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(10);
+        IntStream.range(0, 14).forEach(victim::add);
+        List<Integer> removed = new ArrayList<>();
+        victim.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+            }
+        });
+        victim.setMaxCapacity(3);
+        assertEquals(3, victim.getMaxCapacity());
+        assertIterableEquals(List.of(4, 5, 6, 7, 8, 9, 10), removed);
+        assertIterableEquals(List.of(11, 12, 13), victim);
+        victim.add(14);
+        assertIterableEquals(List.of(12, 13, 14), victim);
+    }
+
+    @Test
+    public void growCapacity() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(2);
+        IntStream.range(0, 5).forEach(victim::add);
+        victim.setMaxCapacity(4);
+        IntStream.range(5, 7).forEach(victim::add);
+        assertIterableEquals(List.of(3, 4, 5, 6), victim);
+    }
+
+    @Test
+    public void removeAndClear() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(4);
+        IntStream.range(0, 6).forEach(victim::add);
+        assertEquals(Integer.valueOf(2), victim.remove(0));
+        assertEquals(Integer.valueOf(4), victim.remove(1));
+        victim.set(1, 100);
+        assertIterableEquals(List.of(3, 100), victim);
+        victim.clear();
+        assertTrue(victim.isEmpty());
+        victim.add(1);
+        assertIterableEquals(List.of(1), victim);
+    }
 }